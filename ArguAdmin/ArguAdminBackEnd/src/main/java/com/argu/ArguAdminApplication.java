@@ -3,15 +3,18 @@ package com.argu;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Spring Boot 애플리케이션의 진입점.
  * <p>
  * {@link SpringBootApplication} 어노테이션은 컴포넌트 스캔, 자동 설정, 설정 클래스를 한 번에 활성화한다.
  * {@link EnableJpaAuditing}은 엔티티의 생성/수정 시각을 자동으로 채우도록 JPA 감사 기능을 켠다.
+ * {@link EnableScheduling}은 일별 통계 집계 같은 주기 작업을 실행한다.
  */
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class ArguAdminApplication {
 
     /**
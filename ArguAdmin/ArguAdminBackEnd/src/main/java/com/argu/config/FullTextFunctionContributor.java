@@ -0,0 +1,24 @@
+package com.argu.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL FULLTEXT 검색 함수를 Hibernate에 등록한다.
+ * <p>
+ * JPQL에서 {@code match_against(title, content, :query)}를 MATCH ... AGAINST (... IN BOOLEAN MODE)로 렌더링한다.
+ * 인덱스(idx_title_content)는 사용자 백엔드가 시작 시 생성하며, 등록은
+ * META-INF/services/org.hibernate.boot.model.FunctionContributor 파일로 이루어진다.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "match_against",
+                "match(?1, ?2) against (?3 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package com.argu.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 논쟁 제목/내용 FULLTEXT(ngram) 인덱스를 확인하고, 설정에 따라 없으면 만든다.
+ * <p>
+ * 인덱스는 사용자 백엔드도 시작 시 만들지만, 관리자 백엔드가 먼저 뜨거나 사용자 백엔드가 자동 생성을 끈 경우를 위해 여기서도 확인한다.
+ * 인덱스가 없으면 {@link #isAvailable()}가 false가 되어 호출자는 LIKE 검색을 사용한다.
+ * 없는 동안에는 {@code argu.search.fulltext-recheck-interval-ms}마다 다시 확인하여, 나중에 만들어진 인덱스도 재시작 없이 사용한다.
+ * MySQL이 아닌 DB(테스트용 H2 등)에서는 항상 false다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextIndexInitializer {
+    private static final String INDEX_NAME = "idx_title_content";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${argu.search.fulltext-auto-create:true}")
+    private boolean autoCreate;
+
+    @Value("${argu.search.fulltext-recheck-interval-ms:60000}")
+    private long recheckIntervalMs;
+
+    private volatile boolean available;
+    private volatile long checkedAt;
+
+    /**
+     * 시작 시 인덱스를 확인하고, 없으면 자동 생성 설정에 따라 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexIfMissing() {
+        if (!isMySql()) {
+            return;
+        }
+        if (check()) {
+            return;
+        }
+        if (!autoCreate) {
+            log.warn("[ADMIN-SEARCH] FULLTEXT 인덱스가 없어 논쟁 키워드 검색에 LIKE를 사용 - index={}", INDEX_NAME);
+            return;
+        }
+
+        try {
+            log.info("[ADMIN-SEARCH] FULLTEXT 인덱스 생성 시작 - index={}", INDEX_NAME);
+            jdbcTemplate.execute("ALTER TABLE argu ADD FULLTEXT INDEX " + INDEX_NAME + " (title, content) WITH PARSER ngram");
+            log.info("[ADMIN-SEARCH] FULLTEXT 인덱스 생성 완료 - index={}", INDEX_NAME);
+        } catch (DataAccessException e) {
+            // 사용자 백엔드가 동시에 만든 경우 등
+            log.warn("[ADMIN-SEARCH] FULLTEXT 인덱스 생성 실패 - index={}", INDEX_NAME, e);
+        }
+        check();
+    }
+
+    /**
+     * FULLTEXT 검색을 사용할 수 있는지 확인한다.
+     *
+     * @return 인덱스가 있으면 true
+     */
+    public boolean isAvailable() {
+        if (!available && checkedAt != 0 && System.currentTimeMillis() - checkedAt >= recheckIntervalMs) {
+            check();
+        }
+        return available;
+    }
+
+    private boolean check() {
+        try {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'argu' AND index_name = ?",
+                    Integer.class, INDEX_NAME);
+            available = count != null && count > 0;
+        } catch (DataAccessException e) {
+            log.warn("[ADMIN-SEARCH] FULLTEXT 인덱스 확인 실패 - index={}", INDEX_NAME, e);
+            available = false;
+        }
+        checkedAt = System.currentTimeMillis();
+        return available;
+    }
+
+    private boolean isMySql() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equalsIgnoreCase(productName);
+        } catch (MetaDataAccessException e) {
+            log.warn("[ADMIN-SEARCH] DB 종류 확인 실패 - 논쟁 키워드 검색에 LIKE를 사용", e);
+            return false;
+        }
+    }
+}
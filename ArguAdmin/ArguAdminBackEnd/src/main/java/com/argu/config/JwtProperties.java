@@ -24,6 +24,11 @@ public class JwtProperties {
      * JWT 토큰 만료 시간 (밀리초)
      */
     private Long expiration;
+
+    /**
+     * 서명 검증을 건너뛰는 최근 검증 토큰 수 (0이면 사용하지 않는다)
+     */
+    private int verifiedCacheSize = 1000;
 }
 
 
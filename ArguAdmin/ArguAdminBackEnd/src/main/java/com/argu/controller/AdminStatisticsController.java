@@ -1,13 +1,18 @@
 package com.argu.controller;
 
 import com.argu.dto.response.ApiResponse;
+import com.argu.entity.DailyStats;
 import com.argu.service.AdminStatisticsService;
+import com.argu.service.DailyStatsRollupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -21,6 +26,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AdminStatisticsController {
     private final AdminStatisticsService adminStatisticsService;
+    private final DailyStatsRollupService dailyStatsRollupService;
 
     /**
      * 전체 회원 수, 상태별 회원 수 등의 통계를 제공한다.
@@ -73,7 +79,34 @@ public class AdminStatisticsController {
         Map<String, Long> stats = adminStatisticsService.getDailyArguCreations(days);
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
-}
-
 
+    /**
+     * 지정한 기간 동안의 일별 통계(가입/논쟁/댓글/좋아요/입장/신고 수)를 조회한다.
+     *
+     * @param days 조회할 일수(오늘 포함)
+     * @return 날짜순 일별 통계 목록 wrapped ApiResponse
+     */
+    @Operation(summary = "일별 통합 통계", description = "지정된 일수 동안의 일별 가입/논쟁/댓글/좋아요/입장/신고 수를 조회합니다.")
+    @GetMapping("/daily")
+    public ResponseEntity<ApiResponse<List<DailyStats>>> getDailyStats(
+            @RequestParam(defaultValue = "7") int days) {
+        List<DailyStats> stats = adminStatisticsService.getDailyStats(days);
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
 
+    /**
+     * 지정한 기간의 일별 통계 집계를 원본 테이블 기준으로 다시 계산한다 (백필).
+     *
+     * @param from 시작 날짜 (yyyy-MM-dd, 포함)
+     * @param to 종료 날짜 (yyyy-MM-dd, 포함)
+     * @return 집계한 날짜 수 wrapped ApiResponse
+     */
+    @Operation(summary = "일별 통계 백필", description = "지정된 기간의 일별 통계를 원본 데이터로 다시 집계합니다.")
+    @PostMapping("/daily/rollup")
+    public ResponseEntity<ApiResponse<Integer>> backfillDailyStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        int days = dailyStatsRollupService.backfill(from, to);
+        return ResponseEntity.ok(ApiResponse.success("일별 통계를 다시 집계했습니다", days));
+    }
+}
@@ -3,6 +3,7 @@ package com.argu.entity;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -76,11 +77,49 @@ public class Argu {
     @Builder.Default
     private Boolean isHidden = false;
 
-    @Column(name = "view_count", nullable = false)
+    @Column(name = "view_count", nullable = false, updatable = false)
     @Comment("조회수")
     @Builder.Default
     private Integer viewCount = 0;
 
+    /** 좋아요 수. 사용자 백엔드와 공유하는 비정규화 카운터로, UPDATE 쿼리로만 증감한다. */
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("좋아요 수")
+    @Builder.Default
+    private Long likeCount = 0L;
+
+    /** 숨김 제외 댓글 수. 관리자 숨김/삭제 시 함께 증감한다. */
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("댓글 수 (숨김 제외)")
+    @Builder.Default
+    private Long commentCount = 0L;
+
+    @Column(name = "for_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("찬성 입장 수")
+    @Builder.Default
+    private Long forCount = 0L;
+
+    @Column(name = "against_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("반대 입장 수")
+    @Builder.Default
+    private Long againstCount = 0L;
+
+    @Column(name = "neutral_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("중립 입장 수")
+    @Builder.Default
+    private Long neutralCount = 0L;
+
+    @Column(name = "other_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("기타 입장 수")
+    @Builder.Default
+    private Long otherCount = 0L;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     @Comment("생성 일시")
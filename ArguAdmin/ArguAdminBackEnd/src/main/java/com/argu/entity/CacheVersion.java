@@ -0,0 +1,36 @@
+package com.argu.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 버전 엔티티.
+ * <p>
+ * 사용자 백엔드가 메모리에 보관하는 캐시의 버전을 저장한다.
+ * 관리자 백엔드가 원본 데이터를 바꾸면 버전을 올리고, 사용자 백엔드는 버전 변경을 감지해 캐시를 다시 적재한다.
+ */
+@Entity
+@Table(name = "cache_version")
+@Comment("캐시 버전 테이블")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheVersion {
+    @Id
+    @Column(name = "cache_name", length = 50)
+    @Comment("캐시 이름")
+    private String cacheName;
+
+    @Column(nullable = false)
+    @Comment("캐시 버전")
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    @Comment("수정 일시")
+    private LocalDateTime updatedAt;
+}
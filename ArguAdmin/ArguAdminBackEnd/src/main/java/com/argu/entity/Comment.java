@@ -19,6 +19,7 @@ import java.time.LocalDateTime;
     @Index(name = "idx_user_id", columnList = "user_id"),
     @Index(name = "idx_argu_id", columnList = "argu_id"),
     @Index(name = "idx_parent_id", columnList = "parent_id"),
+    @Index(name = "idx_parent_hidden_id", columnList = "parent_id, is_hidden, id"),
     @Index(name = "idx_created_at", columnList = "created_at")
 })
 @org.hibernate.annotations.Comment("댓글 테이블")
@@ -0,0 +1,71 @@
+package com.argu.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 통계 집계(rollup) 엔티티.
+ * <p>
+ * 날짜별 가입/논쟁/댓글/좋아요/입장/신고 생성 수를 한 행에 저장한다.
+ * 원본 테이블을 날짜별로 다시 집계한 값으로 덮어쓰므로(재계산) 같은 날짜를 여러 번 집계해도 결과가 같다.
+ * 값은 {@link com.argu.service.DailyStatsRollupService}가 갱신한다.
+ */
+@Entity
+@Table(name = "daily_stats")
+@Comment("일별 통계 집계 테이블")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyStats {
+    @Id
+    @Column(name = "stat_date")
+    @Comment("집계 날짜")
+    private LocalDate statDate;
+
+    @Column(name = "new_users", nullable = false)
+    @ColumnDefault("0")
+    @Comment("가입 회원 수")
+    @Builder.Default
+    private Long newUsers = 0L;
+
+    @Column(name = "new_argus", nullable = false)
+    @ColumnDefault("0")
+    @Comment("생성 논쟁 수")
+    @Builder.Default
+    private Long newArgus = 0L;
+
+    @Column(name = "new_comments", nullable = false)
+    @ColumnDefault("0")
+    @Comment("작성 댓글 수")
+    @Builder.Default
+    private Long newComments = 0L;
+
+    @Column(name = "new_likes", nullable = false)
+    @ColumnDefault("0")
+    @Comment("좋아요 수 (집계 시점에 남아 있는 좋아요 기준)")
+    @Builder.Default
+    private Long newLikes = 0L;
+
+    @Column(name = "new_opinions", nullable = false)
+    @ColumnDefault("0")
+    @Comment("입장 선택 수")
+    @Builder.Default
+    private Long newOpinions = 0L;
+
+    @Column(name = "new_reports", nullable = false)
+    @ColumnDefault("0")
+    @Comment("접수 신고 수")
+    @Builder.Default
+    private Long newReports = 0L;
+
+    @Column(name = "updated_at", nullable = false)
+    @Comment("마지막 집계 일시")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,54 @@
+package com.argu.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 인덱스 갱신 대기열 엔티티.
+ * <p>
+ * 검색 인덱스는 사용자 백엔드만 쓸 수 있으므로, 관리자 백엔드는 변경한 논쟁/댓글/회원을
+ * 같은 트랜잭션 안에서 이 테이블에 기록한다. 사용자 백엔드의 검색 인덱서가 주기적으로 읽어 반영한 뒤 삭제한다.
+ */
+@Entity
+@Table(name = "search_index_queue")
+@Comment("검색 인덱스 갱신 대기열 테이블")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class SearchIndexQueue {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("대기열 ID")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "doc_type", nullable = false, length = 20)
+    @Comment("문서 종류 (ARGU: 논쟁, COMMENT: 댓글, USER: 회원)")
+    private DocType docType;
+
+    @Column(name = "doc_id", nullable = false)
+    @Comment("문서 ID")
+    private Long docId;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Comment("생성 일시")
+    private LocalDateTime createdAt;
+
+    /**
+     * 검색 문서 종류.
+     */
+    public enum DocType {
+        ARGU,      // 논쟁
+        COMMENT,   // 댓글
+        USER       // 회원
+    }
+}
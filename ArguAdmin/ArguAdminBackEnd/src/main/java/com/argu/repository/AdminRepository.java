@@ -4,6 +4,7 @@ import com.argu.entity.Admin;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -26,6 +27,14 @@ public interface AdminRepository extends JpaRepository<Admin, Long> {
      * @return 존재 여부
      */
     boolean existsByAdminId(String adminId);
+
+    /**
+     * 상태별 관리자 목록을 조회한다.
+     *
+     * @param status 관리자 상태
+     * @return 관리자 리스트
+     */
+    List<Admin> findByStatus(Admin.AdminStatus status);
 }
 
 
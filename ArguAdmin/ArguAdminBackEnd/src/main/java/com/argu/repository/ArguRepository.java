@@ -4,9 +4,11 @@ import com.argu.entity.Argu;
 import com.argu.entity.Argu.ArguStatus;
 import com.argu.entity.Category;
 import com.argu.entity.User;
+import com.argu.repository.projection.ArguStatusCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -34,17 +36,43 @@ public interface ArguRepository extends JpaRepository<Argu, Long> {
     Page<Argu> findByStatusAndIsHiddenFalse(ArguStatus status, Pageable pageable);
     
     @Query("SELECT a FROM Argu a WHERE " +
-           "(:keyword IS NULL OR :keyword = '' OR " +
-           "a.title LIKE %:keyword% OR a.content LIKE %:keyword%) " +
-           "AND (:status IS NULL OR a.status = :status) " +
+           "(:status IS NULL OR a.status = :status) " +
            "AND (:isHidden IS NULL OR a.isHidden = :isHidden)")
     /**
-     * 키워드, 상태, 숨김 여부 조건을 동시에 적용한 검색.
+     * 상태, 숨김 여부 조건만 적용한 검색 (검색어 없음).
      */
-    Page<Argu> searchArgus(@Param("keyword") String keyword,
-                           @Param("status") ArguStatus status,
+    Page<Argu> searchArgus(@Param("status") ArguStatus status,
                            @Param("isHidden") Boolean isHidden,
                            Pageable pageable);
+
+    @Query(value = "SELECT a FROM Argu a WHERE " +
+                   "match_against(a.title, a.content, :query) > 0 " +
+                   "AND (:status IS NULL OR a.status = :status) " +
+                   "AND (:isHidden IS NULL OR a.isHidden = :isHidden)",
+           countQuery = "SELECT COUNT(a) FROM Argu a WHERE " +
+                        "match_against(a.title, a.content, :query) > 0 " +
+                        "AND (:status IS NULL OR a.status = :status) " +
+                        "AND (:isHidden IS NULL OR a.isHidden = :isHidden)")
+    /**
+     * 제목/내용 FULLTEXT(ngram) 인덱스 검색에 상태, 숨김 여부 조건을 함께 적용한다.
+     * query 는 {@link com.argu.util.FullTextQueryUtil}로 만든 BOOLEAN MODE 검색식이다.
+     */
+    Page<Argu> searchArgusByFullText(@Param("query") String query,
+                                     @Param("status") ArguStatus status,
+                                     @Param("isHidden") Boolean isHidden,
+                                     Pageable pageable);
+
+    @Query("SELECT a FROM Argu a WHERE " +
+           "(a.title LIKE %:keyword% OR a.content LIKE %:keyword%) " +
+           "AND (:status IS NULL OR a.status = :status) " +
+           "AND (:isHidden IS NULL OR a.isHidden = :isHidden)")
+    /**
+     * 제목/내용 LIKE 검색에 상태, 숨김 여부 조건을 함께 적용한다. (FULLTEXT 인덱스가 없을 때 사용)
+     */
+    Page<Argu> searchArgusByKeyword(@Param("keyword") String keyword,
+                                    @Param("status") ArguStatus status,
+                                    @Param("isHidden") Boolean isHidden,
+                                    Pageable pageable);
     
     /** 시작일 기준으로 상태를 가진 논쟁 조회 (스케줄러 용도) */
     List<Argu> findByStatusAndStartDateLessThanEqual(ArguStatus status, LocalDateTime now);
@@ -63,6 +91,22 @@ public interface ArguRepository extends JpaRepository<Argu, Long> {
 
     /** 숨김되지 않은 논쟁 수 카운트 */
     long countByIsHiddenFalse();
+
+    /** 생성 시각 범위 [start, end) 안의 논쟁 수 (idx_created_at 범위 조회) */
+    long countByCreatedAtGreaterThanEqualAndCreatedAtLessThan(LocalDateTime start, LocalDateTime end);
+
+    /** 상태·숨김 여부 조합별 논쟁 수 집계 (GROUP BY 한 번으로 전체/상태별/숨김 수를 모두 계산) */
+    @Query("SELECT a.status AS status, a.isHidden AS hidden, COUNT(a) AS count FROM Argu a " +
+           "GROUP BY a.status, a.isHidden")
+    List<ArguStatusCount> countGroupByStatusAndHidden();
+
+    /**
+     * 비정규화된 댓글 수 카운터를 원자적으로 증감한다.
+     * 댓글 숨김/삭제 시 사용자 백엔드와 동일한 규칙(숨김 제외)으로 맞춘다.
+     */
+    @Modifying
+    @Query("UPDATE Argu a SET a.commentCount = a.commentCount + :delta WHERE a.id = :arguId")
+    int addCommentCount(@Param("arguId") Long arguId, @Param("delta") long delta);
 }
 
 
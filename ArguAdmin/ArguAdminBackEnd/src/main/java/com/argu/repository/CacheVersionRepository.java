@@ -0,0 +1,25 @@
+package com.argu.repository;
+
+import com.argu.entity.CacheVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 캐시 버전 리포지토리.
+ */
+@Repository
+public interface CacheVersionRepository extends JpaRepository<CacheVersion, String> {
+    /**
+     * 캐시 버전을 1 올린다. 행이 없으면 버전 1로 만든다.
+     * <p>
+     * 한 문장으로 처리하므로 처음 사용하는 캐시를 여러 트랜잭션이 동시에 올려도 기본 키 충돌이 나지 않는다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO cache_version (cache_name, version, updated_at) VALUES (:cacheName, 1, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE version = version + 1, updated_at = NOW()",
+           nativeQuery = true)
+    int increment(@Param("cacheName") String cacheName);
+}
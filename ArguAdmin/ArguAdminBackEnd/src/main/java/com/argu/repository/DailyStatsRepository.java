@@ -0,0 +1,17 @@
+package com.argu.repository;
+
+import com.argu.entity.DailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 통계 집계(daily_stats) 리포지토리.
+ */
+@Repository
+public interface DailyStatsRepository extends JpaRepository<DailyStats, LocalDate> {
+    /** 기간 내 일별 집계를 날짜순으로 조회 */
+    List<DailyStats> findByStatDateBetweenOrderByStatDate(LocalDate from, LocalDate to);
+}
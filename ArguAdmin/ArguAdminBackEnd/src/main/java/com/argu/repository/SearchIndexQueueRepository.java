@@ -0,0 +1,12 @@
+package com.argu.repository;
+
+import com.argu.entity.SearchIndexQueue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색 인덱스 갱신 대기열 리포지토리.
+ */
+@Repository
+public interface SearchIndexQueueRepository extends JpaRepository<SearchIndexQueue, Long> {
+}
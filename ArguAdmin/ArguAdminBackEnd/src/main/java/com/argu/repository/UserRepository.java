@@ -1,6 +1,7 @@
 package com.argu.repository;
 
 import com.argu.entity.User;
+import com.argu.repository.projection.UserStatusCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,6 +32,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Page<User> searchUsers(@Param("keyword") String keyword, 
                           @Param("status") User.UserStatus status, 
                           Pageable pageable);
+
+    /** 상태별 회원 수 집계 (idx_status 인덱스만 읽는 GROUP BY 한 번) */
+    @Query("SELECT u.status AS status, COUNT(u) AS count FROM User u GROUP BY u.status")
+    List<UserStatusCount> countGroupByStatus();
+
+    /** 가입 시각 범위 [start, end) 안의 회원 수 (idx_created_at 범위 조회) */
+    long countByCreatedAtGreaterThanEqualAndCreatedAtLessThan(LocalDateTime start, LocalDateTime end);
 }
 
 
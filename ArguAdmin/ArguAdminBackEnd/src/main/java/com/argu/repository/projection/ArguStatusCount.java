@@ -0,0 +1,12 @@
+package com.argu.repository.projection;
+
+import com.argu.entity.Argu;
+
+/**
+ * 논쟁 상태·숨김 여부 조합별 논쟁 수 집계 결과.
+ */
+public interface ArguStatusCount {
+    Argu.ArguStatus getStatus();
+    Boolean getHidden();
+    Long getCount();
+}
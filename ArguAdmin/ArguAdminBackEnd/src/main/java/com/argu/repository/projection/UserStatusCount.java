@@ -0,0 +1,11 @@
+package com.argu.repository.projection;
+
+import com.argu.entity.User;
+
+/**
+ * 회원 상태별 회원 수 집계 결과.
+ */
+public interface UserStatusCount {
+    User.UserStatus getStatus();
+    Long getCount();
+}
@@ -0,0 +1,278 @@
+package com.argu.search;
+
+import com.argu.entity.Argu;
+import com.argu.entity.SearchIndexQueue.DocType;
+import com.argu.entity.User;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 사용자 백엔드가 만든 Lucene 검색 인덱스를 읽기 전용으로 여는 검색기.
+ * <p>
+ * 인덱스 쓰기는 사용자 백엔드만 담당하므로 여기서는 커밋된 세그먼트만 조회한다.
+ * 인덱스가 없거나 전체 색인이 끝나지 않았으면 {@link #isReady()}가 false가 되어 호출자는 DB 검색을 사용한다.
+ * 결과는 관리자 목록과 같은 최신순(생성 일시, ID 내림차순)으로 정렬한다.
+ */
+@Slf4j
+@Component
+public class LuceneSearchReader {
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_HIDDEN = "hidden";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_NICKNAME = "nickname";
+    private static final String FIELD_EMAIL = "email";
+    private static final String COMMIT_COMPLETE = "complete";
+
+    private static final int TOTAL_HITS_THRESHOLD = 10_000;
+    /** offset + limit 최대값. 이보다 깊은 페이지는 DB 검색을 사용한다. */
+    public static final int MAX_RESULT_WINDOW = 10_000;
+    private static final float TITLE_BOOST = 2.0f;
+
+    private static final Sort LATEST_SORT = new Sort(
+            new SortField(FIELD_CREATED_AT, SortField.Type.LONG, true),
+            new SortField(FIELD_ID, SortField.Type.LONG, true));
+
+    private final Path indexPath;
+    private final boolean enabled;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+
+    private Directory directory;
+    private volatile SearcherManager searcherManager;
+
+    public LuceneSearchReader(@Value("${argu.search.lucene.index-dir:../../Files/search-index}") String indexDir,
+                              @Value("${argu.search.engine:fulltext}") String searchEngine) {
+        this.indexPath = Paths.get(indexDir).toAbsolutePath().normalize();
+        this.enabled = "lucene".equals(searchEngine);
+    }
+
+    /**
+     * 검색에 사용할 수 있는지 확인한다.
+     * <p>
+     * 처음 호출될 때 인덱스를 열고, 이후에는 새 커밋이 있으면 검색기를 갱신한다.
+     *
+     * @return 완성된 인덱스를 검색할 수 있으면 true
+     */
+    public boolean isReady() {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            SearcherManager manager = openIfNeeded();
+            if (manager == null) {
+                return false;
+            }
+            manager.maybeRefresh();
+            IndexSearcher searcher = manager.acquire();
+            try {
+                DirectoryReader reader = (DirectoryReader) searcher.getIndexReader();
+                return "true".equals(reader.getIndexCommit().getUserData().get(COMMIT_COMPLETE));
+            } finally {
+                manager.release(searcher);
+            }
+        } catch (IOException e) {
+            log.warn("[ADMIN-SEARCH] Lucene 인덱스를 읽을 수 없어 DB 검색을 사용 - path={}", indexPath, e);
+            return false;
+        }
+    }
+
+    private synchronized SearcherManager openIfNeeded() throws IOException {
+        if (searcherManager != null) {
+            return searcherManager;
+        }
+        if (!Files.isDirectory(indexPath)) {
+            return null;
+        }
+        if (directory == null) {
+            directory = FSDirectory.open(indexPath);
+        }
+        if (!DirectoryReader.indexExists(directory)) {
+            return null;
+        }
+        searcherManager = new SearcherManager(directory, null);
+        log.info("[ADMIN-SEARCH] Lucene 인덱스 열기 - path={}", indexPath);
+        return searcherManager;
+    }
+
+    /**
+     * 제목/내용으로 논쟁을 검색한다.
+     *
+     * @param keyword  검색어 (모든 단어 포함)
+     * @param status   논쟁 상태 (선택)
+     * @param isHidden 숨김 여부 (선택)
+     * @param offset   건너뛸 문서 수
+     * @param limit    조회할 문서 수
+     * @return 일치 문서 수와 논쟁 ID 목록
+     */
+    public SearchHits searchArgus(String keyword, Argu.ArguStatus status, Boolean isHidden, int offset, int limit) {
+        Set<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return SearchHits.empty();
+        }
+        // 단어마다 제목 또는 내용 중 한 곳에만 있어도 일치하도록 (제목^가중치 OR 내용)을 MUST로 묶는다.
+        BooleanQuery.Builder text = new BooleanQuery.Builder();
+        for (String term : terms) {
+            text.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(FIELD_TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(FIELD_CONTENT, term)), BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+
+        BooleanQuery.Builder builder = filtered(text.build(), DocType.ARGU, isHidden);
+        if (status != null) {
+            builder.add(new TermQuery(new Term(FIELD_STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        return search(builder.build(), offset, limit);
+    }
+
+    /**
+     * 내용으로 댓글을 검색한다.
+     *
+     * @param keyword  검색어 (모든 단어 포함)
+     * @param isHidden 숨김 여부 (선택)
+     * @param offset   건너뛸 문서 수
+     * @param limit    조회할 문서 수
+     * @return 일치 문서 수와 댓글 ID 목록
+     */
+    public SearchHits searchComments(String keyword, Boolean isHidden, int offset, int limit) {
+        Query content = new QueryBuilder(analyzer).createBooleanQuery(FIELD_CONTENT, keyword, BooleanClause.Occur.MUST);
+        if (content == null) {
+            return SearchHits.empty();
+        }
+        return search(filtered(content, DocType.COMMENT, isHidden).build(), offset, limit);
+    }
+
+    /**
+     * 닉네임 또는 이메일 앞부분으로 회원을 검색한다.
+     *
+     * @param keyword 검색어
+     * @param status  회원 상태 (선택)
+     * @param offset  건너뛸 문서 수
+     * @param limit   조회할 문서 수
+     * @return 일치 문서 수와 회원 ID 목록
+     */
+    public SearchHits searchUsers(String keyword, User.UserStatus status, int offset, int limit) {
+        BooleanQuery.Builder text = new BooleanQuery.Builder()
+                .add(new PrefixQuery(new Term(FIELD_EMAIL, keyword.trim().toLowerCase(Locale.ROOT))), BooleanClause.Occur.SHOULD)
+                .setMinimumNumberShouldMatch(1);
+        Query nickname = new QueryBuilder(analyzer).createBooleanQuery(FIELD_NICKNAME, keyword, BooleanClause.Occur.MUST);
+        if (nickname != null) {
+            text.add(nickname, BooleanClause.Occur.SHOULD);
+        }
+
+        BooleanQuery.Builder builder = filtered(text.build(), DocType.USER, null);
+        if (status != null) {
+            builder.add(new TermQuery(new Term(FIELD_STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        return search(builder.build(), offset, limit);
+    }
+
+    private Set<String> analyze(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream stream = analyzer.tokenStream(FIELD_CONTENT, keyword)) {
+            CharTermAttribute termAttribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(termAttribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            log.warn("[ADMIN-SEARCH] 검색어 분석 실패 - keyword={}", keyword, e);
+            terms.clear();
+        }
+        return terms;
+    }
+
+    private static BooleanQuery.Builder filtered(Query text, DocType type, Boolean isHidden) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(text, BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(FIELD_TYPE, type.name())), BooleanClause.Occur.FILTER);
+        if (isHidden != null) {
+            builder.add(new TermQuery(new Term(FIELD_HIDDEN, isHidden.toString())), BooleanClause.Occur.FILTER);
+        }
+        return builder;
+    }
+
+    private SearchHits search(Query query, int offset, int limit) {
+        int window = offset + limit;
+        SearcherManager manager = searcherManager;
+        if (manager == null || limit <= 0 || window > MAX_RESULT_WINDOW) {
+            return SearchHits.empty();
+        }
+
+        try {
+            IndexSearcher searcher = manager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query,
+                        TopFieldCollector.createSharedManager(LATEST_SORT, window, null, TOTAL_HITS_THRESHOLD));
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    ids.add(storedFields.document(scoreDocs[i].doc).getField(FIELD_ID).numericValue().longValue());
+                }
+                return new SearchHits(topDocs.totalHits.value, ids);
+            } finally {
+                manager.release(searcher);
+            }
+        } catch (IOException e) {
+            log.warn("[ADMIN-SEARCH] Lucene 검색 실패", e);
+            return SearchHits.empty();
+        }
+    }
+
+    /**
+     * 종료 시 검색기와 디렉토리를 닫는다.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            if (searcherManager != null) {
+                searcherManager.close();
+            }
+            if (directory != null) {
+                directory.close();
+            }
+        } catch (IOException e) {
+            log.warn("[ADMIN-SEARCH] Lucene 인덱스 닫기 실패", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.argu.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 인덱스 조회 결과.
+ *
+ * @param totalHits 일치한 문서 수
+ * @param ids       요청한 페이지의 문서 ID 목록 (검색 순서)
+ */
+public record SearchHits(long totalHits, List<Long> ids) {
+
+    public static SearchHits empty() {
+        return new SearchHits(0, List.of());
+    }
+
+    /**
+     * ID 목록으로 엔티티를 한 번에 조회하여 검색 순서대로 페이지를 만든다.
+     * 색인 반영 전에 삭제된 엔티티는 제외한다.
+     *
+     * @param loader   ID 목록으로 엔티티를 조회하는 함수
+     * @param idGetter 엔티티 ID 추출 함수
+     * @param pageable 페이지 정보
+     * @return 검색 결과 페이지
+     */
+    public <T> Page<T> toPage(Function<List<Long>, List<T>> loader, Function<T, Long> idGetter, Pageable pageable) {
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, totalHits);
+        }
+        Map<Long, T> byId = loader.apply(ids).stream()
+                .collect(Collectors.toMap(idGetter, Function.identity()));
+        List<T> content = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, totalHits);
+    }
+}
@@ -0,0 +1,92 @@
+package com.argu.security;
+
+import com.argu.entity.Admin;
+import com.argu.repository.AdminRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 활성 관리자 캐시.
+ * <p>
+ * 활성(ACTIVE) 관리자 PK와 역할만 메모리에 보관하여 JWT 인증 시 admin 테이블을 조회하지 않는다.
+ * 관리자 계정은 수십 개 수준이므로 비활성/삭제 목록 대신 활성 목록을 들고 있어, 캐시에 없는 관리자의 토큰은 거부된다.
+ * <ul>
+ *     <li>이 백엔드의 관리자 생성/수정/삭제: 트랜잭션 커밋 후 캐시를 비워 다음 요청에서 다시 적재한다.</li>
+ *     <li>다른 인스턴스의 변경: 적재 후 {@code argu.auth.admin-cache-ttl-ms}가 지나면 다음 요청에서 다시 적재한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ActiveAdminCache {
+    private final AdminRepository adminRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Snapshot snapshot;
+
+    @Value("${argu.auth.admin-cache-ttl-ms:30000}")
+    private long ttlMs;
+
+    public ActiveAdminCache(AdminRepository adminRepository, PlatformTransactionManager transactionManager) {
+        this.adminRepository = adminRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 활성 관리자의 현재 역할을 조회한다.
+     *
+     * @param id 관리자 PK
+     * @return 관리자 역할, 비활성화되었거나 삭제된 관리자면 {@code null}
+     */
+    public Admin.AdminRole findActiveRole(Long id) {
+        Snapshot current = snapshot;
+        if (current == null || System.currentTimeMillis() - current.loadedAt() >= ttlMs) {
+            current = reload(current);
+        }
+        return current.roles().get(id);
+    }
+
+    /**
+     * 관리자 계정 변경 후 캐시를 비운다.
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋 이후에 비워, 커밋 전 상태가 다시 적재되지 않도록 한다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshot = null;
+                }
+            });
+        } else {
+            snapshot = null;
+        }
+    }
+
+    private synchronized Snapshot reload(Snapshot stale) {
+        // 동시에 만료된 캐시를 만난 요청들 중 한 요청만 적재한다.
+        Snapshot current = snapshot;
+        if (current != null && current != stale) {
+            return current;
+        }
+        Map<Long, Admin.AdminRole> roles = readOnlyTransaction.execute(status ->
+                adminRepository.findByStatus(Admin.AdminStatus.ACTIVE).stream()
+                        .collect(Collectors.toUnmodifiableMap(Admin::getId, Admin::getRole)));
+        Snapshot loaded = new Snapshot(roles, System.currentTimeMillis());
+        snapshot = loaded;
+        log.debug("[ADMIN-AUTH] 활성 관리자 캐시 적재 - admins={}", roles.size());
+        return loaded;
+    }
+
+    private record Snapshot(Map<Long, Admin.AdminRole> roles, long loadedAt) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.argu.security;
+
+import com.argu.entity.Admin;
+
+import java.security.Principal;
+
+/**
+ * JWT로 인증된 관리자.
+ * <p>
+ * 관리자 PK와 계정 아이디는 서명이 검증된 토큰 클레임에서, 역할은 {@link ActiveAdminCache}에서 가져오므로
+ * 요청마다 admin 테이블을 조회하지 않는다.
+ *
+ * @param id      관리자 PK (토큰 subject)
+ * @param adminId 관리자 계정 아이디
+ * @param role    현재 관리자 역할
+ */
+public record AdminPrincipal(Long id, String adminId, Admin.AdminRole role) implements Principal {
+    @Override
+    public String getName() {
+        return adminId;
+    }
+}
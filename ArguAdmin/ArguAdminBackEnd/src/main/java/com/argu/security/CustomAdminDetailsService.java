@@ -16,8 +16,9 @@ import java.util.List;
 /**
  * Spring Security에서 관리자 계정을 조회하기 위한 {@link UserDetailsService} 구현체.
  * <p>
- * 인증 필터가 JWT 토큰에서 추출한 관리자 아이디로 이 서비스를 호출하면,
+ * {@link org.springframework.security.authentication.AuthenticationManager}가 관리자 아이디로 이 서비스를 호출하면,
  * 활성화된 관리자 계정을 {@link org.springframework.security.core.userdetails.User} 형태로 반환한다.
+ * JWT 요청 인증은 DB 조회 없이 {@link ActiveAdminCache}로 처리하므로 이 서비스를 사용하지 않는다.
  */
 @Service
 @RequiredArgsConstructor
@@ -1,5 +1,6 @@
 package com.argu.security;
 
+import com.argu.entity.Admin;
 import com.argu.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,26 +8,27 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * HTTP 요청마다 실행되어 Authorization 헤더의 JWT를 검증하는 필터.
  * <p>
- * 토큰이 유효하면 {@link SecurityContextHolder}에 인증 객체를 심어 이후 컨트롤러/서비스에서
- * `@AuthenticationPrincipal` 혹은 {@link SecurityContextHolder}를 통해 현재 관리자 정보를 조회할 수 있게 한다.
+ * 토큰 클레임으로 {@link AdminPrincipal}을 만들고 비활성화/삭제 여부와 현재 역할은 {@link ActiveAdminCache}에서 확인하므로
+ * 요청마다 admin 테이블을 조회하지 않는다.
+ * 이후 컨트롤러/서비스에서는 {@link SecurityContextHolder}를 통해 현재 관리자 정보를 조회할 수 있다.
  */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final ActiveAdminCache activeAdminCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -36,15 +38,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
+            AdminPrincipal claims = jwtUtil.getAdminPrincipal(token);
 
-            if (jwtUtil.validateToken(token)) {
-                // 토큰이 유효하다면 관리자 아이디를 꺼내어 UserDetails를 조회한다.
-                String adminId = jwtUtil.getAdminIdStrFromToken(token);
+            // 캐시에 없는 관리자(비활성화/삭제)의 토큰은 인증하지 않는다.
+            Admin.AdminRole role = claims != null ? activeAdminCache.findActiveRole(claims.id()) : null;
+            if (role != null) {
+                AdminPrincipal principal = new AdminPrincipal(claims.id(), claims.adminId(), role);
+                String authority = role == Admin.AdminRole.SUPER_ADMIN ? "ROLE_SUPER_ADMIN" : "ROLE_ADMIN";
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(adminId);
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        principal, null, List.of(new SimpleGrantedAuthority(authority)));
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -54,6 +57,3 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 }
-
-
-
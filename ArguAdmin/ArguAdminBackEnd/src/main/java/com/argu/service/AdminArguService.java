@@ -1,8 +1,12 @@
 package com.argu.service;
 
+import com.argu.config.FullTextIndexInitializer;
 import com.argu.entity.Argu;
+import com.argu.entity.SearchIndexQueue.DocType;
 import com.argu.exception.ResourceNotFoundException;
 import com.argu.repository.ArguRepository;
+import com.argu.search.LuceneSearchReader;
+import com.argu.util.FullTextQueryUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,20 +26,45 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class AdminArguService {
     private final ArguRepository arguRepository;
+    private final LuceneSearchReader searchReader;
+    private final FullTextIndexInitializer fullTextIndex;
+    private final SearchIndexQueueService searchIndexQueueService;
+    private final CacheVersionService cacheVersionService;
 
     /**
      * 조건에 맞는 논쟁을 페이지 조회한다.
      *
-     * @param keyword  제목/내용 검색 키워드
+     * 검색 인덱스가 준비되어 있으면 Lucene으로, 아니면 FULLTEXT 인덱스로 검색한다.
+     * FULLTEXT 인덱스도 없으면 제목/내용 LIKE 검색을 사용한다.
+     *
+     * @param keyword  제목/내용 검색 키워드 (공백으로 구분된 모든 단어 포함)
      * @param status   논쟁 상태
      * @param isHidden 숨김 여부
      * @param pageable 페이지 정보
      * @return 논쟁 페이지 결과
      */
+    @Transactional(readOnly = true)
     public Page<Argu> searchArgus(String keyword, Argu.ArguStatus status, Boolean isHidden, Pageable pageable) {
         log.debug("[ADMIN-ARGU] 논쟁 검색 - keyword={}, status={}, isHidden={} page={} size={}",
                 keyword, status, isHidden, pageable.getPageNumber(), pageable.getPageSize());
-        return arguRepository.searchArgus(keyword, status, isHidden, pageable);
+        if (useSearchIndex(keyword, pageable)) {
+            return searchReader.searchArgus(keyword, status, isHidden, (int) pageable.getOffset(), pageable.getPageSize())
+                    .toPage(arguRepository::findAllById, Argu::getId, pageable);
+        }
+        String query = FullTextQueryUtil.toBooleanModeQuery(keyword);
+        if (query == null) {
+            return arguRepository.searchArgus(status, isHidden, pageable);
+        }
+        if (!fullTextIndex.isAvailable()) {
+            return arguRepository.searchArgusByKeyword(keyword.trim(), status, isHidden, pageable);
+        }
+        return arguRepository.searchArgusByFullText(query, status, isHidden, pageable);
+    }
+
+    private boolean useSearchIndex(String keyword, Pageable pageable) {
+        return keyword != null && !keyword.isBlank()
+                && pageable.getOffset() + pageable.getPageSize() <= LuceneSearchReader.MAX_RESULT_WINDOW
+                && searchReader.isReady();
     }
 
     /**
@@ -45,6 +74,7 @@ public class AdminArguService {
      * @return 존재하는 논쟁 엔티티
      * @throws ResourceNotFoundException 논쟁이 없을 때
      */
+    @Transactional(readOnly = true)
     public Argu getArguById(Long arguId) {
         return arguRepository.findById(arguId)
                 .orElseThrow(() -> {
@@ -71,6 +101,7 @@ public class AdminArguService {
         if (startDate != null) argu.setStartDate(startDate);
         if (endDate != null) argu.setEndDate(endDate);
         Argu updated = arguRepository.save(argu);
+        searchIndexQueueService.enqueue(DocType.ARGU, updated.getId());
         log.info("[ADMIN-ARGU] 논쟁 수정 - arguId={}, title={}", updated.getId(), updated.getTitle());
         return updated;
     }
@@ -87,6 +118,7 @@ public class AdminArguService {
         Argu argu = getArguById(arguId);
         argu.setStatus(status);
         Argu updated = arguRepository.save(argu);
+        searchIndexQueueService.enqueue(DocType.ARGU, updated.getId());
         log.info("[ADMIN-ARGU] 논쟁 상태 변경 - arguId={}, status={}", updated.getId(), updated.getStatus());
         return updated;
     }
@@ -102,6 +134,8 @@ public class AdminArguService {
         Argu argu = getArguById(arguId);
         argu.setIsHidden(!argu.getIsHidden());
         Argu updated = arguRepository.save(argu);
+        searchIndexQueueService.enqueue(DocType.ARGU, updated.getId());
+        cacheVersionService.bump(CacheVersionService.CATEGORY);   // 카테고리별 공개 논쟁 개수 변경
         log.info("[ADMIN-ARGU] 논쟁 숨김 토글 - arguId={}, hidden={}", updated.getId(), updated.getIsHidden());
         return updated;
     }
@@ -115,6 +149,8 @@ public class AdminArguService {
     public void deleteArgu(Long arguId) {
         Argu argu = getArguById(arguId);
         arguRepository.delete(argu);
+        searchIndexQueueService.enqueue(DocType.ARGU, arguId);
+        cacheVersionService.bump(CacheVersionService.CATEGORY);   // 카테고리별 공개 논쟁 개수 변경
         log.info("[ADMIN-ARGU] 논쟁 삭제 - arguId={}", arguId);
     }
 }
@@ -14,17 +14,20 @@ import java.util.List;
  * 카테고리(논쟁 분류) 관리 비즈니스 로직을 담당하는 서비스.
  * <p>
  * 목록 조회, 상세 조회, 생성, 수정, 삭제 등 운영 기능을 제공한다.
+ * 변경 시 사용자 백엔드의 카테고리 목록 캐시가 다시 적재되도록 캐시 버전을 올린다.
  */
 @Service
 @RequiredArgsConstructor
 public class AdminCategoryService {
     private final CategoryRepository categoryRepository;
+    private final CacheVersionService cacheVersionService;
 
     /**
      * 카테고리를 정렬 순서 기준으로 전체 조회한다.
      *
      * @return 카테고리 목록
      */
+    @Transactional(readOnly = true)
     public List<Category> getAllCategories() {
         return categoryRepository.findAllByOrderByOrderNumAsc();
     }
@@ -36,6 +39,7 @@ public class AdminCategoryService {
      * @return 카테고리 엔티티
      * @throws ResourceNotFoundException 존재하지 않을 때
      */
+    @Transactional(readOnly = true)
     public Category getCategoryById(Long categoryId) {
         return categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다"));
@@ -60,7 +64,9 @@ public class AdminCategoryService {
                 .description(description)
                 .orderNum(orderNum != null ? orderNum : 0)
                 .build();
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        cacheVersionService.bump(CacheVersionService.CATEGORY);
+        return saved;
     }
 
     /**
@@ -84,7 +90,9 @@ public class AdminCategoryService {
         }
         if (description != null) category.setDescription(description);
         if (orderNum != null) category.setOrderNum(orderNum);
-        return categoryRepository.save(category);
+        Category updated = categoryRepository.save(category);
+        cacheVersionService.bump(CacheVersionService.CATEGORY);
+        return updated;
     }
 
     /**
@@ -96,6 +104,7 @@ public class AdminCategoryService {
     public void deleteCategory(Long categoryId) {
         Category category = getCategoryById(categoryId);
         categoryRepository.delete(category);
+        cacheVersionService.bump(CacheVersionService.CATEGORY);
     }
 }
 
@@ -1,8 +1,11 @@
 package com.argu.service;
 
 import com.argu.entity.Comment;
+import com.argu.entity.SearchIndexQueue.DocType;
 import com.argu.exception.ResourceNotFoundException;
+import com.argu.repository.ArguRepository;
 import com.argu.repository.CommentRepository;
+import com.argu.search.LuceneSearchReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,16 +21,27 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AdminCommentService {
     private final CommentRepository commentRepository;
+    private final ArguRepository arguRepository;
+    private final LuceneSearchReader searchReader;
+    private final SearchIndexQueueService searchIndexQueueService;
 
     /**
      * 조건에 맞는 댓글을 페이지 조회한다.
+     * 검색어가 있고 검색 인덱스가 준비되어 있으면 Lucene으로 검색한다.
      *
      * @param keyword  댓글 내용 검색어
      * @param isHidden 숨김 여부 필터
      * @param pageable 페이지 정보
      * @return 댓글 페이지 결과
      */
+    @Transactional(readOnly = true)
     public Page<Comment> searchComments(String keyword, Boolean isHidden, Pageable pageable) {
+        if (keyword != null && !keyword.isBlank()
+                && pageable.getOffset() + pageable.getPageSize() <= LuceneSearchReader.MAX_RESULT_WINDOW
+                && searchReader.isReady()) {
+            return searchReader.searchComments(keyword, isHidden, (int) pageable.getOffset(), pageable.getPageSize())
+                    .toPage(commentRepository::findAllById, Comment::getId, pageable);
+        }
         return commentRepository.searchComments(keyword, isHidden, pageable);
     }
 
@@ -38,6 +52,7 @@ public class AdminCommentService {
      * @return 댓글 엔티티
      * @throws ResourceNotFoundException 댓글이 없을 때
      */
+    @Transactional(readOnly = true)
     public Comment getCommentById(Long commentId) {
         return commentRepository.findById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다"));
@@ -45,6 +60,7 @@ public class AdminCommentService {
 
     /**
      * 댓글 숨김 여부를 토글한다.
+     * 논쟁의 댓글 수 카운터는 숨김 댓글을 제외하므로 함께 증감한다.
      *
      * @param commentId 댓글 ID
      * @return 숨김 상태가 변경된 댓글
@@ -53,11 +69,15 @@ public class AdminCommentService {
     public Comment toggleCommentHidden(Long commentId) {
         Comment comment = getCommentById(commentId);
         comment.setIsHidden(!comment.getIsHidden());
-        return commentRepository.save(comment);
+        Comment updated = commentRepository.save(comment);
+        arguRepository.addCommentCount(updated.getArgu().getId(), updated.getIsHidden() ? -1 : 1);
+        searchIndexQueueService.enqueue(DocType.COMMENT, updated.getId());
+        return updated;
     }
 
     /**
      * 댓글을 삭제한다.
+     * 공개 댓글이었다면 논쟁의 댓글 수 카운터를 감소시킨다.
      *
      * @param commentId 댓글 ID
      */
@@ -65,6 +85,10 @@ public class AdminCommentService {
     public void deleteComment(Long commentId) {
         Comment comment = getCommentById(commentId);
         commentRepository.delete(comment);
+        searchIndexQueueService.enqueue(DocType.COMMENT, commentId);
+        if (!comment.getIsHidden()) {
+            arguRepository.addCommentCount(comment.getArgu().getId(), -1);
+        }
     }
 }
 
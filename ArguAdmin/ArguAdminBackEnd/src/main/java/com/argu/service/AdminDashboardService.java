@@ -11,6 +11,7 @@ import com.argu.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -32,31 +33,23 @@ public class AdminDashboardService {
     /**
      * 대시보드에 표시할 핵심 지표를 계산한다.
      * <p>
-     * 현재는 전체 데이터를 메모리에 로드해 필터링하므로 데이터가 많을 경우 성능 최적화가 필요하다.
+     * 전체/상태별 건수는 COUNT 쿼리로, 오늘 가입·생성 수는 회원/논쟁 테이블의 오늘 created_at 범위만 COUNT 하여 채운다.
+     * (일별 통계 서비스는 여섯 개 원본 테이블을 모두 집계하므로 두 지표만 필요한 대시보드에서는 쓰지 않는다)
      *
      * @return 대시보드 통계 DTO
      */
+    @Transactional(readOnly = true)
     public DashboardStatsResponse getDashboardStats() {
-        LocalDate today = LocalDate.now();
-        LocalDateTime startOfToday = today.atStartOfDay();
-        LocalDateTime endOfToday = today.plusDays(1).atStartOfDay();
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        LocalDateTime startOfTomorrow = startOfToday.plusDays(1);
 
         long totalUsers = userRepository.count();
         long totalArgus = arguRepository.count();
         long activeArgus = arguRepository.countByStatus(Argu.ArguStatus.ACTIVE);
         long pendingReports = reportRepository.countByStatus(Report.ReportStatus.PENDING);
         
-        long todayNewUsers = userRepository.findAll().stream()
-                .filter(user -> user.getCreatedAt() != null && 
-                        user.getCreatedAt().isAfter(startOfToday) && 
-                        user.getCreatedAt().isBefore(endOfToday))
-                .count();
-        
-        long todayNewArgus = arguRepository.findAll().stream()
-                .filter(argu -> argu.getCreatedAt() != null && 
-                        argu.getCreatedAt().isAfter(startOfToday) && 
-                        argu.getCreatedAt().isBefore(endOfToday))
-                .count();
+        long todayNewUsers = userRepository.countByCreatedAtGreaterThanEqualAndCreatedAtLessThan(startOfToday, startOfTomorrow);
+        long todayNewArgus = arguRepository.countByCreatedAtGreaterThanEqualAndCreatedAtLessThan(startOfToday, startOfTomorrow);
 
         long totalComments = commentRepository.count();
 
@@ -77,6 +70,7 @@ public class AdminDashboardService {
      * @param limit 조회할 최대 인원수
      * @return 회원 목록
      */
+    @Transactional(readOnly = true)
     public List<User> getRecentUsers(int limit) {
         return userRepository.findAll(PageRequest.of(0, limit))
                 .getContent();
@@ -88,6 +82,7 @@ public class AdminDashboardService {
      * @param limit 조회 상위 개수
      * @return 인기 논쟁 목록
      */
+    @Transactional(readOnly = true)
     public List<Argu> getTopArgus(int limit) {
         return arguRepository.findTopByOrderByViewCountDesc(PageRequest.of(0, limit));
     }
@@ -98,6 +93,7 @@ public class AdminDashboardService {
      * @param limit 조회할 신고 수
      * @return 미처리 신고 목록
      */
+    @Transactional(readOnly = true)
     public List<Report> getPendingReports(int limit) {
         return reportRepository.findByStatus(Report.ReportStatus.PENDING, PageRequest.of(0, limit))
                 .getContent();
@@ -5,6 +5,7 @@ import com.argu.entity.Admin;
 import com.argu.exception.BadRequestException;
 import com.argu.exception.ResourceNotFoundException;
 import com.argu.repository.AdminRepository;
+import com.argu.security.ActiveAdminCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,12 +23,14 @@ import java.util.List;
 public class AdminManagementService {
     private final AdminRepository adminRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ActiveAdminCache activeAdminCache;
 
     /**
      * 모든 관리자 목록을 조회한다.
      *
      * @return 관리자 리스트
      */
+    @Transactional(readOnly = true)
     public List<Admin> getAllAdmins() {
         log.debug("[ADMIN-MGMT] 전체 관리자 목록 조회");
         return adminRepository.findAll();
@@ -40,6 +43,7 @@ public class AdminManagementService {
      * @return 관리자 엔티티
      * @throws ResourceNotFoundException 없을 때
      */
+    @Transactional(readOnly = true)
     public Admin getAdminById(Long adminId) {
         return adminRepository.findById(adminId)
                 .orElseThrow(() -> {
@@ -71,6 +75,7 @@ public class AdminManagementService {
                 .build();
 
         Admin saved = adminRepository.save(admin);
+        activeAdminCache.invalidate();
         log.info("[ADMIN-MGMT] 관리자 생성 성공 - adminId={}, role={} ", saved.getAdminId(), saved.getRole());
         return saved;
     }
@@ -91,6 +96,7 @@ public class AdminManagementService {
         if (role != null) admin.setRole(role);
         if (status != null) admin.setStatus(status);
         Admin updated = adminRepository.save(admin);
+        activeAdminCache.invalidate();  // 역할/상태 변경을 다음 요청의 인증부터 반영
         log.info("[ADMIN-MGMT] 관리자 정보 수정 - adminId={}, role={}, status={}", updated.getAdminId(), updated.getRole(), updated.getStatus());
         return updated;
     }
@@ -120,6 +126,7 @@ public class AdminManagementService {
     public void deleteAdmin(Long adminId) {
         Admin admin = getAdminById(adminId);
         adminRepository.delete(admin);
+        activeAdminCache.invalidate();
         log.info("[ADMIN-MGMT] 관리자 삭제 - adminId={}", admin.getAdminId());
     }
 }
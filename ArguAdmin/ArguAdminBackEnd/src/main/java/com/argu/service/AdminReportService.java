@@ -30,6 +30,7 @@ public class AdminReportService {
      * @param pageable 페이지 정보
      * @return 신고 페이지
      */
+    @Transactional(readOnly = true)
     public Page<Report> getReports(Report.ReportStatus status, Pageable pageable) {
         if (status != null) {
             log.debug("[ADMIN-REPORT] 신고 목록 조회 - status={}", status);
@@ -46,6 +47,7 @@ public class AdminReportService {
      * @return 신고 엔티티
      * @throws ResourceNotFoundException 없을 때
      */
+    @Transactional(readOnly = true)
     public Report getReportById(Long reportId) {
         return reportRepository.findById(reportId)
                 .orElseThrow(() -> {
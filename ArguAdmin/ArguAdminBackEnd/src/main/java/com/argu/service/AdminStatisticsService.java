@@ -1,51 +1,58 @@
 package com.argu.service;
 
 import com.argu.entity.Argu;
+import com.argu.entity.DailyStats;
 import com.argu.entity.User;
 import com.argu.repository.ArguRepository;
 import com.argu.repository.UserRepository;
+import com.argu.repository.projection.ArguStatusCount;
+import com.argu.repository.projection.UserStatusCount;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * 관리자 통계 화면을 위한 집계 로직을 제공하는 서비스.
  * <p>
- * 현재 구현은 대부분 전체 데이터를 메모리에 로드해 필터링하므로 대량 데이터 환경에서는
- * 쿼리 최적화나 배치 집계가 필요하다.
+ * 현황 통계는 DB의 GROUP BY 집계 쿼리 한 번으로 계산하며, 엔티티를 메모리에 불러오지 않는다.
+ * 일별 통계는 {@link DailyStatsRollupService}가 유지하는 daily_stats 집계를 읽으므로 조회 일수만큼의 행만 읽는다.
  */
 @Service
 @RequiredArgsConstructor
 public class AdminStatisticsService {
     private final UserRepository userRepository;
     private final ArguRepository arguRepository;
+    private final DailyStatsRollupService dailyStatsRollupService;
 
     /**
      * 회원 현황 통계를 계산한다.
      *
      * @return 회원 수 통계를 담은 Map
      */
+    @Transactional(readOnly = true)
     public Map<String, Object> getUserStatistics() {
-        long totalUsers = userRepository.count();
-        long activeUsers = userRepository.findAll().stream()
-                .filter(user -> user.getStatus() == User.UserStatus.ACTIVE)
-                .count();
-        long suspendedUsers = userRepository.findAll().stream()
-                .filter(user -> user.getStatus() == User.UserStatus.SUSPENDED)
-                .count();
-        long deletedUsers = userRepository.findAll().stream()
-                .filter(user -> user.getStatus() == User.UserStatus.DELETED)
-                .count();
+        Map<User.UserStatus, Long> byStatus = new EnumMap<>(User.UserStatus.class);
+        long totalUsers = 0;
+        for (UserStatusCount row : userRepository.countGroupByStatus()) {
+            totalUsers += row.getCount();
+            if (row.getStatus() != null) {
+                byStatus.put(row.getStatus(), row.getCount());
+            }
+        }
 
         Map<String, Object> stats = new HashMap<>();
         stats.put("totalUsers", totalUsers);
-        stats.put("activeUsers", activeUsers);
-        stats.put("suspendedUsers", suspendedUsers);
-        stats.put("deletedUsers", deletedUsers);
+        stats.put("activeUsers", byStatus.getOrDefault(User.UserStatus.ACTIVE, 0L));
+        stats.put("suspendedUsers", byStatus.getOrDefault(User.UserStatus.SUSPENDED, 0L));
+        stats.put("deletedUsers", byStatus.getOrDefault(User.UserStatus.DELETED, 0L));
         return stats;
     }
 
@@ -54,20 +61,26 @@ public class AdminStatisticsService {
      *
      * @return 논쟁 상태별/숨김 여부 통계를 담은 Map
      */
+    @Transactional(readOnly = true)
     public Map<String, Object> getArguStatistics() {
-        long totalArgus = arguRepository.count();
-        long scheduledArgus = arguRepository.countByStatus(Argu.ArguStatus.SCHEDULED);
-        long activeArgus = arguRepository.countByStatus(Argu.ArguStatus.ACTIVE);
-        long endedArgus = arguRepository.countByStatus(Argu.ArguStatus.ENDED);
-        long hiddenArgus = arguRepository.findAll().stream()
-                .filter(argu -> argu.getIsHidden())
-                .count();
+        Map<Argu.ArguStatus, Long> byStatus = new EnumMap<>(Argu.ArguStatus.class);
+        long totalArgus = 0;
+        long hiddenArgus = 0;
+        for (ArguStatusCount row : arguRepository.countGroupByStatusAndHidden()) {
+            totalArgus += row.getCount();
+            if (Boolean.TRUE.equals(row.getHidden())) {
+                hiddenArgus += row.getCount();
+            }
+            if (row.getStatus() != null) {
+                byStatus.merge(row.getStatus(), row.getCount(), Long::sum);
+            }
+        }
 
         Map<String, Object> stats = new HashMap<>();
         stats.put("totalArgus", totalArgus);
-        stats.put("scheduledArgus", scheduledArgus);
-        stats.put("activeArgus", activeArgus);
-        stats.put("endedArgus", endedArgus);
+        stats.put("scheduledArgus", byStatus.getOrDefault(Argu.ArguStatus.SCHEDULED, 0L));
+        stats.put("activeArgus", byStatus.getOrDefault(Argu.ArguStatus.ACTIVE, 0L));
+        stats.put("endedArgus", byStatus.getOrDefault(Argu.ArguStatus.ENDED, 0L));
         stats.put("hiddenArgus", hiddenArgus);
         return stats;
     }
@@ -76,56 +89,47 @@ public class AdminStatisticsService {
      * 지정된 기간 동안의 일별 회원 가입 수를 계산한다.
      *
      * @param days 조회 기간(일)
-     * @return 날짜 문자열을 키로 하는 가입 수 Map
+     * @return 날짜 문자열을 키로 하는 가입 수 Map (오래된 날짜순, 가입이 없는 날은 0)
      */
     public Map<String, Long> getDailyUserRegistrations(int days) {
-        Map<String, Long> dailyStats = new HashMap<>();
-        LocalDate today = LocalDate.now();
-        
-        for (int i = days - 1; i >= 0; i--) {
-            LocalDate date = today.minusDays(i);
-            LocalDateTime startOfDay = date.atStartOfDay();
-            LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
-            
-            long count = userRepository.findAll().stream()
-                    .filter(user -> user.getCreatedAt() != null &&
-                            user.getCreatedAt().isAfter(startOfDay) &&
-                            user.getCreatedAt().isBefore(endOfDay))
-                    .count();
-            
-            dailyStats.put(date.toString(), count);
-        }
-        
-        return dailyStats;
+        return toDailyMap(days, DailyStats::getNewUsers);
     }
 
     /**
      * 지정된 기간 동안의 일별 논쟁 생성 수를 계산한다.
      *
      * @param days 조회 기간(일)
-     * @return 날짜 문자열을 키로 하는 논쟁 생성 수 Map
+     * @return 날짜 문자열을 키로 하는 논쟁 생성 수 Map (오래된 날짜순, 생성이 없는 날은 0)
      */
     public Map<String, Long> getDailyArguCreations(int days) {
-        Map<String, Long> dailyStats = new HashMap<>();
+        return toDailyMap(days, DailyStats::getNewArgus);
+    }
+
+    /**
+     * 오늘을 포함한 최근 기간의 일별 통계(가입/논쟁/댓글/좋아요/입장/신고)를 조회한다.
+     * <p>
+     * 기간이 0 이하면 이전과 같이 빈 목록을 반환한다.
+     *
+     * @param days 조회 기간(일)
+     * @return 날짜순 일별 통계 목록
+     * @throws com.argu.exception.BadRequestException 기간이 최대 기간({@link DailyStatsRollupService#MAX_DAYS}일)을 넘는 경우
+     */
+    public List<DailyStats> getDailyStats(int days) {
+        if (days <= 0) {
+            return List.of();
+        }
         LocalDate today = LocalDate.now();
-        
-        for (int i = days - 1; i >= 0; i--) {
-            LocalDate date = today.minusDays(i);
-            LocalDateTime startOfDay = date.atStartOfDay();
-            LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
-            
-            long count = arguRepository.findAll().stream()
-                    .filter(argu -> argu.getCreatedAt() != null &&
-                            argu.getCreatedAt().isAfter(startOfDay) &&
-                            argu.getCreatedAt().isBefore(endOfDay))
-                    .count();
-            
-            dailyStats.put(date.toString(), count);
+        return dailyStatsRollupService.getDailyStats(today.minusDays(days - 1L), today);
+    }
+
+    /**
+     * 일별 통계에서 한 지표만 골라 날짜 문자열을 키로 하는 Map으로 변환한다.
+     */
+    private Map<String, Long> toDailyMap(int days, Function<DailyStats, Long> metric) {
+        Map<String, Long> dailyStats = new LinkedHashMap<>();
+        for (DailyStats row : getDailyStats(days)) {
+            dailyStats.put(row.getStatDate().toString(), metric.apply(row));
         }
-        
         return dailyStats;
     }
 }
-
-
-
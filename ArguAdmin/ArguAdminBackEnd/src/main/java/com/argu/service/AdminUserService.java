@@ -1,11 +1,13 @@
 package com.argu.service;
 
 import com.argu.dto.response.UserDetailResponse;
+import com.argu.entity.SearchIndexQueue.DocType;
 import com.argu.entity.User;
 import com.argu.exception.ResourceNotFoundException;
 import com.argu.repository.ArguRepository;
 import com.argu.repository.CommentRepository;
 import com.argu.repository.UserRepository;
+import com.argu.search.LuceneSearchReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -23,18 +25,29 @@ public class AdminUserService {
     private final UserRepository userRepository;
     private final ArguRepository arguRepository;
     private final CommentRepository commentRepository;
+    private final LuceneSearchReader searchReader;
+    private final SearchIndexQueueService searchIndexQueueService;
+    private final CacheVersionService cacheVersionService;
 
     /**
      * 조건에 맞는 회원을 페이지 조회한다.
+     * 검색어가 있고 검색 인덱스가 준비되어 있으면 Lucene으로 닉네임/이메일 앞부분을 검색한다.
      *
      * @param keyword  검색 키워드
      * @param status   회원 상태 필터
      * @param pageable 페이지 정보
      * @return 회원 페이지 결과
      */
+    @Transactional(readOnly = true)
     public Page<User> searchUsers(String keyword, User.UserStatus status, Pageable pageable) {
         log.debug("[ADMIN-USER] 회원 검색 - keyword={}, status={}, page={}, size={}",
                 keyword, status, pageable.getPageNumber(), pageable.getPageSize());
+        if (keyword != null && !keyword.isBlank()
+                && pageable.getOffset() + pageable.getPageSize() <= LuceneSearchReader.MAX_RESULT_WINDOW
+                && searchReader.isReady()) {
+            return searchReader.searchUsers(keyword, status, (int) pageable.getOffset(), pageable.getPageSize())
+                    .toPage(userRepository::findAllById, User::getId, pageable);
+        }
         return userRepository.searchUsers(keyword, status, pageable);
     }
 
@@ -45,6 +58,7 @@ public class AdminUserService {
      * @return 회원 상세 응답 DTO
      * @throws ResourceNotFoundException 회원이 없을 때
      */
+    @Transactional(readOnly = true)
     public UserDetailResponse getUserDetail(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> {
@@ -77,6 +91,8 @@ public class AdminUserService {
                 });
         user.setStatus(status);
         User updated = userRepository.save(user);
+        searchIndexQueueService.enqueue(DocType.USER, updated.getId());
+        cacheVersionService.bump(CacheVersionService.USER_STATUS);  // 사용자 백엔드의 인증 차단 회원 갱신
         log.info("[ADMIN-USER] 회원 상태 변경 - userId={}, status={}", updated.getId(), updated.getStatus());
         return updated;
     }
@@ -95,6 +111,8 @@ public class AdminUserService {
                 });
         user.setStatus(User.UserStatus.DELETED);
         userRepository.save(user);
+        searchIndexQueueService.enqueue(DocType.USER, userId);
+        cacheVersionService.bump(CacheVersionService.USER_STATUS);  // 사용자 백엔드의 인증 차단 회원 갱신
         log.info("[ADMIN-USER] 회원 삭제 처리 - userId={}", userId);
     }
 }
@@ -0,0 +1,32 @@
+package com.argu.service;
+
+import com.argu.repository.CacheVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 백엔드 캐시를 무효화하는 서비스.
+ * <p>
+ * 관리자 변경과 같은 트랜잭션에서 cache_version 행의 버전을 올리므로, 변경이 커밋될 때만 사용자 백엔드가 캐시를 다시 적재한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheVersionService {
+    /** 카테고리 목록 캐시 (카테고리 정보와 카테고리별 공개 논쟁 개수) */
+    public static final String CATEGORY = "category";
+    /** 인증 차단 회원 캐시 (정지/탈퇴 회원 ID) */
+    public static final String USER_STATUS = "user-status";
+
+    private final CacheVersionRepository cacheVersionRepository;
+
+    /**
+     * 캐시 버전을 올린다. 처음 사용하는 캐시면 버전 1로 행을 만든다.
+     *
+     * @param cacheName 캐시 이름
+     */
+    @Transactional
+    public void bump(String cacheName) {
+        cacheVersionRepository.increment(cacheName);
+    }
+}
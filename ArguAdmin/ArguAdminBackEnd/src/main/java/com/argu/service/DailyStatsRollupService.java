@@ -0,0 +1,215 @@
+package com.argu.service;
+
+import com.argu.entity.DailyStats;
+import com.argu.exception.BadRequestException;
+import com.argu.repository.DailyStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일별 통계 집계(daily_stats)를 유지하고 조회하는 서비스.
+ * <p>
+ * 원본 테이블의 created_at 인덱스 범위를 날짜별로 GROUP BY 하여 daily_stats 행을 다시 계산해 덮어쓴다.
+ * <ul>
+ *     <li>매시 최근 {@code recompute-days}일(오늘 포함)을 다시 집계한다 (자정 무렵 늦게 커밋된 행 반영)</li>
+ *     <li>과거 기간은 {@link #backfill(LocalDate, LocalDate)}로 채우며, 조회 시 비어 있는 날짜도 자동으로 채운다</li>
+ *     <li>재계산 방식이므로 여러 인스턴스가 같은 날짜를 동시에 집계해도 결과가 같다</li>
+ * </ul>
+ * 조회 시 지난 날짜는 daily_stats에서 읽고, 오늘은 원본 테이블에서 직접 집계하여 최신 값을 돌려준다.
+ * 좋아요 취소처럼 원본 행이 삭제되는 경우 재계산 기간이 지난 날짜의 값은 집계 당시 기준으로 남는다.
+ */
+@Slf4j
+@Service
+public class DailyStatsRollupService {
+    /** 집계 대상 원본 테이블 (daily_stats 컬럼 순서와 같다) */
+    private static final List<String> SOURCE_TABLES = List.of("users", "argu", "comments", "likes", "argu_opinion", "reports");
+    private static final String UPSERT_SQL =
+            "INSERT INTO daily_stats (stat_date, new_users, new_argus, new_comments, new_likes, new_opinions, new_reports, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE new_users = VALUES(new_users), new_argus = VALUES(new_argus), " +
+            "new_comments = VALUES(new_comments), new_likes = VALUES(new_likes), new_opinions = VALUES(new_opinions), " +
+            "new_reports = VALUES(new_reports), updated_at = VALUES(updated_at)";
+    /** 한 번에 집계·조회할 수 있는 최대 기간(일) */
+    public static final int MAX_DAYS = 3660;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DailyStatsRepository dailyStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int recomputeDays;
+    private final int chunkDays;
+
+    public DailyStatsRollupService(JdbcTemplate jdbcTemplate,
+                                   DailyStatsRepository dailyStatsRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${argu.stats.rollup.recompute-days:2}") int recomputeDays,
+                                   @Value("${argu.stats.rollup.chunk-days:31}") int chunkDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dailyStatsRepository = dailyStatsRepository;
+        // 읽기 전용 조회 중 빈 날짜를 채울 때도 쓰기가 가능하도록 항상 새 트랜잭션에서 집계한다
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.recomputeDays = Math.max(recomputeDays, 1);
+        this.chunkDays = Math.max(chunkDays, 1);
+    }
+
+    /**
+     * 최근 날짜의 집계를 다시 계산한다 (매시 실행).
+     */
+    @Scheduled(cron = "${argu.stats.rollup.cron:0 5 * * * *}")
+    public void rollupRecentDays() {
+        LocalDate today = LocalDate.now();
+        int days = rollup(today.minusDays(recomputeDays - 1L), today);
+        log.info("[ADMIN-STATS] 최근 일별 통계 집계 완료 - days={}", days);
+    }
+
+    /**
+     * 지정한 기간의 일별 집계를 원본 테이블 기준으로 다시 계산한다.
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (포함)
+     * @return 집계한 날짜 수
+     * @throws BadRequestException 기간이 올바르지 않거나 최대 기간을 넘는 경우
+     */
+    public int backfill(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        int days = rollup(from, to);
+        log.info("[ADMIN-STATS] 일별 통계 백필 완료 - from={}, to={}, days={}", from, to, days);
+        return days;
+    }
+
+    /**
+     * 기간 내 일별 통계를 날짜순으로 조회한다.
+     * <p>
+     * 지난 날짜는 daily_stats에서 읽고, 아직 집계되지 않은 날짜가 있으면 그 구간만 집계한 뒤 다시 읽는다.
+     * 오늘은 저장하지 않고 원본 테이블에서 직접 집계한다.
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (포함)
+     * @return 기간 내 모든 날짜의 통계 (from부터 to까지 하루 한 행)
+     * @throws BadRequestException 기간이 올바르지 않거나 최대 기간을 넘는 경우
+     */
+    public List<DailyStats> getDailyStats(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        LocalDate today = LocalDate.now();
+        List<DailyStats> result = new ArrayList<>();
+
+        LocalDate lastStored = to.isBefore(today) ? to : today.minusDays(1);
+        if (!from.isAfter(lastStored)) {
+            result.addAll(loadStored(from, lastStored));
+        }
+        if (!to.isBefore(today) && !from.isAfter(today)) {
+            result.add(toDailyStats(today, count(today, today)[0], LocalDateTime.now()));
+        }
+        return result;
+    }
+
+    /**
+     * 지난 기간의 집계를 읽는다. 비어 있는 날짜가 있으면 첫 빈 날짜부터 마지막 빈 날짜까지 집계한 뒤 다시 읽는다.
+     */
+    private List<DailyStats> loadStored(LocalDate from, LocalDate to) {
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        List<DailyStats> rows = dailyStatsRepository.findByStatDateBetweenOrderByStatDate(from, to);
+        if (rows.size() == days) {
+            return rows;
+        }
+
+        Map<LocalDate, DailyStats> byDate = new HashMap<>();
+        rows.forEach(row -> byDate.put(row.getStatDate(), row));
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (!byDate.containsKey(date)) {
+                firstMissing = firstMissing == null ? date : firstMissing;
+                lastMissing = date;
+            }
+        }
+        int filled = rollup(firstMissing, lastMissing);
+        log.info("[ADMIN-STATS] 집계되지 않은 날짜 채움 - from={}, to={}, days={}", firstMissing, lastMissing, filled);
+        return dailyStatsRepository.findByStatDateBetweenOrderByStatDate(from, to);
+    }
+
+    /**
+     * 기간을 chunk-days 단위로 나누어 구간마다 한 트랜잭션에서 집계하고 저장한다.
+     */
+    private int rollup(LocalDate from, LocalDate to) {
+        int days = 0;
+        for (LocalDate chunkFrom = from; !chunkFrom.isAfter(to); chunkFrom = chunkFrom.plusDays(chunkDays)) {
+            LocalDate chunkTo = chunkFrom.plusDays(chunkDays - 1L);
+            LocalDate end = chunkTo.isAfter(to) ? to : chunkTo;
+            LocalDate start = chunkFrom;
+            days += transactionTemplate.execute(status -> rollupChunk(start, end));
+        }
+        return days;
+    }
+
+    private int rollupChunk(LocalDate from, LocalDate to) {
+        long[][] counts = count(from, to);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batchArgs = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            long[] day = counts[i];
+            batchArgs.add(new Object[]{from.plusDays(i), day[0], day[1], day[2], day[3], day[4], day[5], now});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+        return counts.length;
+    }
+
+    /**
+     * 원본 테이블마다 created_at 범위를 날짜별로 GROUP BY 한다.
+     *
+     * @return [from부터의 일수][SOURCE_TABLES 순서] 건수
+     */
+    private long[][] count(LocalDate from, LocalDate to) {
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        long[][] counts = new long[days][SOURCE_TABLES.size()];
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        for (int column = 0; column < SOURCE_TABLES.size(); column++) {
+            int target = column;
+            String sql = "SELECT DATE(created_at), COUNT(*) FROM " + SOURCE_TABLES.get(column) +
+                    " WHERE created_at >= ? AND created_at < ? GROUP BY DATE(created_at)";
+            jdbcTemplate.query(sql, rs -> {
+                LocalDate date = rs.getObject(1, LocalDate.class);
+                counts[(int) ChronoUnit.DAYS.between(from, date)][target] = rs.getLong(2);
+            }, start, end);
+        }
+        return counts;
+    }
+
+    private DailyStats toDailyStats(LocalDate date, long[] day, LocalDateTime updatedAt) {
+        return DailyStats.builder()
+                .statDate(date)
+                .newUsers(day[0])
+                .newArgus(day[1])
+                .newComments(day[2])
+                .newLikes(day[3])
+                .newOpinions(day[4])
+                .newReports(day[5])
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new BadRequestException("조회 기간이 올바르지 않습니다");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new BadRequestException("조회 기간은 최대 " + MAX_DAYS + "일입니다");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.argu.service;
+
+import com.argu.entity.SearchIndexQueue;
+import com.argu.entity.SearchIndexQueue.DocType;
+import com.argu.repository.SearchIndexQueueRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 검색 인덱스 갱신 요청을 기록하는 서비스.
+ * <p>
+ * 관리자 변경과 같은 트랜잭션에 대기열 행을 남기므로, 변경이 롤백되면 갱신 요청도 함께 사라진다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchIndexQueueService {
+    private final SearchIndexQueueRepository searchIndexQueueRepository;
+
+    /**
+     * 문서 갱신 요청을 대기열에 추가한다.
+     *
+     * @param docType 문서 종류
+     * @param docId   문서 ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(DocType docType, Long docId) {
+        searchIndexQueueRepository.save(SearchIndexQueue.builder()
+                .docType(docType)
+                .docId(docId)
+                .build());
+    }
+}
@@ -0,0 +1,41 @@
+package com.argu.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 검색어를 MySQL FULLTEXT BOOLEAN MODE 검색식으로 변환하는 유틸리티.
+ * <p>
+ * 연산자 문자를 제거한 뒤 공백으로 구분된 단어마다 필수 구문(+"단어")을 만든다.
+ */
+public final class FullTextQueryUtil {
+    private static final int MAX_TERMS = 10;
+    private static final String OPERATOR_CHARS = "[+\\-<>()~*\"@]";
+
+    private FullTextQueryUtil() {
+    }
+
+    /**
+     * 검색어를 BOOLEAN MODE 검색식으로 변환한다.
+     *
+     * @param keyword 관리자 입력 검색어
+     * @return 검색식, 사용할 수 있는 단어가 없으면 null
+     */
+    public static String toBooleanModeQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String word : keyword.trim().split("\\s+")) {
+            String term = word.replaceAll(OPERATOR_CHARS, "");
+            if (!term.isEmpty()) {
+                terms.add("+\"" + term + "\"");
+            }
+            if (terms.size() == MAX_TERMS) {
+                break;
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+}
@@ -1,10 +1,12 @@
 package com.argu.util;
 
 import com.argu.config.JwtProperties;
+import com.argu.security.AdminPrincipal;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -16,19 +18,27 @@ import java.util.Date;
  * <p>
  * JJWT 라이브러리를 사용하여 HMAC-SHA 기반의 서명 토큰을 만들고 해석한다.
  * 토큰에는 관리자 PK(subject)와 관리자 아이디(claim)를 담아 인증 필터에서 재확인할 수 있도록 구성한다.
+ * 서명 키와 파서는 기동 시 한 번만 만들어 재사용하며(둘 다 불변, 스레드 안전),
+ * 토큰은 {@link #parseClaims(String)}로 한 번만 검증하고 최근 검증한 토큰은 {@link VerifiedTokenCache}에서 바로 꺼낸다.
  */
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
     private final JwtProperties jwtProperties;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
 
     /**
-     * 서명을 위해 {@link JwtProperties#getSecret()}에서 불러온 키로 {@link SecretKey}를 생성한다.
+     * 서명을 위해 {@link JwtProperties#getSecret()}에서 불러온 키로 {@link SecretKey}와 검증 파서를 만든다.
      * 시크릿은 충분히 긴 난수여야 하며 운영 환경에서는 외부 시크릿 저장소에 보관해야 한다.
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtUtil(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(jwtProperties.getVerifiedCacheSize());
     }
 
     /**
@@ -47,23 +57,61 @@ public class JwtUtil {
                 .claim("adminId", adminIdStr)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * 토큰의 서명과 만료를 한 번만 검증하고 클레임을 반환한다.
+     * <p>
+     * 최근 검증한 토큰이면 파싱과 서명 검증 없이 캐시된 클레임을 반환한다.
+     *
+     * @param token 클라이언트가 보낸 JWT
+     * @return 검증된 클레임, 유효하지 않은 토큰이면 {@code null}
+     */
+    public Claims parseClaims(String token) {
+        Claims cached = verifiedTokens.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(token, claims);
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 토큰 클레임으로 관리자 PK와 계정 아이디를 담은 인증 주체를 만든다.
+     * <p>
+     * 역할은 토큰 발급 이후 바뀔 수 있으므로 채우지 않으며, 인증 필터가 {@link com.argu.security.ActiveAdminCache}에서 채운다.
+     *
+     * @param token 클라이언트가 보낸 JWT
+     * @return 역할이 비어 있는 인증 주체, 유효하지 않은 토큰이면 {@code null}
+     */
+    public AdminPrincipal getAdminPrincipal(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        try {
+            return new AdminPrincipal(Long.parseLong(claims.getSubject()), claims.get("adminId", String.class), null);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
     /**
      * JWT subject(관리자 PK)를 추출한다.
      *
      * @param token 클라이언트가 보낸 JWT
      * @return 관리자 PK
+     * @throws JwtException 유효하지 않은 토큰인 경우
      */
     public Long getAdminIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return Long.parseLong(claims.getSubject());
+        return Long.parseLong(requireClaims(token).getSubject());
     }
 
     /**
@@ -71,34 +119,27 @@ public class JwtUtil {
      *
      * @param token 클라이언트가 보낸 JWT
      * @return 관리자 계정 아이디
+     * @throws JwtException 유효하지 않은 토큰인 경우
      */
     public String getAdminIdStrFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("adminId", String.class);
+        return requireClaims(token).get("adminId", String.class);
     }
 
     /**
      * 토큰의 서명 및 만료 여부를 검증한다.
      *
      * @param token 클라이언트가 보낸 JWT
-     * @return 유효하면 true, 파싱/검증 중 예외가 발생하면 false
+     * @return 유효하면 true, 파싱/검증에 실패하면 false
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+        return parseClaims(token) != null;
+    }
+
+    private Claims requireClaims(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            throw new JwtException("유효하지 않은 토큰입니다");
         }
+        return claims;
     }
 }
-
-
-
@@ -2,10 +2,10 @@ package com.argu.util;
 
 import com.argu.entity.Admin;
 import com.argu.repository.AdminRepository;
+import com.argu.security.AdminPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 /**
@@ -20,6 +20,8 @@ public class SecurityUtil {
 
     /**
      * SecurityContext에 저장된 인증 객체에서 관리자 PK를 찾는다.
+     * <p>
+     * 인증 필터가 토큰 클레임으로 만든 {@link AdminPrincipal}에서 읽으므로 DB를 조회하지 않는다.
      *
      * @return 인증된 관리자 PK, 없으면 {@code null}
      */
@@ -29,12 +31,8 @@ public class SecurityUtil {
             return null;
         }
 
-        Object principal = authentication.getPrincipal();
-        if (principal instanceof UserDetails) {
-            UserDetails userDetails = (UserDetails) principal;
-            Admin admin = adminRepository.findByAdminId(userDetails.getUsername())
-                    .orElse(null);
-            return admin != null ? admin.getId() : null;
+        if (authentication.getPrincipal() instanceof AdminPrincipal principal) {
+            return principal.id();
         }
 
         return null;
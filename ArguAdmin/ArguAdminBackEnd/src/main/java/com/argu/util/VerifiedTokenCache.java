@@ -0,0 +1,106 @@
+package com.argu.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증을 마친 JWT를 보관하는 크기 제한 LRU 캐시.
+ * <p>
+ * 같은 토큰이 반복해서 들어오면 Base64 디코딩, JSON 파싱, HMAC 검증을 모두 건너뛰고 검증된 클레임을 돌려준다.
+ * <ul>
+ *     <li>키는 토큰 문자열 전체이므로 해시 충돌로 다른 토큰의 클레임을 돌려주지 않는다.</li>
+ *     <li>토큰 만료 시각이 지난 항목은 조회 시 버린다.</li>
+ *     <li>잠금 경합을 줄이기 위해 토큰 해시로 나눈 구간마다 별도의 LRU를 둔다.</li>
+ * </ul>
+ */
+public class VerifiedTokenCache {
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment[] segments;
+
+    /**
+     * @param maxSize 최대 보관 토큰 수 (0 이하이면 캐시하지 않는다)
+     */
+    public VerifiedTokenCache(int maxSize) {
+        if (maxSize <= 0) {
+            this.segments = null;
+            return;
+        }
+        int segmentSize = Math.max(1, maxSize / SEGMENT_COUNT);
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    /**
+     * 검증된 클레임을 조회한다.
+     *
+     * @param token 클라이언트가 보낸 JWT
+     * @return 만료되지 않은 검증된 클레임, 없으면 {@code null}
+     */
+    public Claims get(String token) {
+        if (segments == null) {
+            return null;
+        }
+        Segment segment = segmentFor(token);
+        synchronized (segment) {
+            Entry entry = segment.get(token);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= System.currentTimeMillis()) {
+                segment.remove(token);
+                return null;
+            }
+            return entry.claims();
+        }
+    }
+
+    /**
+     * 서명 검증을 마친 클레임을 저장한다.
+     * <p>
+     * 만료 시각이 없는 토큰은 언제까지 유효한지 알 수 없으므로 저장하지 않는다.
+     *
+     * @param token  클라이언트가 보낸 JWT
+     * @param claims 검증된 클레임 (불변)
+     */
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (segments == null || expiration == null) {
+            return;
+        }
+        Segment segment = segmentFor(token);
+        synchronized (segment) {
+            segment.put(token, new Entry(claims, expiration.getTime()));
+        }
+    }
+
+    private Segment segmentFor(String token) {
+        int hash = token.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    private record Entry(Claims claims, long expiresAt) {
+    }
+
+    /**
+     * 접근 순서 {@link LinkedHashMap}으로 구현한 구간 LRU.
+     */
+    private static final class Segment extends LinkedHashMap<String, Entry> {
+        private final int maxSize;
+
+        Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
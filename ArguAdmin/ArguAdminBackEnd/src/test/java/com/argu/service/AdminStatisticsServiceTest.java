@@ -0,0 +1,132 @@
+package com.argu.service;
+
+import com.argu.entity.Argu;
+import com.argu.entity.User;
+import com.argu.repository.ArguRepository;
+import com.argu.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link AdminStatisticsService} 현황 통계 테스트.
+ * <p>
+ * GROUP BY 집계로 계산한 Map이 엔티티를 모두 불러와 세던 이전 구현의 Map과 키와 값까지 같은지 확인한다.
+ * 상태가 비어 있는 행과 모든 상태에 걸친 숨김 논쟁도 포함한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({AdminStatisticsService.class, DailyStatsRollupService.class})
+class AdminStatisticsServiceTest {
+    private static final String[] USER_STATUSES = {"ACTIVE", "ACTIVE", "ACTIVE", "SUSPENDED", "DELETED", null};
+    private static final String[] ARGU_STATUSES = {"SCHEDULED", "ACTIVE", "ACTIVE", "ENDED", null};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArguRepository arguRepository;
+
+    @Autowired
+    private AdminStatisticsService adminStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        // 운영 DB에는 컬럼 제약이 생기기 전의 상태 없는 행이 남아 있을 수 있으므로 테스트 테이블에서도 허용한다
+        jdbcTemplate.execute("ALTER TABLE users ALTER COLUMN status SET NULL");
+        jdbcTemplate.execute("ALTER TABLE argu ALTER COLUMN status SET NULL");
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 30; i++) {
+            jdbcTemplate.update("INSERT INTO users (email, password, nickname, status, email_verified, created_at, updated_at) " +
+                    "VALUES (?, 'password', ?, ?, false, ?, ?)",
+                    "user" + i + "@argu.com", "user" + i, USER_STATUSES[i % USER_STATUSES.length], now, now);
+        }
+        jdbcTemplate.update("INSERT INTO categories (name, order_num, created_at, updated_at) VALUES ('category', 0, ?, ?)", now, now);
+        Long userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        Long categoryId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM categories", Long.class);
+
+        // 상태 5가지 × 숨김 여부가 모두 나오도록 상태 주기(5)와 숨김 주기(3)를 엇갈리게 함
+        for (int i = 0; i < 45; i++) {
+            jdbcTemplate.update("INSERT INTO argu (user_id, category_id, title, content, start_date, end_date, status, is_hidden, " +
+                    "view_count, like_count, comment_count, for_count, against_count, neutral_count, other_count, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, 'content', ?, ?, ?, ?, 0, 0, 0, 0, 0, 0, 0, ?, ?)",
+                    userId, categoryId, "title" + i, now, now.plusDays(1),
+                    ARGU_STATUSES[i % ARGU_STATUSES.length], i % 3 == 0, now, now);
+        }
+    }
+
+    @Test
+    void getUserStatistics_matchesFullScanCounts() {
+        Map<String, Object> stats = adminStatisticsService.getUserStatistics();
+
+        assertEquals(legacyUserStatistics(), stats);
+        assertEquals(30L, stats.get("totalUsers"));     // 상태 없는 회원도 전체 수에는 포함
+        assertEquals(15L, stats.get("activeUsers"));
+        assertEquals(5L, stats.get("suspendedUsers"));
+        assertEquals(5L, stats.get("deletedUsers"));
+    }
+
+    @Test
+    void getArguStatistics_matchesFullScanCounts() {
+        Map<String, Object> stats = adminStatisticsService.getArguStatistics();
+
+        assertEquals(legacyArguStatistics(), stats);
+        assertEquals(45L, stats.get("totalArgus"));
+        assertEquals(9L, stats.get("scheduledArgus"));
+        assertEquals(18L, stats.get("activeArgus"));
+        assertEquals(9L, stats.get("endedArgus"));
+        assertEquals(15L, stats.get("hiddenArgus"));   // 상태 없는 논쟁을 포함한 모든 상태의 숨김 논쟁
+    }
+
+    @Test
+    void statistics_returnZeroCountsWithoutRows() {
+        jdbcTemplate.update("DELETE FROM argu");
+        jdbcTemplate.update("DELETE FROM users");
+
+        assertEquals(legacyUserStatistics(), adminStatisticsService.getUserStatistics());
+        assertEquals(legacyArguStatistics(), adminStatisticsService.getArguStatistics());
+        assertEquals(0L, adminStatisticsService.getUserStatistics().get("totalUsers"));
+        assertEquals(0L, adminStatisticsService.getArguStatistics().get("hiddenArgus"));
+    }
+
+    // 이전 구현: 전체 엔티티를 불러와 상태별로 센다
+    private Map<String, Object> legacyUserStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalUsers", userRepository.count());
+        stats.put("activeUsers", userRepository.findAll().stream()
+                .filter(user -> user.getStatus() == User.UserStatus.ACTIVE).count());
+        stats.put("suspendedUsers", userRepository.findAll().stream()
+                .filter(user -> user.getStatus() == User.UserStatus.SUSPENDED).count());
+        stats.put("deletedUsers", userRepository.findAll().stream()
+                .filter(user -> user.getStatus() == User.UserStatus.DELETED).count());
+        return stats;
+    }
+
+    // 이전 구현: 상태별 COUNT와 전체 엔티티를 불러와 센 숨김 수
+    private Map<String, Object> legacyArguStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalArgus", arguRepository.count());
+        stats.put("scheduledArgus", arguRepository.countByStatus(Argu.ArguStatus.SCHEDULED));
+        stats.put("activeArgus", arguRepository.countByStatus(Argu.ArguStatus.ACTIVE));
+        stats.put("endedArgus", arguRepository.countByStatus(Argu.ArguStatus.ENDED));
+        stats.put("hiddenArgus", arguRepository.findAll().stream()
+                .filter(Argu::getIsHidden).count());
+        return stats;
+    }
+}
@@ -0,0 +1,209 @@
+package com.argu.service;
+
+import com.argu.entity.DailyStats;
+import com.argu.exception.BadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link DailyStatsRollupService} 테스트.
+ * <p>
+ * 집계 결과가 원본 테이블을 날짜별로 COUNT 한 값과 같은지 확인한다.
+ * 구간(chunk-days) 경계와 자정 직전·직후에 만든 행, 비어 있는 날짜 채우기, 잘못된 행의 백필 복구를 포함한다.
+ * 집계는 별도 트랜잭션에서 실행되므로 테스트 데이터도 트랜잭션 없이 저장하고 테스트마다 지운다.
+ */
+@DataJpaTest(properties = "argu.stats.rollup.chunk-days=" + DailyStatsRollupServiceTest.CHUNK_DAYS)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(DailyStatsRollupService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DailyStatsRollupServiceTest {
+    static final int CHUNK_DAYS = 3;                // 기간이 여러 구간으로 나뉘도록 작게 설정
+    private static final int DAYS = 10;             // 집계 기간 (구간 경계가 여러 번 포함됨)
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DailyStatsRollupService dailyStatsRollupService;
+
+    private final LocalDate today = LocalDate.now();
+    private final LocalDate from = today.minusDays(DAYS);
+    private final LocalDate to = today.minusDays(1);
+    private int sequence;
+    private long userId;
+    private long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        // 관리자 백엔드에는 ArguOpinion 엔티티가 없으므로 집계에 필요한 컬럼만 가진 테이블을 만든다
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS argu_opinion " +
+                "(id BIGINT AUTO_INCREMENT PRIMARY KEY, created_at DATETIME NOT NULL)");
+
+        // 논쟁 작성자는 집계 기간 밖에 가입
+        userId = insertUser(from.minusDays(5).atTime(LocalTime.NOON));
+        jdbcTemplate.update("INSERT INTO categories (name, order_num, created_at, updated_at) VALUES ('category', 0, ?, ?)",
+                LocalDateTime.now(), LocalDateTime.now());
+        categoryId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM categories", Long.class);
+
+        // 날짜마다 건수가 달라지도록 하고, 자정 직후(00:00:00)와 자정 직전(23:59:59) 행을 함께 넣는다
+        for (LocalDate date = from.minusDays(1); !date.isAfter(today); date = date.plusDays(1)) {
+            int index = (int) (date.toEpochDay() % 4);
+            insertUser(date.atStartOfDay());
+            for (int i = 0; i < index; i++) {
+                insertUser(date.atTime(LocalTime.NOON));
+            }
+            insertUser(date.atTime(23, 59, 59));
+            for (int i = 0; i <= index % 3; i++) {
+                insertArgu(date.atTime(i, 0));
+            }
+            if (index % 2 == 0) {
+                insertOpinion(date.atStartOfDay());
+                insertOpinion(date.atTime(23, 59, 59));
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM daily_stats");
+        jdbcTemplate.update("DELETE FROM argu_opinion");
+        jdbcTemplate.update("DELETE FROM argu");
+        jdbcTemplate.update("DELETE FROM categories");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void backfill_matchesPerDayCountsAcrossChunksAndMidnight() {
+        int days = dailyStatsRollupService.backfill(from, to);
+
+        assertEquals(DAYS, days);
+        assertEquals(DAYS, countStoredRows());
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            assertMatchesSource(storedRow(date));
+        }
+    }
+
+    @Test
+    void getDailyStats_fillsMissingDaysAndCountsTodayLive() {
+        List<DailyStats> stats = dailyStatsRollupService.getDailyStats(from, today);
+
+        assertEquals(DAYS + 1, stats.size());
+        for (int i = 0; i < stats.size(); i++) {
+            assertEquals(from.plusDays(i), stats.get(i).getStatDate());
+            assertMatchesSource(stats.get(i));
+        }
+        // 지난 날짜는 저장되고 오늘은 저장하지 않음
+        assertEquals(DAYS, countStoredRows());
+        assertEquals(0, countStoredRows(today));
+    }
+
+    @Test
+    void getDailyStats_fillsGapsBetweenStoredDays() {
+        dailyStatsRollupService.backfill(from, to);
+        // 떨어져 있는 두 날짜의 행을 지우고, 그 사이 날짜의 행은 잘못된 값으로 남겨 둔다
+        jdbcTemplate.update("DELETE FROM daily_stats WHERE stat_date IN (?, ?)", from.plusDays(2), from.plusDays(6));
+        jdbcTemplate.update("UPDATE daily_stats SET new_users = 999 WHERE stat_date = ?", from.plusDays(4));
+
+        List<DailyStats> stats = dailyStatsRollupService.getDailyStats(from, to);
+
+        assertEquals(DAYS, stats.size());
+        assertEquals(DAYS, countStoredRows());
+        assertMatchesSource(stats.get(2));
+        assertMatchesSource(stats.get(6));
+        // 빈 날짜 사이의 구간은 다시 집계되므로 잘못된 값도 함께 바로잡힘
+        assertMatchesSource(stats.get(4));
+    }
+
+    @Test
+    void backfill_repairsCorruptedRow() {
+        dailyStatsRollupService.backfill(from, to);
+        LocalDate corrupted = to.minusDays(1);
+        jdbcTemplate.update("UPDATE daily_stats SET new_users = 999, new_opinions = 999 WHERE stat_date = ?", corrupted);
+        assertEquals(999L, dailyStatsRollupService.getDailyStats(corrupted, corrupted).get(0).getNewUsers());
+
+        assertEquals(1, dailyStatsRollupService.backfill(corrupted, corrupted));
+
+        assertMatchesSource(dailyStatsRollupService.getDailyStats(corrupted, corrupted).get(0));
+    }
+
+    @Test
+    void backfill_rejectsInvalidRange() {
+        assertThrows(BadRequestException.class, () -> dailyStatsRollupService.backfill(to, from));
+        assertThrows(BadRequestException.class, () -> dailyStatsRollupService.backfill(null, to));
+        assertThrows(BadRequestException.class,
+                () -> dailyStatsRollupService.backfill(to.minusDays(DailyStatsRollupService.MAX_DAYS), to));
+    }
+
+    // 원본 테이블을 날짜별로 직접 COUNT 한 값과 비교
+    private void assertMatchesSource(DailyStats stats) {
+        LocalDate date = stats.getStatDate();
+        assertEquals(countOn("users", date), stats.getNewUsers(), "users " + date);
+        assertEquals(countOn("argu", date), stats.getNewArgus(), "argu " + date);
+        assertEquals(countOn("comments", date), stats.getNewComments(), "comments " + date);
+        assertEquals(countOn("likes", date), stats.getNewLikes(), "likes " + date);
+        assertEquals(countOn("argu_opinion", date), stats.getNewOpinions(), "argu_opinion " + date);
+        assertEquals(countOn("reports", date), stats.getNewReports(), "reports " + date);
+    }
+
+    private long countOn(String table, LocalDate date) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE created_at >= ? AND created_at < ?",
+                Long.class, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    private DailyStats storedRow(LocalDate date) {
+        return jdbcTemplate.queryForObject("SELECT * FROM daily_stats WHERE stat_date = ?", (rs, rowNum) -> DailyStats.builder()
+                .statDate(rs.getObject("stat_date", LocalDate.class))
+                .newUsers(rs.getLong("new_users"))
+                .newArgus(rs.getLong("new_argus"))
+                .newComments(rs.getLong("new_comments"))
+                .newLikes(rs.getLong("new_likes"))
+                .newOpinions(rs.getLong("new_opinions"))
+                .newReports(rs.getLong("new_reports"))
+                .build(), date);
+    }
+
+    private long countStoredRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM daily_stats", Long.class);
+    }
+
+    private long countStoredRows(LocalDate date) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM daily_stats WHERE stat_date = ?", Long.class, date);
+    }
+
+    private long insertUser(LocalDateTime createdAt) {
+        int index = sequence++;
+        jdbcTemplate.update("INSERT INTO users (email, password, nickname, status, email_verified, created_at, updated_at) " +
+                "VALUES (?, 'password', ?, 'ACTIVE', false, ?, ?)",
+                "user" + index + "@argu.com", "user" + index, createdAt, createdAt);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+    }
+
+    private void insertArgu(LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO argu (user_id, category_id, title, content, start_date, end_date, status, is_hidden, " +
+                "view_count, like_count, comment_count, for_count, against_count, neutral_count, other_count, created_at, updated_at) " +
+                "VALUES (?, ?, 'title', 'content', ?, ?, 'ACTIVE', false, 0, 0, 0, 0, 0, 0, 0, ?, ?)",
+                userId, categoryId, createdAt, createdAt.plusDays(1), createdAt, createdAt);
+    }
+
+    private void insertOpinion(LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO argu_opinion (created_at) VALUES (?)", createdAt);
+    }
+}
@@ -0,0 +1,19 @@
+-- argu 테이블 제목/내용 FULLTEXT 인덱스 추가 스크립트
+-- 논쟁 검색(/api/argu/search, 관리자 논쟁 검색)에서 LIKE '%키워드%' 대신 MATCH ... AGAINST 를 사용합니다.
+-- 사용자 백엔드는 시작 시 인덱스가 없으면 자동으로 생성합니다 (argu.search.fulltext-auto-create).
+-- 운영 DB에서 미리 생성하거나 자동 생성을 끈 경우 이 스크립트를 사용합니다.
+
+USE argu_db;
+
+-- 1. ngram 토큰 크기 확인 (한국어 검색은 기본값 2 권장)
+-- 값을 바꾸려면 my.cnf 의 [mysqld] 섹션에 ngram_token_size=2 를 설정하고 MySQL을 재시작해야 합니다.
+SHOW VARIABLES LIKE 'ngram_token_size';
+
+-- 2. 기존 FULLTEXT 인덱스가 있다면 제거 (ngram 파서 없이 만든 경우)
+-- DROP INDEX idx_title_content ON argu;
+
+-- 3. ngram 파서를 사용하는 FULLTEXT 인덱스 생성
+ALTER TABLE argu ADD FULLTEXT INDEX idx_title_content (title, content) WITH PARSER ngram;
+
+-- 4. 인덱스 확인
+SHOW INDEX FROM argu WHERE Key_name = 'idx_title_content';
@@ -0,0 +1,23 @@
+package com.argu.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL FULLTEXT 검색 함수 등록
+ * JPQL에서 match_against(title, content, :query)로 MATCH ... AGAINST 구문을 사용할 수 있도록 합니다.
+ * 결과 값은 관련도 점수이며, 0보다 크면 검색식과 일치하는 행입니다.
+ * META-INF/services/org.hibernate.boot.model.FunctionContributor 파일로 Hibernate에 등록됩니다.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "match_against",
+                "match(?1, ?2) against (?3 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
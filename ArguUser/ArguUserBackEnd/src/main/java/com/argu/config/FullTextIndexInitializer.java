@@ -0,0 +1,62 @@
+package com.argu.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 논쟁 제목/내용 FULLTEXT 인덱스 생성
+ * ddl-auto: update 는 FULLTEXT 인덱스를 만들지 않으므로, 애플리케이션 시작 시 인덱스가 없으면 ngram 파서로 생성합니다.
+ * MySQL이 아닌 DB(테스트용 H2 등)에서는 아무 작업도 하지 않습니다.
+ * 수동으로 생성하려면 add_fulltext_index.sql 스크립트를 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextIndexInitializer {
+    private static final String INDEX_NAME = "idx_title_content";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${argu.search.fulltext-auto-create:true}")
+    private boolean autoCreate;                     // 시작 시 FULLTEXT 인덱스 자동 생성 여부
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexIfMissing() {
+        if (!autoCreate || !isMySql()) {
+            return;
+        }
+
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'argu' AND index_name = ?",
+                Integer.class, INDEX_NAME);
+        if (count != null && count > 0) {
+            return;
+        }
+
+        log.info("[ARGU-SEARCH] FULLTEXT 인덱스 생성 시작 - index={}", INDEX_NAME);
+        jdbcTemplate.execute("ALTER TABLE argu ADD FULLTEXT INDEX " + INDEX_NAME + " (title, content) WITH PARSER ngram");
+        log.info("[ARGU-SEARCH] FULLTEXT 인덱스 생성 완료 - index={}", INDEX_NAME);
+    }
+
+    private boolean isMySql() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equalsIgnoreCase(productName);
+        } catch (MetaDataAccessException e) {
+            log.warn("[ARGU-SEARCH] DB 종류 확인 실패 - FULLTEXT 인덱스 생성을 건너뜁니다", e);
+            return false;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
     private String secret;
     private Long expiration;
+    private int verifiedCacheSize = 10000;  // 서명 검증을 건너뛰는 최근 검증 토큰 수 (0이면 사용 안 함)
 }
 
 
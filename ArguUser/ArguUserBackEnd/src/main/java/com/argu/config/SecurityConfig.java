@@ -2,6 +2,8 @@ package com.argu.config;
 
 import com.argu.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,6 +14,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -20,28 +23,70 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Spring Security 설정 클래스
  * JWT 기반 인증 및 CORS 설정을 관리합니다.
  */
+@Slf4j
 @Configuration
 @EnableWebSecurity                    // Spring Security 활성화
 @EnableMethodSecurity                 // 메서드 레벨 보안 활성화
 @RequiredArgsConstructor
 public class SecurityConfig {
+    private static final String BCRYPT_ID = "bcrypt";                // 비밀번호 해시 알고리즘 ID
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;  // JWT 인증 필터
 
     /**
      * 비밀번호 암호화 인코더 빈 등록
-     * BCrypt 알고리즘을 사용하여 비밀번호를 해시화합니다.
-     * 
-     * @return BCryptPasswordEncoder 인스턴스
+     * 해시 앞에 알고리즘 ID({bcrypt})를 붙이는 DelegatingPasswordEncoder를 사용하여 이후 알고리즘/비용 변경에 대비합니다.
+     * - ID가 없는 기존 해시는 BCrypt로 검증하고, 로그인 시 현재 설정으로 다시 해시합니다 (AuthService)
+     * - BCrypt 비용(strength)을 0으로 설정하면 시작 시 한 번 해시 시간을 측정하여 목표 시간에 맞는 비용을 고릅니다
+     *
+     * @param strength BCrypt 비용 (0이면 자동 보정)
+     * @param minStrength 자동 보정 시 최소 비용
+     * @param maxStrength 자동 보정 시 최대 비용
+     * @param targetHashMs 자동 보정 시 해시 1회 목표 시간 (밀리초)
+     * @return DelegatingPasswordEncoder 인스턴스
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${argu.auth.password.bcrypt-strength:0}") int strength,
+                                           @Value("${argu.auth.password.min-strength:10}") int minStrength,
+                                           @Value("${argu.auth.password.max-strength:14}") int maxStrength,
+                                           @Value("${argu.auth.password.target-hash-ms:100}") long targetHashMs) {
+        int bcryptStrength = strength > 0 ? strength : calibrateBcryptStrength(minStrength, maxStrength, targetHashMs);
+        log.info("[AUTH] 비밀번호 인코더 설정 - bcrypt strength={}", bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT_ID, new BCryptPasswordEncoder(bcryptStrength));
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(bcryptStrength));  // ID가 없는 기존 BCrypt 해시 검증
+        return encoder;
+    }
+
+    /**
+     * BCrypt 비용 보정
+     * 최소 비용으로 해시 시간을 측정한 뒤, 비용이 1 오를 때마다 시간이 두 배가 되는 점을 이용해 목표 시간을 넘지 않는 가장 큰 비용을 고릅니다.
+     * 최소 비용보다 낮추지는 않으므로 이미 저장된 해시가 약해지는 일은 없습니다.
+     */
+    private int calibrateBcryptStrength(int minStrength, int maxStrength, long targetHashMs) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration");                    // JIT 워밍업
+        long started = System.nanoTime();
+        probe.encode("calibration");
+        double elapsedMs = Math.max(0.1, (System.nanoTime() - started) / 1_000_000.0);
+
+        int strength = minStrength;
+        while (strength < maxStrength && elapsedMs * 2 <= targetHashMs) {
+            elapsedMs *= 2;
+            strength++;
+        }
+        log.info("[AUTH] BCrypt 비용 보정 - strength={}, 예상 해시 시간={}ms", strength, Math.round(elapsedMs));
+        return strength;
     }
 
     /**
@@ -81,6 +126,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.DELETE, "/api/comments/**").authenticated() // 댓글 삭제는 인증 필요 (DELETE)
                         .requestMatchers(HttpMethod.GET, "/api/opinions/**").permitAll()  // 의견 조회 API는 모두 허용 (GET)
                         .requestMatchers(HttpMethod.POST, "/api/opinions").authenticated() // 의견 작성은 인증 필요 (POST)
+                        .requestMatchers("/ws-chat/**").permitAll()       // 채팅 WebSocket 연결 허용 (인증은 STOMP CONNECT에서 처리)
                         .requestMatchers("/files/**").permitAll()         // 업로드된 파일 접근 허용
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()  // Swagger UI 허용
                         .requestMatchers("/api-docs/**", "/v3/api-docs/**").permitAll()     // API 문서 허용
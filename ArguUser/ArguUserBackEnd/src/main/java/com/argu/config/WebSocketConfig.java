@@ -0,0 +1,97 @@
+package com.argu.config;
+
+import com.argu.security.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * WebSocket(STOMP) 설정 클래스
+ * 논쟁 실시간 채팅을 위한 STOMP 엔드포인트와 메모리 브로커를 설정합니다.
+ * - 연결: /ws-chat (Authorization 헤더는 STOMP CONNECT 프레임에 담아 전송)
+ * - 구독: /topic/argu/{arguId}/chat (메시지), /app/argu/{arguId}/chat/history (최근 메시지 1회 응답), /user/queue/errors (오류)
+ * - 전송: /app/argu/{arguId}/chat
+ * 노드당 수천 개의 연결을 감당할 수 있도록 전송 스레드 수와 연결별 전송 버퍼/시간을 제한하여 느린 연결이 다른 연결을 막지 않도록 합니다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Value("${argu.chat.allowed-origins:http://localhost:9002}")
+    private String[] allowedOrigins;                    // 허용할 Origin (CORS 설정과 동일)
+
+    @Value("${argu.chat.heartbeat-ms:10000}")
+    private long heartbeatMs;                           // STOMP 하트비트 주기 (끊긴 연결 감지)
+
+    @Value("${argu.chat.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;                        // 연결 하나에 전송이 막혀 있을 수 있는 최대 시간 (초과 시 연결 종료)
+
+    @Value("${argu.chat.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;                    // 연결별 전송 대기 버퍼 최대 크기 (바이트)
+
+    @Value("${argu.chat.message-size-limit:16384}")
+    private int messageSizeLimit;                       // 수신 메시지 최대 크기 (바이트)
+
+    @Value("${argu.chat.inbound-threads:8}")
+    private int inboundThreads;                         // 클라이언트 → 서버 메시지 처리 스레드 수
+
+    @Value("${argu.chat.outbound-threads:16}")
+    private int outboundThreads;                        // 서버 → 클라이언트 전송 스레드 수
+
+    @Override
+    public void registerStompEndpoints(@NonNull StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws-chat")
+                .setAllowedOrigins(allowedOrigins);
+    }
+
+    /**
+     * STOMP 하트비트 전용 스케줄러
+     * 컨테이너가 초기화/종료를 관리하도록 빈으로 등록합니다.
+     * 자동 주입 대상에서 제외하여 @Scheduled 작업이 사용하는 스케줄러 선택에 영향을 주지 않습니다.
+     */
+    @Bean(autowireCandidate = false)
+    public ThreadPoolTaskScheduler stompHeartbeatScheduler() {
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.setThreadNamePrefix("stomp-heartbeat-");
+        return heartbeatScheduler;
+    }
+
+    @Override
+    public void configureMessageBroker(@NonNull MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                .setTaskScheduler(stompHeartbeatScheduler());
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(@NonNull ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+        registration.taskExecutor().corePoolSize(inboundThreads).maxPoolSize(inboundThreads);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(@NonNull ChannelRegistration registration) {
+        registration.taskExecutor().corePoolSize(outboundThreads).maxPoolSize(outboundThreads);
+    }
+
+    @Override
+    public void configureWebSocketTransport(@NonNull WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+}
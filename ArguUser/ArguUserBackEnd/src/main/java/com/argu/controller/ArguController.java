@@ -4,8 +4,11 @@ import com.argu.dto.request.CreateArguRequest;
 import com.argu.dto.request.UpdateArguRequest;
 import com.argu.dto.response.ApiResponse;
 import com.argu.dto.response.ArguResponse;
+import com.argu.dto.response.ArguUserStateResponse;
+import com.argu.dto.response.CursorResponse;
 import com.argu.entity.Argu;
 import com.argu.service.ArguService;
+import com.argu.service.ArguUserStateService;
 import com.argu.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -18,6 +21,8 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 논쟁(Argu) 관련 REST API 컨트롤러
  * 논쟁 생성, 조회, 검색, 삭제 등의 기능을 제공합니다.
@@ -29,6 +34,7 @@ import org.springframework.web.bind.annotation.*;
 public class ArguController {
     private final ArguService arguService;      // 논쟁 비즈니스 로직 서비스
     private final SecurityUtil securityUtil;    // 보안 유틸리티 (현재 사용자 정보 조회)
+    private final ArguUserStateService arguUserStateService;  // 내 좋아요/북마크/입장 상태 조회
 
     /**
      * 새로운 논쟁 생성
@@ -61,6 +67,7 @@ public class ArguController {
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ArguResponse>> getArguById(@PathVariable Long id) {
         ArguResponse response = arguService.getArguById(id);
+        arguUserStateService.fill(securityUtil.getCurrentUserId(), List.of(response));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -68,7 +75,7 @@ public class ArguController {
      * 전체 논쟁 목록 조회 (페이징)
      * 
      * @param status 논쟁 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
-     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param sort 정렬 기준 (hot, latest, popular, comments, views)
      * @param pageable 페이징 정보 (기본값: 페이지당 20개)
      * @return 논쟁 목록 (페이징된 결과)
      */
@@ -78,6 +85,29 @@ public class ArguController {
             @RequestParam(required = false, defaultValue = "latest") String sort,
             @PageableDefault(size = 20) Pageable pageable) {
         Page<ArguResponse> response = arguService.getAllArgus(pageable, sort, status);
+        arguUserStateService.fill(securityUtil.getCurrentUserId(), response.getContent());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 전체 논쟁 목록 커서 조회 (무한 스크롤용)
+     * 전체 개수를 계산하지 않으며, 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.
+     * 
+     * @param status 논쟁 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
+     * @param sort 정렬 기준 (hot, latest, popular, comments, views)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 20, 최대 100)
+     * @return 논쟁 목록과 다음 커서
+     */
+    @Operation(summary = "논쟁 목록 커서 조회", description = "커서(키셋) 기반으로 논쟁 목록을 조회합니다. 전체 개수는 제공하지 않습니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<ArguResponse>>> getArgusByCursor(
+            @RequestParam(required = false) Argu.ArguStatus status,
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        CursorResponse<ArguResponse> response = arguService.getArgusByCursor(null, sort, status, cursor, size);
+        arguUserStateService.fill(securityUtil.getCurrentUserId(), response.getContent());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -86,7 +116,7 @@ public class ArguController {
      * 
      * @param categoryId 카테고리 ID
      * @param status 논쟁 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
-     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param sort 정렬 기준 (hot, latest, popular, comments, views)
      * @param pageable 페이징 정보 (기본값: 페이지당 20개)
      * @return 해당 카테고리의 논쟁 목록 (페이징된 결과)
      */
@@ -97,6 +127,50 @@ public class ArguController {
             @RequestParam(required = false, defaultValue = "latest") String sort,
             @PageableDefault(size = 20) Pageable pageable) {
         Page<ArguResponse> response = arguService.getArgusByCategory(categoryId, pageable, sort, status);
+        arguUserStateService.fill(securityUtil.getCurrentUserId(), response.getContent());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 카테고리별 논쟁 목록 커서 조회 (무한 스크롤용)
+     * 
+     * @param categoryId 카테고리 ID
+     * @param status 논쟁 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
+     * @param sort 정렬 기준 (hot, latest, popular, comments, views)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 20, 최대 100)
+     * @return 해당 카테고리의 논쟁 목록과 다음 커서
+     */
+    @Operation(summary = "카테고리별 논쟁 목록 커서 조회", description = "커서(키셋) 기반으로 카테고리별 논쟁 목록을 조회합니다.")
+    @GetMapping("/category/{categoryId}/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<ArguResponse>>> getArgusByCategoryCursor(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) Argu.ArguStatus status,
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        CursorResponse<ArguResponse> response = arguService.getArgusByCursor(categoryId, sort, status, cursor, size);
+        arguUserStateService.fill(securityUtil.getCurrentUserId(), response.getContent());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 여러 논쟁의 내 상태 조회 (좋아요/북마크/입장)
+     * 목록 화면에서 카드마다 따로 요청하지 않고 한 번에 조회합니다.
+     * 
+     * @param ids 논쟁 ID 목록 (최대 100개)
+     * @return 요청 순서대로 정렬된 논쟁별 내 상태
+     */
+    @Operation(summary = "내 논쟁 상태 일괄 조회", description = "여러 논쟁에 대한 내 좋아요/북마크/입장 여부를 한 번에 조회합니다. 인증이 필요합니다.")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/states")
+    public ResponseEntity<ApiResponse<List<ArguUserStateResponse>>> getMyStates(@RequestParam List<Long> ids) {
+        Long userId = securityUtil.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
+        }
+
+        List<ArguUserStateResponse> response = arguUserStateService.getStates(userId, ids);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -107,7 +181,7 @@ public class ArguController {
      * @param keyword 검색 키워드
      * @param categoryId 카테고리 ID (선택적)
      * @param status 논쟁 상태 (선택적)
-     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param sort 정렬 기준 (relevance: 관련도순, latest, popular, comments, views)
      * @param pageable 페이징 정보 (기본값: 페이지당 20개)
      * @return 검색된 논쟁 목록 (페이징된 결과)
      */
@@ -119,6 +193,7 @@ public class ArguController {
             @RequestParam(required = false, defaultValue = "latest") String sort,
             @PageableDefault(size = 20) Pageable pageable) {
         Page<ArguResponse> response = arguService.searchArgus(keyword, categoryId, status, pageable, sort);
+        arguUserStateService.fill(securityUtil.getCurrentUserId(), response.getContent());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
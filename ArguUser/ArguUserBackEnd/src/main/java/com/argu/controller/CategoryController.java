@@ -4,9 +4,13 @@ import com.argu.dto.response.ApiResponse;
 import com.argu.dto.response.CategoryResponse;
 import com.argu.service.CategoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -15,10 +19,26 @@ import java.util.List;
 public class CategoryController {
     private final CategoryService categoryService;
 
+    @Value("${argu.category.cache.http-max-age-seconds:30}")
+    private long httpMaxAgeSeconds;     // 브라우저/프록시 캐시 유지 시간
+
+    /**
+     * 전체 카테고리 목록 조회
+     * 서버 캐시에 더해 Cache-Control(max-age)과 ETag를 내려 브라우저/프록시도 캐시하도록 합니다.
+     * 목록이 바뀌지 않았으면 If-None-Match 요청에 본문 없이 304를 응답합니다.
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAllCategories() {
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAllCategories(WebRequest request) {
+        // ETag를 목록보다 먼저 읽어, 그 사이에 바뀐 목록이 이전 ETag로 캐시되지 않도록 함
+        String etag = categoryService.getAllCategoriesETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         List<CategoryResponse> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(ApiResponse.success(categories));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(httpMaxAgeSeconds)).cachePublic())
+                .eTag(etag)
+                .body(ApiResponse.success(categories));
     }
 
     @GetMapping("/{id}")
@@ -27,5 +47,3 @@ public class CategoryController {
         return ResponseEntity.ok(ApiResponse.success(category));
     }
 }
-
-
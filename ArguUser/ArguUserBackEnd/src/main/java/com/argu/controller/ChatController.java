@@ -0,0 +1,90 @@
+package com.argu.controller;
+
+import com.argu.dto.request.ChatMessageRequest;
+import com.argu.dto.response.ApiResponse;
+import com.argu.dto.response.ChatMessageResponse;
+import com.argu.exception.BadRequestException;
+import com.argu.exception.ResourceNotFoundException;
+import com.argu.exception.ServiceUnavailableException;
+import com.argu.exception.UnauthorizedException;
+import com.argu.security.ChatPrincipal;
+import com.argu.service.ChatService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * 논쟁 실시간 채팅 컨트롤러
+ * STOMP 메시지 처리와 최근 메시지 조회 API를 제공합니다.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class ChatController {
+    private final ChatService chatService;
+
+    /**
+     * 채팅 메시지 전송 (STOMP SEND /app/argu/{arguId}/chat)
+     * 채팅방 토픽(/topic/argu/{arguId}/chat) 구독자 전체에게 전달됩니다.
+     */
+    @MessageMapping("/argu/{arguId}/chat")
+    public void sendMessage(@DestinationVariable Long arguId, @Payload ChatMessageRequest request, Principal principal) {
+        if (!(principal instanceof ChatPrincipal sender)) {
+            throw new UnauthorizedException("인증이 필요합니다");
+        }
+        chatService.send(arguId, sender, request.getMessage());
+    }
+
+    /**
+     * 최근 메시지 구독 (STOMP SUBSCRIBE /app/argu/{arguId}/chat/history)
+     * 구독한 연결에만 최근 메시지 목록을 한 번 보냅니다.
+     */
+    @SubscribeMapping("/argu/{arguId}/chat/history")
+    public List<ChatMessageResponse> getHistory(@DestinationVariable Long arguId) {
+        return chatService.getRecentMessages(arguId);
+    }
+
+    /**
+     * 최근 메시지 조회 (WebSocket을 쓰지 않는 클라이언트용)
+     */
+    @GetMapping("/api/argu/{arguId}/chat/messages")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> getRecentMessages(@PathVariable Long arguId) {
+        return ResponseEntity.ok(ApiResponse.success(chatService.getRecentMessages(arguId)));
+    }
+
+    /**
+     * 채팅 처리 오류를 보낸 연결에만 전달 (/user/queue/errors)
+     * 서비스가 사용자에게 보여주려고 던진 예외만 메시지를 그대로 전달합니다.
+     */
+    @MessageExceptionHandler({BadRequestException.class, ResourceNotFoundException.class,
+            UnauthorizedException.class, ServiceUnavailableException.class})
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public ApiResponse<Object> handleException(RuntimeException e) {
+        log.warn("[CHAT] 채팅 요청 처리 실패: {}", e.getMessage());
+        return ApiResponse.error(e.getMessage());
+    }
+
+    /**
+     * 예상치 못한 채팅 처리 오류 (내부 메시지는 노출하지 않음)
+     */
+    @MessageExceptionHandler
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public ApiResponse<Object> handleUnexpectedException(Exception e) {
+        log.error("[CHAT] 예상치 못한 채팅 처리 오류: {}", e.getClass().getName(), e);
+        return ApiResponse.error("서버 오류가 발생했습니다.");
+    }
+}
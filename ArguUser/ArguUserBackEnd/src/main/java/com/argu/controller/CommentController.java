@@ -3,6 +3,7 @@ package com.argu.controller;
 import com.argu.dto.request.CreateCommentRequest;
 import com.argu.dto.response.ApiResponse;
 import com.argu.dto.response.CommentResponse;
+import com.argu.dto.response.CursorResponse;
 import com.argu.service.CommentService;
 import com.argu.util.SecurityUtil;
 import jakarta.validation.Valid;
@@ -40,6 +41,15 @@ public class CommentController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<ApiResponse<CursorResponse<CommentResponse>>> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        CursorResponse<CommentResponse> response = commentService.getReplies(commentId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Object>> deleteComment(@PathVariable Long id) {
         Long userId = securityUtil.getCurrentUserId();
@@ -15,14 +15,38 @@ public class LikeController {
     private final SecurityUtil securityUtil;
 
     @PostMapping("/argu/{arguId}")
-    public ResponseEntity<ApiResponse<Object>> toggleLike(@PathVariable Long arguId) {
+    public ResponseEntity<ApiResponse<Boolean>> toggleLike(@PathVariable Long arguId) {
         Long userId = securityUtil.getCurrentUserId();
         if (userId == null) {
             return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
         }
         
-        likeService.toggleLike(arguId, userId);
-        return ResponseEntity.ok(ApiResponse.success("좋아요가 처리되었습니다", null));
+        boolean liked = likeService.toggleLike(arguId, userId);
+        return ResponseEntity.ok(ApiResponse.success("좋아요가 처리되었습니다", liked));
+    }
+
+    // 좋아요 추가 (멱등: 여러 번 호출해도 결과가 같음)
+    @PutMapping("/argu/{arguId}")
+    public ResponseEntity<ApiResponse<Boolean>> like(@PathVariable Long arguId) {
+        Long userId = securityUtil.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
+        }
+
+        likeService.like(arguId, userId);
+        return ResponseEntity.ok(ApiResponse.success("좋아요가 처리되었습니다", true));
+    }
+
+    // 좋아요 취소 (멱등: 여러 번 호출해도 결과가 같음)
+    @DeleteMapping("/argu/{arguId}")
+    public ResponseEntity<ApiResponse<Boolean>> unlike(@PathVariable Long arguId) {
+        Long userId = securityUtil.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
+        }
+
+        likeService.unlike(arguId, userId);
+        return ResponseEntity.ok(ApiResponse.success("좋아요가 취소되었습니다", false));
     }
 
     @GetMapping("/argu/{arguId}")
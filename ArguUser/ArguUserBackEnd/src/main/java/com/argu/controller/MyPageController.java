@@ -3,6 +3,7 @@ package com.argu.controller;
 import com.argu.dto.response.ApiResponse;
 import com.argu.dto.response.ArguResponse;
 import com.argu.dto.response.CommentResponse;
+import com.argu.dto.response.CursorResponse;
 import com.argu.entity.ArguOpinion;
 import com.argu.service.MyPageService;
 import com.argu.util.SecurityUtil;
@@ -72,6 +73,29 @@ public class MyPageController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 내 댓글 목록 조회 (커서 페이징)
+     * 무한 스크롤용으로 현재 로그인한 사용자가 작성한 댓글 목록을 최신순으로 조회합니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (없으면 첫 페이지)
+     * @param size 페이지 크기 (기본값: 20, 최대 100)
+     * @return 내 댓글 목록과 다음 커서
+     */
+    @Operation(summary = "내 댓글 목록 조회 (커서)", description = "무한 스크롤용으로 현재 로그인한 사용자가 작성한 댓글 목록을 최신순으로 조회합니다.")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/comments/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<CommentResponse>>> getMyCommentsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        Long userId = securityUtil.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
+        }
+
+        CursorResponse<CommentResponse> response = myPageService.getMyCommentsByCursor(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 참여한 논쟁 목록 조회
      * 현재 로그인한 사용자가 입장을 선택한 논쟁 목록을 조회합니다.
@@ -111,5 +135,27 @@ public class MyPageController {
         Page<ArguResponse> response = myPageService.getMyLikedArgus(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
-}
 
+    /**
+     * 받은 좋아요 목록 조회 (커서 페이징)
+     * 무한 스크롤용으로 현재 로그인한 사용자가 작성한 논쟁 중 좋아요를 받은 논쟁 목록을 좋아요 수가 많은 순으로 조회합니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (없으면 첫 페이지)
+     * @param size 페이지 크기 (기본값: 20, 최대 100)
+     * @return 받은 좋아요 목록과 다음 커서
+     */
+    @Operation(summary = "받은 좋아요 목록 조회 (커서)", description = "무한 스크롤용으로 좋아요를 받은 내 논쟁 목록을 좋아요 수가 많은 순으로 조회합니다.")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/likes/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<ArguResponse>>> getMyLikedArgusByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        Long userId = securityUtil.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
+        }
+
+        CursorResponse<ArguResponse> response = myPageService.getMyLikedArgusByCursor(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -2,21 +2,27 @@ package com.argu.controller;
 
 import com.argu.dto.request.CreateOpinionRequest;
 import com.argu.dto.response.ApiResponse;
+import com.argu.dto.response.CursorResponse;
+import com.argu.dto.response.OpinionResponse;
+import com.argu.dto.response.OpinionTallyResponse;
 import com.argu.entity.ArguOpinion;
+import com.argu.entity.ArguOpinion.OpinionSide;
 import com.argu.service.ArguOpinionService;
+import com.argu.service.OpinionTallyHub;
 import com.argu.util.SecurityUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/opinions")
 @RequiredArgsConstructor
 public class OpinionController {
     private final ArguOpinionService arguOpinionService;
+    private final OpinionTallyHub opinionTallyHub;
     private final SecurityUtil securityUtil;
 
     @PostMapping
@@ -32,9 +38,30 @@ public class OpinionController {
     }
 
     @GetMapping("/argu/{arguId}")
-    public ResponseEntity<ApiResponse<List<ArguOpinion>>> getOpinionsByArgu(@PathVariable Long arguId) {
-        List<ArguOpinion> opinions = arguOpinionService.getOpinionsByArgu(arguId);
-        return ResponseEntity.ok(ApiResponse.success(opinions));
+    public ResponseEntity<ApiResponse<CursorResponse<OpinionResponse>>> getOpinionsByArgu(
+            @PathVariable Long arguId,
+            @RequestParam(required = false) OpinionSide side,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        CursorResponse<OpinionResponse> response = arguOpinionService.getOpinionsByArgu(arguId, side, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 논쟁 입장별 집계 조회
+     */
+    @GetMapping("/argu/{arguId}/tally")
+    public ResponseEntity<ApiResponse<OpinionTallyResponse>> getTally(@PathVariable Long arguId) {
+        return ResponseEntity.ok(ApiResponse.success(opinionTallyHub.getTally(arguId)));
     }
-}
 
+    /**
+     * 논쟁 입장별 실시간 집계 스트림 (SSE)
+     * 연결 직후 현재 집계를, 이후 입장 선택이 있을 때마다 tally 이벤트로 최신 집계를 보냅니다.
+     * 짧은 시간 안의 여러 변경은 한 번의 이벤트로 합쳐서 보냅니다.
+     */
+    @GetMapping(value = "/argu/{arguId}/tally/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTally(@PathVariable Long arguId) {
+        return opinionTallyHub.subscribe(arguId);
+    }
+}
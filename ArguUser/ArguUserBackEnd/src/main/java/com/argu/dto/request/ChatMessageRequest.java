@@ -0,0 +1,11 @@
+package com.argu.dto.request;
+
+import lombok.Data;
+
+/**
+ * 채팅 메시지 전송 요청 (STOMP SEND 본문)
+ */
+@Data
+public class ChatMessageRequest {
+    private String message;     // 메시지 내용
+}
@@ -1,6 +1,8 @@
 package com.argu.dto.response;
 
 import com.argu.entity.Argu;
+import com.argu.entity.ArguOpinion;
+import com.argu.repository.projection.ArguView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -27,8 +29,19 @@ public class ArguResponse {
     private Integer viewCount;
     private Long likeCount;
     private Long commentCount;
+    private Long forCount;
+    private Long againstCount;
+    private Long neutralCount;
+    private Long otherCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Boolean liked;                      // 내 좋아요 여부 (로그인한 경우에만 채움)
+    private Boolean bookmarked;                 // 내 북마크 여부 (로그인한 경우에만 채움)
+    private ArguOpinion.OpinionSide mySide;     // 내가 고른 입장 (로그인한 경우에만 채움)
+
+    public static ArguResponse from(Argu argu) {
+        return from(argu, argu.getLikeCount(), argu.getCommentCount());
+    }
 
     public static ArguResponse from(Argu argu, Long likeCount, Long commentCount) {
         return ArguResponse.builder()
@@ -46,10 +59,37 @@ public class ArguResponse {
                 .viewCount(argu.getViewCount())
                 .likeCount(likeCount)
                 .commentCount(commentCount)
+                .forCount(argu.getForCount())
+                .againstCount(argu.getAgainstCount())
+                .neutralCount(argu.getNeutralCount())
+                .otherCount(argu.getOtherCount())
                 .createdAt(argu.getCreatedAt())
                 .updatedAt(argu.getUpdatedAt())
                 .build();
     }
-}
-
 
+    public static ArguResponse from(ArguView view) {
+        return ArguResponse.builder()
+                .id(view.getId())
+                .userId(view.getUserId())
+                .nickname(view.getNickname())
+                .categoryId(view.getCategoryId())
+                .categoryName(view.getCategoryName())
+                .title(view.getTitle())
+                .content(view.getContent())
+                .startDate(view.getStartDate())
+                .endDate(view.getEndDate())
+                .status(view.getStatus())
+                .isHidden(view.getIsHidden())
+                .viewCount(view.getViewCount())
+                .likeCount(view.getLikeCount())
+                .commentCount(view.getCommentCount())
+                .forCount(view.getForCount())
+                .againstCount(view.getAgainstCount())
+                .neutralCount(view.getNeutralCount())
+                .otherCount(view.getOtherCount())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .build();
+    }
+}
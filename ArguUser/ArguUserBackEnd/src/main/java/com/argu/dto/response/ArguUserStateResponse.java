@@ -0,0 +1,21 @@
+package com.argu.dto.response;
+
+import com.argu.entity.ArguOpinion;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 논쟁별 내 상태 응답 (좋아요/북마크/입장)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArguUserStateResponse {
+    private Long arguId;                        // 논쟁 ID
+    private boolean liked;                      // 좋아요 여부
+    private boolean bookmarked;                 // 북마크 여부
+    private ArguOpinion.OpinionSide mySide;     // 내가 고른 입장 (없으면 null)
+}
@@ -0,0 +1,36 @@
+package com.argu.dto.response;
+
+import com.argu.entity.ChatMessage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 메시지 응답 DTO
+ * 실시간 전송과 최근 메시지 목록에 함께 사용합니다.
+ * 메시지는 비동기로 일괄 저장되므로 ID는 포함하지 않습니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageResponse {
+    private Long arguId;              // 논쟁 ID
+    private Long userId;              // 작성자 ID
+    private String nickname;          // 작성자 닉네임
+    private String message;           // 메시지 내용
+    private LocalDateTime createdAt;  // 작성 일시
+
+    public static ChatMessageResponse from(ChatMessage chatMessage) {
+        return ChatMessageResponse.builder()
+                .arguId(chatMessage.getArgu().getId())
+                .userId(chatMessage.getUser().getId())
+                .nickname(chatMessage.getUser().getNickname())
+                .message(chatMessage.getMessage())
+                .createdAt(chatMessage.getCreatedAt())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.argu.dto.response;
 
 import com.argu.entity.Comment;
+import com.argu.repository.projection.CommentView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,6 +23,8 @@ public class CommentResponse {
     private String content;
     private Boolean isHidden;
     private List<CommentResponse> replies;
+    private Boolean hasMoreReplies;
+    private String nextReplyCursor;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -38,6 +41,18 @@ public class CommentResponse {
                 .updatedAt(comment.getUpdatedAt())
                 .build();
     }
-}
-
 
+    public static CommentResponse from(CommentView view) {
+        return CommentResponse.builder()
+                .id(view.getId())
+                .userId(view.getUserId())
+                .nickname(view.getNickname())
+                .arguId(view.getArguId())
+                .parentId(view.getParentId())
+                .content(view.getContent())
+                .isHidden(view.getIsHidden())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.argu.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 기반 페이징 응답 DTO
+ * 전체 개수(COUNT) 없이 다음 페이지 존재 여부와 다음 커서만 제공합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponse<T> {
+    private List<T> content;     // 현재 페이지 데이터
+    private int size;            // 현재 페이지 데이터 개수
+    private boolean hasNext;     // 다음 페이지 존재 여부
+    private String nextCursor;   // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+
+    public static <T> CursorResponse<T> of(List<T> content, boolean hasNext, String nextCursor) {
+        return CursorResponse.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? nextCursor : null)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.argu.dto.response;
+
+import com.argu.entity.ArguOpinion.OpinionSide;
+import com.argu.repository.projection.OpinionView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpinionResponse {
+    private Long id;
+    private Long arguId;
+    private Long userId;
+    private String nickname;
+    private OpinionSide side;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public static OpinionResponse from(OpinionView view) {
+        return OpinionResponse.builder()
+                .id(view.getId())
+                .arguId(view.getArguId())
+                .userId(view.getUserId())
+                .nickname(view.getNickname())
+                .side(view.getSide())
+                .content(view.getContent())
+                .createdAt(view.getCreatedAt())
+                .build();
+    }
+}
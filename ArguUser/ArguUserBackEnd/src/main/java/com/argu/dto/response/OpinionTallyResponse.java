@@ -0,0 +1,23 @@
+package com.argu.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 논쟁 입장별 집계 응답 DTO
+ * 실시간 집계 스트림(SSE)의 tally 이벤트 데이터로도 사용합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpinionTallyResponse {
+    private Long arguId;          // 논쟁 ID
+    private long forCount;        // 찬성 입장 수
+    private long againstCount;    // 반대 입장 수
+    private long neutralCount;    // 중립 입장 수
+    private long otherCount;      // 기타 입장 수
+    private long total;           // 전체 입장 수
+}
@@ -2,6 +2,7 @@ package com.argu.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -20,7 +21,15 @@ import java.time.LocalDateTime;
     @Index(name = "idx_status", columnList = "status"),
     @Index(name = "idx_start_date", columnList = "start_date"),
     @Index(name = "idx_end_date", columnList = "end_date"),
-    @Index(name = "idx_created_at", columnList = "created_at")
+    @Index(name = "idx_status_start_date", columnList = "status, start_date"),                      // 상태 전환 (예정 → 진행중)
+    @Index(name = "idx_status_end_date", columnList = "status, end_date"),                          // 상태 전환 (진행중 → 종료)
+    @Index(name = "idx_created_at", columnList = "created_at"),
+    @Index(name = "idx_hidden_created_id", columnList = "is_hidden, created_at, id"),                // 최신순 커서 페이징
+    @Index(name = "idx_hidden_status_created_id", columnList = "is_hidden, status, created_at, id"),  // 상태별 최신순 커서 페이징
+    @Index(name = "idx_category_hidden_created_id", columnList = "category_id, is_hidden, created_at, id"), // 카테고리별 최신순 커서 페이징
+    @Index(name = "idx_hidden_like_count", columnList = "is_hidden, like_count, created_at"),        // 인기순 정렬
+    @Index(name = "idx_user_hidden_like", columnList = "user_id, is_hidden, like_count"),            // 회원별 논쟁 수/받은 좋아요 집계
+    @Index(name = "idx_hidden_comment_count", columnList = "is_hidden, comment_count, created_at")   // 댓글순 정렬
 })
 @Comment("논쟁 주제 테이블")
 @Getter
@@ -101,12 +110,68 @@ public class Argu {
 
     /**
      * 조회수
+     * 엔티티 저장으로 덮어쓰지 않도록 수정 불가로 매핑하며, ArguViewCountBuffer의 배치 UPDATE로만 증가합니다.
      */
-    @Column(name = "view_count", nullable = false)
+    @Column(name = "view_count", nullable = false, updatable = false)
     @Comment("조회수")
     @Builder.Default
     private Integer viewCount = 0;
 
+    /**
+     * 좋아요 수 (likes 테이블 비정규화 카운터)
+     * 엔티티 저장으로 덮어쓰지 않도록 읽기 전용으로 매핑하며, ArguRepository의 UPDATE 쿼리로만 증감합니다.
+     */
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("좋아요 수")
+    @Builder.Default
+    private Long likeCount = 0L;
+
+    /**
+     * 댓글 수 (숨김 처리되지 않은 댓글만, 비정규화 카운터)
+     */
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("댓글 수 (숨김 제외)")
+    @Builder.Default
+    private Long commentCount = 0L;
+
+    /**
+     * 찬성 입장 수 (비정규화 카운터)
+     */
+    @Column(name = "for_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("찬성 입장 수")
+    @Builder.Default
+    private Long forCount = 0L;
+
+    /**
+     * 반대 입장 수 (비정규화 카운터)
+     */
+    @Column(name = "against_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("반대 입장 수")
+    @Builder.Default
+    private Long againstCount = 0L;
+
+    /**
+     * 중립 입장 수 (비정규화 카운터)
+     */
+    @Column(name = "neutral_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("중립 입장 수")
+    @Builder.Default
+    private Long neutralCount = 0L;
+
+    /**
+     * 기타 입장 수 (비정규화 카운터)
+     */
+    @Column(name = "other_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("기타 입장 수")
+    @Builder.Default
+    private Long otherCount = 0L;
+
     /**
      * 생성 일시
      */
@@ -17,7 +17,10 @@ import java.time.LocalDateTime;
 @Table(name = "argu_opinion", indexes = {
     @Index(name = "idx_argu_id", columnList = "argu_id"),
     @Index(name = "idx_user_id", columnList = "user_id"),
-    @Index(name = "idx_side", columnList = "side")
+    @Index(name = "idx_side", columnList = "side"),
+    @Index(name = "idx_argu_created_at", columnList = "argu_id, created_at"),             // 논쟁별 입장 목록 (최신순 커서)
+    @Index(name = "idx_argu_side_created_at", columnList = "argu_id, side, created_at"),  // 논쟁별 입장 목록 (입장 필터, 최신순 커서)
+    @Index(name = "idx_created_at", columnList = "created_at")                           // 일별 통계 집계 (관리자 daily_stats)
 }, uniqueConstraints = {
     @UniqueConstraint(name = "uk_argu_user", columnNames = {"argu_id", "user_id"})
 })
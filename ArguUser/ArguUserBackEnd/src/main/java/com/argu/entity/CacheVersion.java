@@ -0,0 +1,44 @@
+package com.argu.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 버전 엔티티
+ * 사용자/관리자 백엔드가 함께 쓰는 캐시의 버전을 저장합니다.
+ * 관리자 백엔드가 원본 데이터를 바꾸면 버전을 올리고, 사용자 백엔드는 버전이 바뀐 것을 보고 캐시를 다시 적재합니다.
+ */
+@Entity
+@Table(name = "cache_version")
+@Comment("캐시 버전 테이블")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheVersion {
+    /**
+     * 캐시 이름 (PK)
+     */
+    @Id
+    @Column(name = "cache_name", length = 50)
+    @Comment("캐시 이름")
+    private String cacheName;
+
+    /**
+     * 캐시 버전 (원본 데이터가 바뀔 때마다 1씩 증가)
+     */
+    @Column(nullable = false)
+    @Comment("캐시 버전")
+    private Long version;
+
+    /**
+     * 수정 일시
+     */
+    @Column(name = "updated_at", nullable = false)
+    @Comment("수정 일시")
+    private LocalDateTime updatedAt;
+}
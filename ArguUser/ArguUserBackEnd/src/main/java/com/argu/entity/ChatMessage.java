@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Table(name = "chat_messages", indexes = {
     @Index(name = "idx_argu_id", columnList = "argu_id"),
     @Index(name = "idx_user_id", columnList = "user_id"),
-    @Index(name = "idx_created_at", columnList = "created_at")
+    @Index(name = "idx_created_at", columnList = "created_at"),
+    @Index(name = "idx_argu_created_at", columnList = "argu_id, created_at")   // 채팅방 최근 메시지 조회
 })
 @Comment("채팅 메시지 테이블")
 @Getter
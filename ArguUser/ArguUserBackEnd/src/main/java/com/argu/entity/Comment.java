@@ -18,7 +18,9 @@ import java.time.LocalDateTime;
     @Index(name = "idx_user_id", columnList = "user_id"),
     @Index(name = "idx_argu_id", columnList = "argu_id"),
     @Index(name = "idx_parent_id", columnList = "parent_id"),
-    @Index(name = "idx_created_at", columnList = "created_at")
+    @Index(name = "idx_parent_hidden_id", columnList = "parent_id, is_hidden, id"),
+    @Index(name = "idx_created_at", columnList = "created_at"),
+    @Index(name = "idx_user_created_id", columnList = "user_id, created_at, id")   // 회원별 댓글 목록 (최신순 페이징/커서)
 })
 @org.hibernate.annotations.Comment("댓글 테이블")
 @Getter
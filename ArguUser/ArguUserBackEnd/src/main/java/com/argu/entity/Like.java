@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "likes", indexes = {
     @Index(name = "idx_argu_id", columnList = "argu_id"),
-    @Index(name = "idx_user_id", columnList = "user_id")
+    @Index(name = "idx_user_id", columnList = "user_id"),
+    @Index(name = "idx_created_at", columnList = "created_at")      // 일별 통계 집계 (관리자 daily_stats)
 }, uniqueConstraints = {
     @UniqueConstraint(name = "uk_argu_user", columnNames = {"argu_id", "user_id"})
 })
@@ -0,0 +1,51 @@
+package com.argu.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 임대(lease) 엔티티
+ * 사용자 백엔드를 여러 대 실행할 때 주기 작업을 한 인스턴스만 실행하도록 작업별 소유자와 만료 일시를 저장합니다.
+ * 소유자가 만료 일시 전에 갱신하지 못하면(장애, 종료) 다른 인스턴스가 임대를 가져갑니다.
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@Comment("스케줄러 임대 테이블")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLease {
+    /**
+     * 작업 이름 (PK)
+     */
+    @Id
+    @Column(name = "lease_name", length = 50)
+    @Comment("작업 이름")
+    private String leaseName;
+
+    /**
+     * 현재 소유 인스턴스 ID
+     */
+    @Column(name = "owner_id", nullable = false, length = 100)
+    @Comment("소유 인스턴스 ID")
+    private String ownerId;
+
+    /**
+     * 임대 만료 일시
+     */
+    @Column(name = "lease_until", nullable = false)
+    @Comment("임대 만료 일시")
+    private LocalDateTime leaseUntil;
+
+    /**
+     * 수정 일시
+     */
+    @Column(name = "updated_at", nullable = false)
+    @Comment("수정 일시")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,65 @@
+package com.argu.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 인덱스 갱신 대기열 엔티티
+ * 검색 인덱스를 직접 쓸 수 없는 관리자 백엔드(와 인덱스 잠금이 없는 사용자 백엔드 인스턴스)가 변경된 논쟁/댓글/회원을 기록하면,
+ * 인덱스 쓰기 잠금을 가진 사용자 백엔드의 검색 인덱서가 주기적으로 읽어 인덱스에 반영한 뒤 삭제합니다.
+ */
+@Entity
+@Table(name = "search_index_queue")
+@Comment("검색 인덱스 갱신 대기열 테이블")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class SearchIndexQueue {
+    /**
+     * 대기열 ID (PK)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("대기열 ID")
+    private Long id;
+
+    /**
+     * 문서 종류
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "doc_type", nullable = false, length = 20)
+    @Comment("문서 종류 (ARGU: 논쟁, COMMENT: 댓글, USER: 회원)")
+    private DocType docType;
+
+    /**
+     * 문서 ID (논쟁/댓글/회원 ID)
+     */
+    @Column(name = "doc_id", nullable = false)
+    @Comment("문서 ID")
+    private Long docId;
+
+    /**
+     * 생성 일시
+     */
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Comment("생성 일시")
+    private LocalDateTime createdAt;
+
+    /**
+     * 검색 문서 종류
+     */
+    public enum DocType {
+        ARGU,      // 논쟁
+        COMMENT,   // 댓글
+        USER       // 회원
+    }
+}
@@ -4,9 +4,16 @@ import com.argu.entity.Argu;
 import com.argu.entity.ArguOpinion;
 import com.argu.entity.ArguOpinion.OpinionSide;
 import com.argu.entity.User;
+import com.argu.repository.projection.OpinionSideView;
+import com.argu.repository.projection.OpinionView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +24,38 @@ public interface ArguOpinionRepository extends JpaRepository<ArguOpinion, Long>
     List<ArguOpinion> findByArgu(Argu argu);
     List<ArguOpinion> findByArguAndSide(Argu argu, OpinionSide side);
     long countByArguAndSide(Argu argu, OpinionSide side);
+
+    // 회원이 고른 입장 일괄 조회 (uk_argu_user 인덱스)
+    @Query("SELECT o.argu.id AS arguId, o.side AS side FROM ArguOpinion o " +
+           "WHERE o.user.id = :userId AND o.argu.id IN :arguIds")
+    List<OpinionSideView> findSidesByUserIdAndArguIdIn(@Param("userId") Long userId,
+                                                       @Param("arguIds") Collection<Long> arguIds);
+
     List<ArguOpinion> findByUser(User user);
-}
+    long countByUserId(Long userId);
 
+    // 논쟁의 입장 목록 (최신순 키셋 페이징, (argu_id, created_at) 인덱스 사용)
+    @Query("SELECT o.id AS id, o.argu.id AS arguId, u.id AS userId, u.nickname AS nickname, " +
+           "o.side AS side, o.content AS content, o.createdAt AS createdAt " +
+           "FROM ArguOpinion o JOIN o.user u " +
+           "WHERE o.argu.id = :arguId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OpinionView> findViewsByArguId(@Param("arguId") Long arguId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Limit limit);
 
+    // 논쟁의 입장별 목록 (최신순 키셋 페이징, (argu_id, side, created_at) 인덱스 사용)
+    @Query("SELECT o.id AS id, o.argu.id AS arguId, u.id AS userId, u.nickname AS nickname, " +
+           "o.side AS side, o.content AS content, o.createdAt AS createdAt " +
+           "FROM ArguOpinion o JOIN o.user u " +
+           "WHERE o.argu.id = :arguId AND o.side = :side " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OpinionView> findViewsByArguIdAndSide(@Param("arguId") Long arguId,
+                                               @Param("side") OpinionSide side,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Limit limit);
+}
@@ -4,53 +4,218 @@ import com.argu.entity.Argu;
 import com.argu.entity.Argu.ArguStatus;
 import com.argu.entity.Category;
 import com.argu.entity.User;
+import com.argu.repository.projection.ArguView;
+import com.argu.repository.projection.CategoryArguCount;
+import com.argu.repository.projection.HotCandidate;
+import com.argu.repository.projection.LifecycleDeadline;
+import com.argu.repository.projection.OpinionTally;
+import com.argu.repository.projection.UserArguStats;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ArguRepository extends JpaRepository<Argu, Long> {
+    // 목록 조회는 작성자/카테고리를 함께 조인하여 가져옴 (ArguResponse 변환 시 추가 조회 없음)
+    @EntityGraph(attributePaths = {"user", "category"})
     Page<Argu> findByIsHiddenFalse(Pageable pageable);
-    List<Argu> findByIsHiddenFalse(Sort sort);
+    @EntityGraph(attributePaths = {"user", "category"})
     Page<Argu> findByIsHiddenFalseAndStatus(ArguStatus status, Pageable pageable);
-    List<Argu> findByIsHiddenFalseAndStatus(ArguStatus status, Sort sort);
+    @EntityGraph(attributePaths = {"user", "category"})
     Page<Argu> findByCategoryAndIsHiddenFalse(Category category, Pageable pageable);
-    List<Argu> findByCategoryAndIsHiddenFalse(Category category, Sort sort);
+    @EntityGraph(attributePaths = {"user", "category"})
     Page<Argu> findByCategoryAndIsHiddenFalseAndStatus(Category category, ArguStatus status, Pageable pageable);
-    List<Argu> findByCategoryAndIsHiddenFalseAndStatus(Category category, ArguStatus status, Sort sort);
+    @EntityGraph(attributePaths = {"user", "category"})
     Page<Argu> findByUserAndIsHiddenFalse(User user, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "category"})
     List<Argu> findByUserAndIsHiddenFalse(User user, Sort sort);
+    // 좋아요를 받은 회원 논쟁 (좋아요순 정렬, idx_user_hidden_like 인덱스 사용)
+    @EntityGraph(attributePaths = {"user", "category"})
+    Page<Argu> findByUserAndIsHiddenFalseAndLikeCountGreaterThan(User user, Long likeCount, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "category"})
+    Window<Argu> findByUserAndIsHiddenFalseAndLikeCountGreaterThan(User user, Long likeCount, ScrollPosition position, Sort sort, Limit limit);
+    @EntityGraph(attributePaths = {"user", "category"})
     Page<Argu> findByStatusAndIsHiddenFalse(ArguStatus status, Pageable pageable);
+
+    // 숨김 제외 논쟁 개수 (엔티티를 불러오지 않고 COUNT 쿼리만 실행)
+    long countByUserAndIsHiddenFalse(User user);
+
+    // 공개 논쟁 존재 여부 (댓글 목록 조회 전 확인)
+    boolean existsByIdAndIsHiddenFalse(Long id);
+
+    // 회원의 공개 논쟁 수와 받은 좋아요 합계 (idx_user_hidden_like 인덱스만으로 집계)
+    @Query("SELECT COUNT(a) AS arguCount, COALESCE(SUM(a.likeCount), 0) AS likeCount FROM Argu a " +
+           "WHERE a.user.id = :userId AND a.isHidden = false")
+    UserArguStats sumVisibleStatsByUserId(@Param("userId") Long userId);
+
+    // 카테고리별 숨김 제외 논쟁 개수 (한 번의 GROUP BY, idx_category_hidden_created_id 인덱스만으로 집계)
+    @Query("SELECT a.category.id AS categoryId, COUNT(a) AS arguCount FROM Argu a " +
+           "WHERE a.isHidden = false GROUP BY a.category.id")
+    List<CategoryArguCount> countVisibleGroupByCategory();
+
+    // 커서(키셋) 기반 피드 조회 (COUNT 쿼리 없음)
+    @EntityGraph(attributePaths = {"user", "category"})
+    Window<Argu> findByIsHiddenFalse(ScrollPosition position, Sort sort, Limit limit);
+    @EntityGraph(attributePaths = {"user", "category"})
+    Window<Argu> findByIsHiddenFalseAndStatus(ArguStatus status, ScrollPosition position, Sort sort, Limit limit);
+    @EntityGraph(attributePaths = {"user", "category"})
+    Window<Argu> findByCategoryAndIsHiddenFalse(Category category, ScrollPosition position, Sort sort, Limit limit);
+    @EntityGraph(attributePaths = {"user", "category"})
+    Window<Argu> findByCategoryAndIsHiddenFalseAndStatus(Category category, ArguStatus status, ScrollPosition position, Sort sort, Limit limit);
     
+    // 상세 조회 프로젝션 (작성자/카테고리 조인, 응답에 필요한 컬럼만 조회)
+    @Query("SELECT a.id AS id, u.id AS userId, u.nickname AS nickname, c.id AS categoryId, c.name AS categoryName, " +
+           "a.title AS title, a.content AS content, a.startDate AS startDate, a.endDate AS endDate, " +
+           "a.status AS status, a.isHidden AS isHidden, a.viewCount AS viewCount, " +
+           "a.likeCount AS likeCount, a.commentCount AS commentCount, a.forCount AS forCount, " +
+           "a.againstCount AS againstCount, a.neutralCount AS neutralCount, a.otherCount AS otherCount, " +
+           "a.createdAt AS createdAt, a.updatedAt AS updatedAt " +
+           "FROM Argu a JOIN a.user u JOIN a.category c WHERE a.id = :id")
+    Optional<ArguView> findViewById(@Param("id") Long id);
+
+    // 검색어 없이 카테고리/상태 조건만으로 조회
+    @EntityGraph(attributePaths = {"user", "category"})
     @Query("SELECT a FROM Argu a WHERE a.isHidden = false AND " +
-           "(:keyword IS NULL OR :keyword = '' OR a.title LIKE %:keyword% OR a.content LIKE %:keyword%) AND " +
            "(:category IS NULL OR a.category = :category) AND " +
            "(:status IS NULL OR a.status = :status)")
-    Page<Argu> searchByKeyword(@Param("keyword") String keyword,
+    Page<Argu> searchByFilters(@Param("category") Category category,
+                               @Param("status") ArguStatus status,
+                               Pageable pageable);
+
+    // 전문 검색 (제목/내용 FULLTEXT ngram 인덱스, query는 BOOLEAN MODE 검색식)
+    @EntityGraph(attributePaths = {"user", "category"})
+    @Query(value = "SELECT a FROM Argu a WHERE a.isHidden = false AND " +
+                   "match_against(a.title, a.content, :query) > 0 AND " +
+                   "(:category IS NULL OR a.category = :category) AND " +
+                   "(:status IS NULL OR a.status = :status)",
+           countQuery = "SELECT COUNT(a) FROM Argu a WHERE a.isHidden = false AND " +
+                        "match_against(a.title, a.content, :query) > 0 AND " +
+                        "(:category IS NULL OR a.category = :category) AND " +
+                        "(:status IS NULL OR a.status = :status)")
+    Page<Argu> searchByFullText(@Param("query") String query,
                                 @Param("category") Category category,
                                 @Param("status") ArguStatus status,
                                 Pageable pageable);
+
+    // 전문 검색 관련도순 (Pageable의 정렬은 사용하지 않음)
+    @EntityGraph(attributePaths = {"user", "category"})
+    @Query(value = "SELECT a FROM Argu a WHERE a.isHidden = false AND " +
+                   "match_against(a.title, a.content, :query) > 0 AND " +
+                   "(:category IS NULL OR a.category = :category) AND " +
+                   "(:status IS NULL OR a.status = :status) " +
+                   "ORDER BY match_against(a.title, a.content, :query) DESC, a.createdAt DESC",
+           countQuery = "SELECT COUNT(a) FROM Argu a WHERE a.isHidden = false AND " +
+                        "match_against(a.title, a.content, :query) > 0 AND " +
+                        "(:category IS NULL OR a.category = :category) AND " +
+                        "(:status IS NULL OR a.status = :status)")
+    Page<Argu> searchByFullTextOrderByRelevance(@Param("query") String query,
+                                                @Param("category") Category category,
+                                                @Param("status") ArguStatus status,
+                                                Pageable pageable);
     
-    @Query("SELECT a FROM Argu a WHERE a.isHidden = false AND " +
-           "(:keyword IS NULL OR :keyword = '' OR a.title LIKE %:keyword% OR a.content LIKE %:keyword%) AND " +
-           "(:category IS NULL OR a.category = :category) AND " +
-           "(:status IS NULL OR a.status = :status)")
-    List<Argu> searchByKeywordWithoutPaging(@Param("keyword") String keyword,
-                                             @Param("category") Category category,
-                                             @Param("status") ArguStatus status,
-                                             Sort sort);
+    // 인기 논쟁 랭킹 후보 (since 이후 작성된 공개 논쟁, idx_hidden_created_id 인덱스 범위 조회)
+    @Query("SELECT a.id AS id, a.category.id AS categoryId, a.createdAt AS createdAt, " +
+           "a.likeCount AS likeCount, a.commentCount AS commentCount, " +
+           "(a.forCount + a.againstCount + a.neutralCount + a.otherCount) AS opinionCount, " +
+           "a.viewCount AS viewCount " +
+           "FROM Argu a WHERE a.isHidden = false AND a.createdAt >= :since")
+    List<HotCandidate> findHotCandidates(@Param("since") LocalDateTime since);
+
+    // 검색 인덱스에서 찾은 ID 목록으로 논쟁 조회 (작성자/카테고리 함께 조인)
+    @EntityGraph(attributePaths = {"user", "category"})
+    List<Argu> findByIdIn(Collection<Long> ids);
+
+    // 검색 인덱스 전체 색인용 ID 순 청크 조회
+    List<Argu> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
     
-    List<Argu> findByStatusAndStartDateLessThanEqual(ArguStatus status, LocalDateTime now);
-    List<Argu> findByStatusAndEndDateLessThanEqual(ArguStatus status, LocalDateTime now);
+    // 상태 전환 대상 논쟁 ID 조회 (검색 인덱스 갱신용)
+    @Query("SELECT a.id FROM Argu a WHERE a.status = :status AND a.startDate <= :now")
+    List<Long> findIdsByStatusAndStartDateLessThanEqual(@Param("status") ArguStatus status, @Param("now") LocalDateTime now);
+
+    @Query("SELECT a.id FROM Argu a WHERE a.status = :status AND a.endDate <= :now")
+    List<Long> findIdsByStatusAndEndDateLessThanEqual(@Param("status") ArguStatus status, @Param("now") LocalDateTime now);
+
+    // 시작일시가 지난 논쟁 상태 일괄 변경 (엔티티를 읽지 않는 단일 UPDATE)
+    @Modifying
+    @Query("UPDATE Argu a SET a.status = :to, a.updatedAt = :now WHERE a.status = :from AND a.startDate <= :now")
+    int updateStatusByStartDate(@Param("from") ArguStatus from, @Param("to") ArguStatus to, @Param("now") LocalDateTime now);
+
+    // 종료일시가 지난 논쟁 상태 일괄 변경
+    @Modifying
+    @Query("UPDATE Argu a SET a.status = :to, a.updatedAt = :now WHERE a.status = :from AND a.endDate <= :now")
+    int updateStatusByEndDate(@Param("from") ArguStatus from, @Param("to") ArguStatus to, @Param("now") LocalDateTime now);
+
+    // 논쟁 하나의 상태 변경 (현재 상태와 전환 시각을 조건으로 하여 여러 번 실행되어도 한 번만 반영)
+    @Modifying
+    @Query("UPDATE Argu a SET a.status = :to, a.updatedAt = :now WHERE a.id = :id AND a.status = :from AND a.startDate <= :now")
+    int updateStatusByStartDate(@Param("id") Long id, @Param("from") ArguStatus from, @Param("to") ArguStatus to, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Argu a SET a.status = :to, a.updatedAt = :now WHERE a.id = :id AND a.status = :from AND a.endDate <= :now")
+    int updateStatusByEndDate(@Param("id") Long id, @Param("from") ArguStatus from, @Param("to") ArguStatus to, @Param("now") LocalDateTime now);
+
+    // 가까운 시간 안에 시작/종료될 논쟁 조회 (타이머 휠 등록용)
+    @Query("SELECT a.id AS id, a.startDate AS deadline FROM Argu a WHERE a.status = :status AND a.startDate < :until")
+    List<LifecycleDeadline> findStartDeadlines(@Param("status") ArguStatus status, @Param("until") LocalDateTime until);
+
+    @Query("SELECT a.id AS id, a.endDate AS deadline FROM Argu a WHERE a.status = :status AND a.endDate < :until")
+    List<LifecycleDeadline> findEndDeadlines(@Param("status") ArguStatus status, @Param("until") LocalDateTime until);
     
     @Query("SELECT a FROM Argu a WHERE a.isHidden = false ORDER BY a.viewCount DESC")
     List<Argu> findTopByOrderByViewCountDesc(Pageable pageable);
+
+    // 비정규화 카운터 증감 (행 단위 원자적 UPDATE)
+    @Modifying
+    @Query("UPDATE Argu a SET a.likeCount = a.likeCount + :delta WHERE a.id = :arguId")
+    int addLikeCount(@Param("arguId") Long arguId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Argu a SET a.commentCount = a.commentCount + :delta WHERE a.id = :arguId")
+    int addCommentCount(@Param("arguId") Long arguId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Argu a SET " +
+           "a.forCount = a.forCount + CASE WHEN :side = 'FOR' THEN 1 ELSE 0 END, " +
+           "a.againstCount = a.againstCount + CASE WHEN :side = 'AGAINST' THEN 1 ELSE 0 END, " +
+           "a.neutralCount = a.neutralCount + CASE WHEN :side = 'NEUTRAL' THEN 1 ELSE 0 END, " +
+           "a.otherCount = a.otherCount + CASE WHEN :side = 'OTHER' THEN 1 ELSE 0 END " +
+           "WHERE a.id = :arguId")
+    int incrementOpinionCount(@Param("arguId") Long arguId, @Param("side") String side);
+
+    // 입장별 집계 조회 (실시간 집계 초기값 및 주기적 동기화)
+    @Query("SELECT a.id AS arguId, a.isHidden AS isHidden, a.forCount AS forCount, a.againstCount AS againstCount, " +
+           "a.neutralCount AS neutralCount, a.otherCount AS otherCount FROM Argu a WHERE a.id IN :ids")
+    List<OpinionTally> findOpinionTallies(@Param("ids") Collection<Long> ids);
+
+    // 카운터 재계산 (ID 구간 단위로 원본 테이블에서 다시 집계)
+    @Query("SELECT MAX(a.id) FROM Argu a")
+    Long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE argu a SET " +
+           "a.like_count = (SELECT COUNT(*) FROM likes l WHERE l.argu_id = a.id), " +
+           "a.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.argu_id = a.id AND c.is_hidden = false), " +
+           "a.for_count = (SELECT COUNT(*) FROM argu_opinion o WHERE o.argu_id = a.id AND o.side = 'FOR'), " +
+           "a.against_count = (SELECT COUNT(*) FROM argu_opinion o WHERE o.argu_id = a.id AND o.side = 'AGAINST'), " +
+           "a.neutral_count = (SELECT COUNT(*) FROM argu_opinion o WHERE o.argu_id = a.id AND o.side = 'NEUTRAL'), " +
+           "a.other_count = (SELECT COUNT(*) FROM argu_opinion o WHERE o.argu_id = a.id AND o.side = 'OTHER') " +
+           "WHERE a.id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int rebuildCounters(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
 
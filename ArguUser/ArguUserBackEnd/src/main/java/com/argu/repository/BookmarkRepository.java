@@ -6,8 +6,12 @@ import com.argu.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,6 +19,10 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     Optional<Bookmark> findByArguAndUser(Argu argu, User user);
     boolean existsByArguAndUser(Argu argu, User user);
     Page<Bookmark> findByUser(User user, Pageable pageable);
+
+    // 회원이 북마크한 논쟁 ID 일괄 조회 (uk_argu_user 인덱스)
+    @Query("SELECT b.argu.id FROM Bookmark b WHERE b.user.id = :userId AND b.argu.id IN :arguIds")
+    List<Long> findArguIdsByUserIdAndArguIdIn(@Param("userId") Long userId, @Param("arguIds") Collection<Long> arguIds);
 }
 
 
@@ -0,0 +1,16 @@
+package com.argu.repository;
+
+import com.argu.entity.CacheVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CacheVersionRepository extends JpaRepository<CacheVersion, String> {
+    // 캐시 버전만 조회 (PK 조회)
+    @Query("SELECT v.version FROM CacheVersion v WHERE v.cacheName = :cacheName")
+    Optional<Long> findVersion(@Param("cacheName") String cacheName);
+}
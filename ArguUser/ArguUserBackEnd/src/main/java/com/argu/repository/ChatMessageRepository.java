@@ -4,7 +4,10 @@ import com.argu.entity.Argu;
 import com.argu.entity.ChatMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -14,6 +17,9 @@ import java.util.List;
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
     Page<ChatMessage> findByArguOrderByCreatedAtDesc(Argu argu, Pageable pageable);
     List<ChatMessage> findByArguAndCreatedAtAfter(Argu argu, LocalDateTime after);
-}
-
 
+    // 채팅방 최근 메시지 조회 (작성자 함께 조인, 최신순, 채팅방 메모리 버퍼 초기 적재용)
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT m FROM ChatMessage m WHERE m.argu.id = :arguId ORDER BY m.createdAt DESC, m.id DESC")
+    List<ChatMessage> findRecentByArguId(@Param("arguId") Long arguId, Pageable pageable);
+}
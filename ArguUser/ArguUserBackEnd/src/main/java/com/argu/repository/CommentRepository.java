@@ -3,19 +3,81 @@ package com.argu.repository;
 import com.argu.entity.Argu;
 import com.argu.entity.Comment;
 import com.argu.entity.User;
+import com.argu.repository.projection.CommentView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    Page<Comment> findByArguAndIsHiddenFalseAndParentIsNull(Argu argu, Pageable pageable);
-    List<Comment> findByParent(Comment parent);
     List<Comment> findByUser(User user);
+    long countByUserId(Long userId);
+
+    // 회원이 작성한 댓글 목록 (최신순 페이징, idx_user_created_id 인덱스 사용)
+    @Query(value = "SELECT c.id AS id, u.id AS userId, u.nickname AS nickname, c.argu.id AS arguId, " +
+                   "c.parent.id AS parentId, c.content AS content, c.isHidden AS isHidden, " +
+                   "c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+                   "FROM Comment c JOIN c.user u " +
+                   "WHERE u.id = :userId " +
+                   "ORDER BY c.createdAt DESC, c.id DESC",
+           countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.user.id = :userId")
+    Page<CommentView> findViewsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 회원이 작성한 댓글 목록 (최신순 키셋 페이징, idx_user_created_id 인덱스 사용)
+    @Query("SELECT c.id AS id, u.id AS userId, u.nickname AS nickname, c.argu.id AS arguId, " +
+           "c.parent.id AS parentId, c.content AS content, c.isHidden AS isHidden, " +
+           "c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+           "FROM Comment c JOIN c.user u " +
+           "WHERE u.id = :userId " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentView> findViewsByUserIdBefore(@Param("userId") Long userId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Limit limit);
     long countByArguAndIsHiddenFalse(Argu argu);
-}
 
+    // 공개 논쟁에 달린 숨김 제외 댓글 존재 여부 (답글 더보기 전 확인)
+    boolean existsByIdAndIsHiddenFalseAndArguIsHiddenFalse(Long id);
+
+    // 응답용 프로젝션 조회 (작성자 조인, 응답에 필요한 컬럼만 조회)
+    @Query(value = "SELECT c.id AS id, u.id AS userId, u.nickname AS nickname, c.argu.id AS arguId, " +
+                   "c.parent.id AS parentId, c.content AS content, c.isHidden AS isHidden, " +
+                   "c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+                   "FROM Comment c JOIN c.user u " +
+                   "WHERE c.argu.id = :arguId AND c.isHidden = false AND c.parent IS NULL",
+           countQuery = "SELECT COUNT(c) FROM Comment c " +
+                        "WHERE c.argu.id = :arguId AND c.isHidden = false AND c.parent IS NULL")
+    Page<CommentView> findTopLevelViewsByArguId(@Param("arguId") Long arguId, Pageable pageable);
 
+    // 여러 부모 댓글의 앞쪽 답글을 한 번에 조회 (부모별 최대 perParent개, 작성 순)
+    @Query(value = "SELECT r.id AS id, r.user_id AS userId, u.nickname AS nickname, r.argu_id AS arguId, " +
+                   "r.parent_id AS parentId, r.content AS content, r.is_hidden AS isHidden, " +
+                   "r.created_at AS createdAt, r.updated_at AS updatedAt " +
+                   "FROM (SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.id) AS rn " +
+                   "      FROM comments c WHERE c.parent_id IN (:parentIds) AND c.is_hidden = false) r " +
+                   "JOIN users u ON u.id = r.user_id " +
+                   "WHERE r.rn <= :perParent ORDER BY r.parent_id, r.id",
+           nativeQuery = true)
+    List<CommentView> findFirstRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds,
+                                                  @Param("perParent") int perParent);
+
+    // 답글 더보기 (afterId 이후 답글을 작성 순으로 조회)
+    @Query("SELECT c.id AS id, u.id AS userId, u.nickname AS nickname, c.argu.id AS arguId, " +
+           "c.parent.id AS parentId, c.content AS content, c.isHidden AS isHidden, " +
+           "c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+           "FROM Comment c JOIN c.user u " +
+           "WHERE c.parent.id = :parentId AND c.isHidden = false AND c.id > :afterId ORDER BY c.id")
+    List<CommentView> findRepliesAfter(@Param("parentId") Long parentId, @Param("afterId") Long afterId, Limit limit);
+
+    // 검색 인덱스 전체 색인용 ID 순 청크 조회
+    List<Comment> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+}
@@ -4,8 +4,13 @@ import com.argu.entity.Argu;
 import com.argu.entity.Like;
 import com.argu.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,6 +18,24 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     Optional<Like> findByArguAndUser(Argu argu, User user);
     boolean existsByArguAndUser(Argu argu, User user);
     long countByArgu(Argu argu);
-}
 
+    // 좋아요 여부 (uk_argu_user 인덱스만 조회)
+    @Query("SELECT COUNT(l) > 0 FROM Like l WHERE l.argu.id = :arguId AND l.user.id = :userId")
+    boolean existsByArguIdAndUserId(@Param("arguId") Long arguId, @Param("userId") Long userId);
+
+    // 회원이 좋아요한 논쟁 ID 일괄 조회 (uk_argu_user 인덱스)
+    @Query("SELECT l.argu.id FROM Like l WHERE l.user.id = :userId AND l.argu.id IN :arguIds")
+    List<Long> findArguIdsByUserIdAndArguIdIn(@Param("userId") Long userId, @Param("arguIds") Collection<Long> arguIds);
 
+    // 좋아요 추가 (단일 문장, 이미 있거나 논쟁이 없으면 0행)
+    // ON DUPLICATE KEY UPDATE는 Connector/J 기본 설정(found rows)에서 중복도 1행으로 반환하므로 INSERT IGNORE 사용
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (argu_id, user_id, created_at) VALUES (:arguId, :userId, NOW())",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("arguId") Long arguId, @Param("userId") Long userId);
+
+    // 좋아요 취소 (단일 문장, 없으면 0행)
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.argu.id = :arguId AND l.user.id = :userId")
+    int deleteByArguIdAndUserId(@Param("arguId") Long arguId, @Param("userId") Long userId);
+}
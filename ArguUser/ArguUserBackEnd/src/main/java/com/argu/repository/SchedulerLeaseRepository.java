@@ -0,0 +1,26 @@
+package com.argu.repository;
+
+import com.argu.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+    // 임대가 만료되었거나 이미 자신이 소유한 경우에만 소유자/만료 일시 갱신 (행 잠금으로 한 인스턴스만 성공)
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.ownerId = :ownerId, l.leaseUntil = :until, l.updatedAt = :now " +
+           "WHERE l.leaseName = :leaseName AND (l.leaseUntil < :now OR l.ownerId = :ownerId)")
+    int tryAcquire(@Param("leaseName") String leaseName, @Param("ownerId") String ownerId,
+                   @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    // 자신이 소유한 임대를 즉시 만료 (종료 시 다른 인스턴스가 바로 가져갈 수 있도록)
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.leaseUntil = :now, l.updatedAt = :now " +
+           "WHERE l.leaseName = :leaseName AND l.ownerId = :ownerId")
+    int release(@Param("leaseName") String leaseName, @Param("ownerId") String ownerId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,14 @@
+package com.argu.repository;
+
+import com.argu.entity.SearchIndexQueue;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SearchIndexQueueRepository extends JpaRepository<SearchIndexQueue, Long> {
+    // 오래된 순으로 대기열 조회
+    List<SearchIndexQueue> findAllByOrderByIdAsc(Limit limit);
+}
@@ -1,15 +1,36 @@
 package com.argu.repository;
 
 import com.argu.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 검색 인덱스 전체 색인용 ID 순 청크 조회
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // 인증 차단 대상(정지/탈퇴) 회원 ID 조회 (idx_status 사용)
+    @Query("SELECT u.id FROM User u WHERE u.status <> :status")
+    List<Long> findIdsByStatusNot(@Param("status") User.UserStatus status);
+
+    // 로그인 시 재해시한 비밀번호 저장 (그 사이 비밀번호가 바뀌었으면 갱신하지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
 
 
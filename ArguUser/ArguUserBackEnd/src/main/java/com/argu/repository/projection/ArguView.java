@@ -0,0 +1,33 @@
+package com.argu.repository.projection;
+
+import com.argu.entity.Argu;
+
+import java.time.LocalDateTime;
+
+/**
+ * 논쟁 응답용 프로젝션
+ * 작성자(users)와 카테고리(categories)를 조인하여 ArguResponse에 필요한 컬럼만 조회합니다.
+ * 엔티티를 영속성 컨텍스트에 올리지 않으므로 지연 로딩 추가 조회와 변경 감지 스냅샷이 발생하지 않습니다.
+ */
+public interface ArguView {
+    Long getId();
+    Long getUserId();
+    String getNickname();
+    Long getCategoryId();
+    String getCategoryName();
+    String getTitle();
+    String getContent();
+    LocalDateTime getStartDate();
+    LocalDateTime getEndDate();
+    Argu.ArguStatus getStatus();
+    Boolean getIsHidden();
+    Integer getViewCount();
+    Long getLikeCount();
+    Long getCommentCount();
+    Long getForCount();
+    Long getAgainstCount();
+    Long getNeutralCount();
+    Long getOtherCount();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
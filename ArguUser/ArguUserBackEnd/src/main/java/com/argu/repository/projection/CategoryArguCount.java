@@ -0,0 +1,10 @@
+package com.argu.repository.projection;
+
+/**
+ * 카테고리별 논쟁 개수 프로젝션
+ * GROUP BY 한 번으로 모든 카테고리의 공개 논쟁 개수를 조회할 때 사용합니다.
+ */
+public interface CategoryArguCount {
+    Long getCategoryId();
+    Long getArguCount();
+}
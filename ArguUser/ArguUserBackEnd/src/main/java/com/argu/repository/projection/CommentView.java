@@ -0,0 +1,19 @@
+package com.argu.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 응답용 프로젝션
+ * 작성자(users)를 조인하여 CommentResponse에 필요한 컬럼만 조회합니다.
+ */
+public interface CommentView {
+    Long getId();
+    Long getUserId();
+    String getNickname();
+    Long getArguId();
+    Long getParentId();
+    String getContent();
+    Boolean getIsHidden();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,17 @@
+package com.argu.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 논쟁 랭킹 후보 프로젝션
+ * 랭킹 점수 계산에 필요한 카테고리, 작성 일시, 카운터 컬럼만 조회합니다.
+ */
+public interface HotCandidate {
+    Long getId();
+    Long getCategoryId();
+    LocalDateTime getCreatedAt();
+    Long getLikeCount();
+    Long getCommentCount();
+    Long getOpinionCount();
+    Integer getViewCount();
+}
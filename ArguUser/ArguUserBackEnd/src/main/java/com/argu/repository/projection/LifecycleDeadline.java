@@ -0,0 +1,12 @@
+package com.argu.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 논쟁 상태 전환 예정 시각 프로젝션
+ * 타이머 휠에 등록할 논쟁 ID와 전환 시각(시작일시 또는 종료일시)만 조회합니다.
+ */
+public interface LifecycleDeadline {
+    Long getId();
+    LocalDateTime getDeadline();
+}
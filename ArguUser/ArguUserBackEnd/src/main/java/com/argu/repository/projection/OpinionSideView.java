@@ -0,0 +1,12 @@
+package com.argu.repository.projection;
+
+import com.argu.entity.ArguOpinion;
+
+/**
+ * 회원이 논쟁에 고른 입장 프로젝션
+ * 목록 화면에서 "내 입장" 표시에 필요한 논쟁 ID와 입장만 조회합니다.
+ */
+public interface OpinionSideView {
+    Long getArguId();
+    ArguOpinion.OpinionSide getSide();
+}
@@ -0,0 +1,14 @@
+package com.argu.repository.projection;
+
+/**
+ * 논쟁 입장별 집계 프로젝션
+ * argu 테이블의 입장 수 카운터 컬럼만 조회합니다.
+ */
+public interface OpinionTally {
+    Long getArguId();
+    Boolean getIsHidden();
+    Long getForCount();
+    Long getAgainstCount();
+    Long getNeutralCount();
+    Long getOtherCount();
+}
@@ -0,0 +1,19 @@
+package com.argu.repository.projection;
+
+import com.argu.entity.ArguOpinion.OpinionSide;
+
+import java.time.LocalDateTime;
+
+/**
+ * 입장(의견) 응답용 프로젝션
+ * 작성자(users)를 조인하여 OpinionResponse에 필요한 컬럼만 조회합니다.
+ */
+public interface OpinionView {
+    Long getId();
+    Long getArguId();
+    Long getUserId();
+    String getNickname();
+    OpinionSide getSide();
+    String getContent();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,10 @@
+package com.argu.repository.projection;
+
+/**
+ * 회원이 작성한 논쟁 집계 프로젝션
+ * 공개 논쟁 수와 받은 좋아요 합계를 한 번의 집계 쿼리로 조회할 때 사용합니다.
+ */
+public interface UserArguStats {
+    Long getArguCount();
+    Long getLikeCount();
+}
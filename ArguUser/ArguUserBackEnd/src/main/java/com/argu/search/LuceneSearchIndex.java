@@ -0,0 +1,360 @@
+package com.argu.search;
+
+import com.argu.entity.Argu;
+import com.argu.entity.SearchIndexQueue.DocType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.LockObtainFailedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+/**
+ * 내장 Lucene 검색 인덱스
+ * 논쟁(제목/내용), 댓글(내용), 회원(닉네임/이메일) 문서를 로컬 디렉토리 하나에 색인합니다.
+ * 인덱스 쓰기(IndexWriter)는 사용자 백엔드만 담당하며, 관리자 백엔드는 같은 디렉토리를 읽기 전용으로 엽니다.
+ * 디렉토리 잠금을 얻지 못하면(다른 인스턴스가 사용 중) 인덱스를 비활성화하고 DB 검색을 사용하며,
+ * 이 인스턴스의 변경 사항은 search_index_queue에 기록하여 잠금을 가진 인스턴스가 반영하게 합니다.
+ * 인덱스는 한 호스트의 로컬 디렉토리이므로 lucene 엔진은 사용자 백엔드 1대 + 같은 호스트의 관리자 백엔드 구성에서만 사용합니다.
+ */
+@Slf4j
+@Component
+public class LuceneSearchIndex {
+    // 공통 필드
+    public static final String FIELD_KEY = "key";             // 문서 키 (종류:ID, 갱신/삭제용)
+    public static final String FIELD_TYPE = "type";           // 문서 종류 (ARGU, COMMENT, USER)
+    public static final String FIELD_ID = "id";               // 문서 ID (저장 + 정렬용 DocValues)
+    public static final String FIELD_CREATED_AT = "createdAt"; // 생성 일시 (epoch millis, 정렬용 DocValues)
+    public static final String FIELD_HIDDEN = "hidden";       // 숨김 여부 (true/false)
+    public static final String FIELD_STATUS = "status";       // 상태 (논쟁/회원)
+    public static final String FIELD_USER_ID = "userId";      // 작성자 ID
+
+    // 논쟁 필드
+    public static final String FIELD_TITLE = "title";
+    public static final String FIELD_CONTENT = "content";     // 논쟁/댓글 내용 (HTML 태그 제거)
+    public static final String FIELD_CATEGORY_ID = "categoryId";
+
+    // 댓글 필드
+    public static final String FIELD_ARGU_ID = "arguId";
+
+    // 회원 필드
+    public static final String FIELD_NICKNAME = "nickname";
+    public static final String FIELD_EMAIL = "email";         // 소문자 이메일 (접두어 검색)
+
+    public static final String COMMIT_COMPLETE = "complete";  // 전체 색인 완료 표시 (커밋 사용자 데이터 키)
+
+    static final int TOTAL_HITS_THRESHOLD = 10_000;           // 정확하게 세는 최대 일치 문서 수
+    public static final int MAX_RESULT_WINDOW = 10_000;              // offset + limit 최대값 (깊은 페이지 제한)
+    private static final float TITLE_BOOST = 2.0f;            // 제목 일치 가중치
+
+    private static final Sort LATEST_SORT = new Sort(
+            new SortField(FIELD_CREATED_AT, SortField.Type.LONG, true),
+            new SortField(FIELD_ID, SortField.Type.LONG, true));
+
+    private final Path indexPath;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile boolean ready;                           // 전체 색인 완료 여부 (검색에 사용 가능한지)
+    private boolean lockedByOtherInstance;                    // 다른 인스턴스가 인덱스 쓰기 잠금을 가지고 있는지
+
+    public LuceneSearchIndex(@Value("${argu.search.lucene.index-dir:../../Files/search-index}") String indexDir) {
+        this.indexPath = Paths.get(indexDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 인덱스 디렉토리와 IndexWriter 열기
+     */
+    @PostConstruct
+    public void open() {
+        try {
+            Files.createDirectories(indexPath);
+            directory = FSDirectory.open(indexPath);
+            IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            writer = new IndexWriter(directory, config);
+            searcherManager = new SearcherManager(writer, null);
+            // 이전에 전체 색인을 끝낸 인덱스면 바로 검색에 사용
+            ready = StreamSupport.stream(writer.getLiveCommitData().spliterator(), false)
+                    .anyMatch(entry -> COMMIT_COMPLETE.equals(entry.getKey()) && "true".equals(entry.getValue()));
+            log.info("[ARGU-SEARCH] Lucene 인덱스 열기 완료 - path={}, docs={}", indexPath, writer.getDocStats().numDocs);
+        } catch (LockObtainFailedException e) {
+            log.warn("[ARGU-SEARCH] 다른 인스턴스가 Lucene 인덱스를 사용 중이어서 DB 검색만 사용합니다 - path={}", indexPath);
+            lockedByOtherInstance = true;
+            writer = null;
+        } catch (IOException e) {
+            log.error("[ARGU-SEARCH] Lucene 인덱스를 열 수 없어 DB 검색만 사용합니다 - path={}", indexPath, e);
+            writer = null;
+        }
+    }
+
+    /**
+     * 인덱스 쓰기 가능 여부
+     */
+    public boolean isAvailable() {
+        return writer != null;
+    }
+
+    /**
+     * 다른 인스턴스가 인덱스를 쓰고 있는지 여부 (변경 사항을 대기열로 넘겨야 하는지)
+     */
+    public boolean isLockedByOtherInstance() {
+        return lockedByOtherInstance;
+    }
+
+    /**
+     * 검색에 사용 가능한지 여부 (전체 색인이 끝난 경우에만 true)
+     */
+    public boolean isReady() {
+        return writer != null && ready;
+    }
+
+    /**
+     * 전체 색인 완료 표시
+     * 커밋 사용자 데이터에 완료 표시를 남겨 재시작 시와 관리자 백엔드에서도 완성된 인덱스임을 알 수 있게 합니다.
+     */
+    void markReady() {
+        writer.setLiveCommitData(Map.of(COMMIT_COMPLETE, "true").entrySet());
+        commit();
+        ready = true;
+    }
+
+    /**
+     * 모든 문서 삭제 (전체 색인 시작 시 사용)
+     */
+    void clear() {
+        try {
+            ready = false;
+            writer.deleteAll();
+            writer.setLiveCommitData(Map.of(COMMIT_COMPLETE, "false").entrySet());
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 문서 추가 또는 교체 (같은 종류/ID의 기존 문서를 대체)
+     */
+    public void upsert(DocType type, Long id, Document document) {
+        String key = key(type, id);
+        document.add(new StringField(FIELD_KEY, key, Field.Store.NO));
+        document.add(new StringField(FIELD_TYPE, type.name(), Field.Store.NO));
+        try {
+            writer.updateDocument(new Term(FIELD_KEY, key), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 문서 삭제
+     */
+    public void delete(DocType type, Long id) {
+        try {
+            writer.deleteDocuments(new Term(FIELD_KEY, key(type, id)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 논쟁에 속한 댓글 문서 일괄 삭제 (논쟁 삭제 시 사용)
+     */
+    public void deleteCommentsOfArgu(Long arguId) {
+        Query query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(FIELD_TYPE, DocType.COMMENT.name())), BooleanClause.Occur.FILTER)
+                .add(new TermQuery(new Term(FIELD_ARGU_ID, String.valueOf(arguId))), BooleanClause.Occur.FILTER)
+                .build();
+        try {
+            writer.deleteDocuments(query);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 검색기 갱신 (반영된 변경 사항이 검색에 보이도록 함)
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 변경 사항을 디스크에 커밋
+     * 관리자 백엔드는 커밋된 세그먼트만 볼 수 있으므로 주기적으로 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${argu.search.lucene.commit-interval-ms:5000}")
+    public synchronized void commit() {
+        if (writer == null || !writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            log.warn("[ARGU-SEARCH] Lucene 인덱스 커밋 실패", e);
+        }
+    }
+
+    /**
+     * 공개 논쟁 검색
+     *
+     * @param keyword 검색어 (제목/내용, 모든 단어 포함)
+     * @param categoryId 카테고리 ID (선택적)
+     * @param status 논쟁 상태 (선택적)
+     * @param latest true면 최신순, false면 관련도순
+     * @param offset 건너뛸 문서 수
+     * @param limit 조회할 문서 수
+     * @return 일치한 문서 수와 해당 페이지의 논쟁 ID 목록
+     */
+    public SearchHits searchArgus(String keyword, Long categoryId, Argu.ArguStatus status,
+                                  boolean latest, int offset, int limit) {
+        Query text = textQuery(keyword);
+        if (text == null) {
+            return SearchHits.empty();
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(text, BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(FIELD_TYPE, DocType.ARGU.name())), BooleanClause.Occur.FILTER)
+                .add(new TermQuery(new Term(FIELD_HIDDEN, "false")), BooleanClause.Occur.FILTER);
+        if (categoryId != null) {
+            builder.add(new TermQuery(new Term(FIELD_CATEGORY_ID, String.valueOf(categoryId))), BooleanClause.Occur.FILTER);
+        }
+        if (status != null) {
+            builder.add(new TermQuery(new Term(FIELD_STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        return search(builder.build(), latest, offset, limit);
+    }
+
+    /**
+     * 제목/내용 검색 쿼리 생성
+     * 각 단어가 제목 또는 내용 중 어디에든 있으면 되도록, 단어마다 (제목^가중치 OR 내용)을 MUST로 묶습니다.
+     * (예: "환경 정책"은 제목에 "환경", 내용에 "정책"만 있어도 일치)
+     */
+    private Query textQuery(String keyword) {
+        Set<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String term : terms) {
+            builder.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(FIELD_TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(FIELD_CONTENT, term)), BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+        return builder.build();
+    }
+
+    // 검색어를 색인과 같은 분석기로 단어 목록으로 분리 (중복 제거)
+    private Set<String> analyze(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream stream = analyzer.tokenStream(FIELD_CONTENT, keyword)) {
+            CharTermAttribute termAttribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(termAttribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private SearchHits search(Query query, boolean latest, int offset, int limit) {
+        int window = offset + limit;
+        if (limit <= 0 || window > MAX_RESULT_WINDOW) {
+            return SearchHits.empty();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = latest
+                        ? searcher.search(query, TopFieldCollector.createSharedManager(LATEST_SORT, window, null, TOTAL_HITS_THRESHOLD))
+                        : searcher.search(query, TopScoreDocCollector.createSharedManager(window, null, TOTAL_HITS_THRESHOLD));
+
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    ids.add(storedFields.document(scoreDocs[i].doc).getField(FIELD_ID).numericValue().longValue());
+                }
+                return new SearchHits(topDocs.totalHits.value, ids);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String key(DocType type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    /**
+     * 종료 시 커밋 후 인덱스 닫기
+     */
+    @PreDestroy
+    public void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } catch (IOException e) {
+            log.warn("[ARGU-SEARCH] Lucene 인덱스 닫기 실패", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.argu.search;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 검색 결과
+ *
+ * @param totalHits 일치한 문서 수 (최대 LuceneSearchIndex.TOTAL_HITS_THRESHOLD까지 정확)
+ * @param ids 요청한 페이지에 해당하는 문서 ID 목록 (검색 순위 순)
+ */
+public record SearchHits(long totalHits, List<Long> ids) {
+
+    public static SearchHits empty() {
+        return new SearchHits(0L, Collections.emptyList());
+    }
+}
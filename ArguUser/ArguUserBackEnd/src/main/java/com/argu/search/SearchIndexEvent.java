@@ -0,0 +1,13 @@
+package com.argu.search;
+
+import com.argu.entity.SearchIndexQueue;
+
+/**
+ * 검색 인덱스 갱신 이벤트
+ * 논쟁/댓글/회원을 저장하거나 삭제한 서비스가 발행하며, 트랜잭션 커밋 후 SearchIndexer가 인덱스에 반영합니다.
+ *
+ * @param docType 문서 종류
+ * @param docId 문서 ID (논쟁/댓글/회원 ID)
+ */
+public record SearchIndexEvent(SearchIndexQueue.DocType docType, Long docId) {
+}
@@ -0,0 +1,284 @@
+package com.argu.search;
+
+import com.argu.entity.Argu;
+import com.argu.entity.Comment;
+import com.argu.entity.SearchIndexQueue;
+import com.argu.entity.SearchIndexQueue.DocType;
+import com.argu.entity.User;
+import com.argu.repository.ArguRepository;
+import com.argu.repository.CommentRepository;
+import com.argu.repository.SearchIndexQueueRepository;
+import com.argu.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 인덱서
+ * 논쟁/댓글/회원 변경 사항을 Lucene 인덱스에 반영합니다.
+ * - 사용자 백엔드의 변경: 트랜잭션 커밋 후 SearchIndexEvent를 받아 별도 스레드에서 반영
+ * - 관리자 백엔드와 인덱스 잠금이 없는 다른 인스턴스의 변경: search_index_queue 테이블을 주기적으로 읽어 반영
+ * 인덱스 쓰기 잠금을 가진 인스턴스만 대기열을 처리(삭제)하며, 잠금이 없는 인스턴스는 자신의 변경을 대기열에 기록합니다.
+ * - 완성된 인덱스가 없으면 시작 시 ID 순 청크 단위로 전체 색인
+ * 어떤 경로든 DB에서 최신 행을 다시 읽어 색인하므로, 같은 문서가 여러 번 반영되어도 결과는 같습니다.
+ */
+@Slf4j
+@Component
+public class SearchIndexer {
+    private static final int QUEUE_BATCH_SIZE = 500;           // 한 번에 처리할 대기열 행 수
+
+    private final LuceneSearchIndex searchIndex;
+    private final ArguRepository arguRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final SearchIndexQueueRepository searchIndexQueueRepository;
+    private final TransactionTemplate readOnlyTransaction;      // 색인할 행 조회용 읽기 전용 트랜잭션
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "search-indexer"));
+
+    @Value("${argu.search.lucene.reindex-on-startup:true}")
+    private boolean reindexOnStartup;                           // 인덱스가 비어 있으면 시작 시 전체 색인
+
+    @Value("${argu.search.lucene.reindex-chunk-size:1000}")
+    private int reindexChunkSize;                               // 전체 색인 시 한 번에 읽을 행 수
+
+    public SearchIndexer(LuceneSearchIndex searchIndex,
+                         ArguRepository arguRepository,
+                         CommentRepository commentRepository,
+                         UserRepository userRepository,
+                         SearchIndexQueueRepository searchIndexQueueRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.searchIndex = searchIndex;
+        this.arguRepository = arguRepository;
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.searchIndexQueueRepository = searchIndexQueueRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 변경 문서 색인
+     * 요청 스레드를 막지 않도록 색인 전용 스레드에서 처리합니다.
+     * 다른 인스턴스가 인덱스를 쓰고 있으면 대기열에 기록하여 그 인스턴스가 반영하게 합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSearchIndexEvent(SearchIndexEvent event) {
+        if (!searchIndex.isAvailable()) {
+            if (searchIndex.isLockedByOtherInstance()) {
+                executor.execute(() -> enqueue(event));
+            }
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                reindex(event.docType(), event.docId());
+                searchIndex.refresh();
+            } catch (RuntimeException e) {
+                log.warn("[ARGU-SEARCH] 문서 색인 실패 - type={}, id={}", event.docType(), event.docId(), e);
+            }
+        });
+    }
+
+    private void enqueue(SearchIndexEvent event) {
+        try {
+            searchIndexQueueRepository.save(SearchIndexQueue.builder()
+                    .docType(event.docType())
+                    .docId(event.docId())
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("[ARGU-SEARCH] 색인 대기열 기록 실패 - type={}, id={}", event.docType(), event.docId(), e);
+        }
+    }
+
+    /**
+     * 관리자 백엔드와 다른 인스턴스가 기록한 대기열 처리
+     * 인덱스 쓰기 잠금을 가진 인스턴스에서만 실행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${argu.search.lucene.queue-poll-interval-ms:2000}")
+    public void drainQueue() {
+        if (!searchIndex.isAvailable()) {
+            return;
+        }
+
+        List<SearchIndexQueue> rows = searchIndexQueueRepository.findAllByOrderByIdAsc(Limit.of(QUEUE_BATCH_SIZE));
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // 같은 문서가 여러 번 기록되어도 한 번만 색인
+        // 문서 하나가 실패해도 대기열 행은 삭제하여 같은 행을 계속 재시도하느라 뒤의 행이 밀리지 않도록 함
+        // (실패한 문서는 다음 변경이나 전체 색인 때 다시 반영됨)
+        Set<SearchIndexEvent> events = new LinkedHashSet<>();
+        rows.forEach(row -> events.add(new SearchIndexEvent(row.getDocType(), row.getDocId())));
+        for (SearchIndexEvent event : events) {
+            try {
+                reindex(event.docType(), event.docId());
+            } catch (RuntimeException e) {
+                log.warn("[ARGU-SEARCH] 대기열 문서 색인 실패 - type={}, id={}", event.docType(), event.docId(), e);
+            }
+        }
+        searchIndex.refresh();
+
+        searchIndexQueueRepository.deleteAllByIdInBatch(rows.stream()
+                .map(SearchIndexQueue::getId)
+                .collect(Collectors.toList()));
+        log.debug("[ARGU-SEARCH] 색인 대기열 처리 - rows={}, docs={}", rows.size(), events.size());
+    }
+
+    /**
+     * 시작 시 완성된 인덱스가 없으면 전체 색인
+     * 전체 색인이 끝나기 전까지 검색은 DB를 사용합니다.
+     * reindex-on-startup이 false면 인덱스를 완성되지 않은 상태로 두어, rebuildAll이 실행될 때까지 계속 DB로 검색합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexIfIncomplete() {
+        if (!searchIndex.isAvailable() || searchIndex.isReady()) {
+            return;
+        }
+        if (!reindexOnStartup) {
+            log.info("[ARGU-SEARCH] 완성된 검색 인덱스가 없고 시작 시 전체 색인이 꺼져 있어 DB 검색을 사용합니다");
+            return;
+        }
+        executor.execute(this::rebuildAll);
+    }
+
+    /**
+     * 전체 색인
+     * 논쟁, 댓글, 회원 테이블을 ID 순으로 청크 단위로 읽어 색인합니다. (청크마다 별도 트랜잭션)
+     */
+    public void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        searchIndex.clear();
+        long argus = rebuild(lastId -> arguRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(reindexChunkSize)),
+                Argu::getId, this::index);
+        long comments = rebuild(lastId -> commentRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(reindexChunkSize)),
+                Comment::getId, this::index);
+        long users = rebuild(lastId -> userRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(reindexChunkSize)),
+                User::getId, this::index);
+
+        searchIndex.markReady();
+        searchIndex.refresh();
+        log.info("[ARGU-SEARCH] 전체 색인 완료 - argus={}, comments={}, users={}, elapsedMs={}",
+                argus, comments, users, System.currentTimeMillis() - startedAt);
+    }
+
+    private <T> long rebuild(Function<Long, List<T>> chunkLoader, Function<T, Long> idGetter,
+                             Consumer<T> indexer) {
+        long count = 0;
+        long lastId = 0L;
+        while (true) {
+            long fromId = lastId;
+            List<T> chunk = readOnlyTransaction.execute(status -> {
+                List<T> rows = chunkLoader.apply(fromId);
+                rows.forEach(indexer);
+                return rows;
+            });
+            if (chunk == null || chunk.isEmpty()) {
+                return count;
+            }
+            count += chunk.size();
+            lastId = idGetter.apply(chunk.get(chunk.size() - 1));
+        }
+    }
+
+    /**
+     * 문서 하나를 DB 최신 상태로 다시 색인 (행이 없으면 인덱스에서 삭제)
+     */
+    void reindex(DocType docType, Long docId) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            switch (docType) {
+                case ARGU -> arguRepository.findById(docId).ifPresentOrElse(this::index, () -> {
+                    searchIndex.delete(DocType.ARGU, docId);
+                    searchIndex.deleteCommentsOfArgu(docId);
+                });
+                case COMMENT -> commentRepository.findById(docId).ifPresentOrElse(this::index,
+                        () -> searchIndex.delete(DocType.COMMENT, docId));
+                case USER -> userRepository.findById(docId).ifPresentOrElse(this::index,
+                        () -> searchIndex.delete(DocType.USER, docId));
+            }
+        });
+    }
+
+    private void index(Argu argu) {
+        Document document = new Document();
+        addCommonFields(document, argu.getId(), argu.getCreatedAt(), argu.getUser().getId());
+        document.add(new TextField(LuceneSearchIndex.FIELD_TITLE, argu.getTitle(), Field.Store.NO));
+        document.add(new TextField(LuceneSearchIndex.FIELD_CONTENT, stripTags(argu.getContent()), Field.Store.NO));
+        document.add(new StringField(LuceneSearchIndex.FIELD_CATEGORY_ID, String.valueOf(argu.getCategory().getId()), Field.Store.NO));
+        document.add(new StringField(LuceneSearchIndex.FIELD_STATUS, argu.getStatus().name(), Field.Store.NO));
+        document.add(new StringField(LuceneSearchIndex.FIELD_HIDDEN, String.valueOf(argu.getIsHidden()), Field.Store.NO));
+        searchIndex.upsert(DocType.ARGU, argu.getId(), document);
+    }
+
+    private void index(Comment comment) {
+        Document document = new Document();
+        addCommonFields(document, comment.getId(), comment.getCreatedAt(), comment.getUser().getId());
+        document.add(new TextField(LuceneSearchIndex.FIELD_CONTENT, stripTags(comment.getContent()), Field.Store.NO));
+        document.add(new StringField(LuceneSearchIndex.FIELD_ARGU_ID, String.valueOf(comment.getArgu().getId()), Field.Store.NO));
+        document.add(new StringField(LuceneSearchIndex.FIELD_HIDDEN, String.valueOf(comment.getIsHidden()), Field.Store.NO));
+        searchIndex.upsert(DocType.COMMENT, comment.getId(), document);
+    }
+
+    private void index(User user) {
+        Document document = new Document();
+        addCommonFields(document, user.getId(), user.getCreatedAt(), user.getId());
+        document.add(new TextField(LuceneSearchIndex.FIELD_NICKNAME, user.getNickname(), Field.Store.NO));
+        document.add(new StringField(LuceneSearchIndex.FIELD_EMAIL, user.getEmail().toLowerCase(Locale.ROOT), Field.Store.NO));
+        document.add(new StringField(LuceneSearchIndex.FIELD_STATUS, user.getStatus().name(), Field.Store.NO));
+        searchIndex.upsert(DocType.USER, user.getId(), document);
+    }
+
+    private static void addCommonFields(Document document, Long id, LocalDateTime createdAt, Long userId) {
+        long createdAtMillis = createdAt != null
+                ? createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        document.add(new StoredField(LuceneSearchIndex.FIELD_ID, id));
+        document.add(new NumericDocValuesField(LuceneSearchIndex.FIELD_ID, id));
+        document.add(new NumericDocValuesField(LuceneSearchIndex.FIELD_CREATED_AT, createdAtMillis));
+        document.add(new StringField(LuceneSearchIndex.FIELD_USER_ID, String.valueOf(userId), Field.Store.NO));
+    }
+
+    // 에디터 HTML 태그를 제거하여 본문 텍스트만 색인
+    private static String stripTags(String html) {
+        return html == null ? "" : html.replaceAll("<[^>]*>", " ");
+    }
+
+    /**
+     * 종료 시 진행 중인 색인 작업 정리
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.argu.security;
+
+import com.argu.entity.User;
+
+import java.security.Principal;
+
+/**
+ * JWT 인증 사용자
+ * 서명이 검증된 토큰의 클레임만으로 만들어지며, 요청마다 사용자 테이블을 조회하지 않도록 SecurityContext의 principal로 사용합니다.
+ * 정지/탈퇴 여부는 토큰이 아닌 {@link UserRevocationCache}로 확인합니다.
+ *
+ * @param userId 회원 ID (토큰 subject)
+ * @param email 이메일
+ * @param status 토큰 발급 시점의 회원 상태
+ */
+public record AuthUser(Long userId, String email, User.UserStatus status) implements Principal {
+    @Override
+    public String getName() {
+        return email;
+    }
+}
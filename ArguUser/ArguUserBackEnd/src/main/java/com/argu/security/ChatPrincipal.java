@@ -0,0 +1,17 @@
+package com.argu.security;
+
+import java.security.Principal;
+
+/**
+ * 채팅(STOMP) 연결 사용자
+ * CONNECT 시 JWT로 확인한 회원 ID와 닉네임을 연결에 보관하여, 메시지마다 회원을 다시 조회하지 않도록 합니다.
+ *
+ * @param userId 회원 ID
+ * @param nickname 닉네임
+ */
+public record ChatPrincipal(Long userId, String nickname) implements Principal {
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
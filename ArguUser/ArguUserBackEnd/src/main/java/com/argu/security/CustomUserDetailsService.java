@@ -13,6 +13,10 @@ import org.springframework.stereotype.Service;
 import java.util.Collections;
 import java.util.List;
 
+/**
+ * AuthenticationManager 기반 인증에서 사용하는 사용자 조회 서비스
+ * JWT 요청 인증은 DB 조회 없이 토큰 클레임과 {@link UserRevocationCache}로 처리하므로 이 서비스를 사용하지 않습니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
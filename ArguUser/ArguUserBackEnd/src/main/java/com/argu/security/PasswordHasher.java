@@ -0,0 +1,164 @@
+package com.argu.security;
+
+import com.argu.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 비밀번호 해시 실행기
+ * CPU를 많이 쓰는 BCrypt 해시/검증을 전용 스레드 풀에서 실행하여, 로그인/회원가입이 몰려도 Tomcat 작업 스레드와 CPU를 다른 API에 남겨 둡니다.
+ * - 동시에 실행되는 해시 수는 스레드 수로, 대기하는 요청 수는 큐 크기로 제한
+ * - 큐가 가득 차면 기다리지 않고 바로 503 (ServiceUnavailableException)
+ * - 메트릭: argu.password.hash (해시 시간), argu.password.hash.wait (큐 대기 시간),
+ *   argu.password.hash.queue (대기 중인 작업 수), argu.password.hash.rejected (거절 수)
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;          // 해시 전용 스레드 풀 (크기 제한 큐)
+    private final Timer encodeTimer;                    // 해시 생성 시간
+    private final Timer matchesTimer;                   // 해시 검증 시간
+    private final Timer waitTimer;                      // 큐 대기 시간
+    private final Counter rejectedCounter;              // 처리 용량 초과로 거절된 요청 수
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${argu.auth.password.hashing-threads:0}") int threads,
+                          @Value("${argu.auth.password.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+
+        // 0이면 CPU 코어의 절반만 사용하여 나머지 코어를 다른 요청 처리에 남김
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("argu.password.hash").tag("operation", "encode")
+                .description("비밀번호 해시 생성 시간").register(meterRegistry);
+        this.matchesTimer = Timer.builder("argu.password.hash").tag("operation", "matches")
+                .description("비밀번호 해시 검증 시간").register(meterRegistry);
+        this.waitTimer = Timer.builder("argu.password.hash.wait")
+                .description("비밀번호 해시 큐 대기 시간").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("argu.password.hash.rejected")
+                .description("처리 용량 초과로 거절된 비밀번호 해시 요청 수").register(meterRegistry);
+        Gauge.builder("argu.password.hash.queue", executor, pool -> pool.getQueue().size())
+                .description("대기 중인 비밀번호 해시 작업 수").register(meterRegistry);
+        Gauge.builder("argu.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 해시 작업 수").register(meterRegistry);
+
+        log.info("[AUTH] 비밀번호 해시 실행기 시작 - threads={}, queueCapacity={}", poolSize, queueCapacity);
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 해시 (알고리즘 ID 포함)
+     * @throws ServiceUnavailableException 해시 요청이 너무 많아 대기열이 가득 찬 경우
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    /**
+     * 비밀번호 검증
+     *
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치하면 true
+     * @throws ServiceUnavailableException 해시 요청이 너무 많아 대기열이 가득 찬 경우
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    /**
+     * 저장된 해시를 현재 설정(알고리즘/비용)으로 다시 해시해야 하는지 확인
+     *
+     * @param encodedPassword 저장된 해시
+     * @return 알고리즘 ID가 없거나 비용이 현재 설정보다 낮으면 true
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 백그라운드에서 다시 해시
+     * 응답을 기다리게 하지 않도록 해시 스레드에서 실행하며, 대기열이 가득 차면 건너뛰고 다음 로그인 때 다시 시도합니다.
+     *
+     * @param rawPassword 평문 비밀번호
+     * @param onEncoded 새 해시를 받아 저장하는 콜백 (해시 스레드에서 실행)
+     */
+    public void rehashInBackground(CharSequence rawPassword, Consumer<String> onEncoded) {
+        try {
+            executor.execute(() -> {
+                try {
+                    onEncoded.accept(encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+                } catch (RuntimeException e) {
+                    log.warn("[AUTH] 비밀번호 재해시 실패", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("[AUTH] 비밀번호 재해시 건너뜀 - 대기열 가득 참");
+        }
+    }
+
+    private <T> T execute(Callable<T> task, Timer timer) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceUnavailableException("요청 처리가 중단되었습니다");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+    }
+
+    /**
+     * 종료 시 해시 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,70 @@
+package com.argu.security;
+
+import com.argu.entity.User;
+import com.argu.exception.UnauthorizedException;
+import com.argu.repository.UserRepository;
+import com.argu.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 인증 인터셉터
+ * - CONNECT: Authorization 헤더(Bearer 토큰)가 있으면 검증하여 연결 사용자로 등록 (없으면 읽기 전용 익명 연결)
+ * - SEND: 인증된 연결만 허용하며, 브로커 목적지(/topic)로 직접 보내는 것을 막고 애플리케이션 목적지(/app)만 허용
+ * - 연결 중에 정지/탈퇴된 회원은 {@link UserRevocationCache}로 확인하여 SEND를 거부
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+    private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
+    private final UserRevocationCache revocationCache;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            String authHeader = accessor.getFirstNativeHeader("Authorization");
+            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                accessor.setUser(authenticate(authHeader.substring(7)));
+            }
+        } else if (accessor.getCommand() == StompCommand.SEND) {
+            if (!(accessor.getUser() instanceof ChatPrincipal principal)) {
+                throw new UnauthorizedException("인증이 필요합니다");
+            }
+            if (revocationCache.isRevoked(principal.userId())) {
+                throw new UnauthorizedException("비활성화된 계정입니다");
+            }
+            String destination = accessor.getDestination();
+            if (destination == null || !destination.startsWith("/app/")) {
+                throw new UnauthorizedException("메시지를 보낼 수 없는 경로입니다");
+            }
+        }
+        return message;
+    }
+
+    private ChatPrincipal authenticate(String token) {
+        AuthUser authUser = jwtUtil.getAuthUser(token);
+        if (authUser == null) {
+            throw new UnauthorizedException("유효하지 않은 토큰입니다");
+        }
+        if (authUser.status() != User.UserStatus.ACTIVE || revocationCache.isRevoked(authUser.userId())) {
+            throw new UnauthorizedException("비활성화된 계정입니다");
+        }
+        // 채팅에 표시할 닉네임은 토큰에 없으므로 연결 시 한 번만 조회
+        User user = userRepository.findById(authUser.userId())
+                .orElseThrow(() -> new UnauthorizedException("사용자를 찾을 수 없습니다"));
+        return new ChatPrincipal(user.getId(), user.getNickname());
+    }
+}
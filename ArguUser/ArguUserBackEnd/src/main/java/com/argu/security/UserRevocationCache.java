@@ -0,0 +1,100 @@
+package com.argu.security;
+
+import com.argu.entity.User;
+import com.argu.repository.CacheVersionRepository;
+import com.argu.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+/**
+ * 인증 차단 회원 캐시
+ * 정지(SUSPENDED)/탈퇴(DELETED) 회원 ID만 메모리에 보관하여, JWT 인증 시 사용자 테이블을 조회하지 않고 차단 여부를 확인합니다.
+ * - 적재: 활성 상태가 아닌 회원 ID 1회 조회 (idx_status)
+ * - 관리자 백엔드의 회원 상태 변경/삭제: cache_version 테이블의 버전이 바뀌면 다시 적재
+ * - 버전 변경이 없어도 주기적으로 전체 재적재
+ */
+@Slf4j
+@Component
+public class UserRevocationCache {
+    public static final String CACHE_NAME = "user-status";     // cache_version 테이블의 캐시 이름
+
+    private final UserRepository userRepository;
+    private final CacheVersionRepository cacheVersionRepository;
+    private final TransactionTemplate readOnlyTransaction;      // 적재용 읽기 전용 트랜잭션
+
+    private volatile Snapshot snapshot;                         // 현재 캐시 (null이면 다음 확인 시 적재)
+
+    @Value("${argu.auth.revocation.refresh-interval-ms:300000}")
+    private long refreshIntervalMs;                             // 버전 변경이 없어도 다시 적재하는 주기
+
+    public UserRevocationCache(UserRepository userRepository,
+                               CacheVersionRepository cacheVersionRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.cacheVersionRepository = cacheVersionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 인증을 거부해야 하는 회원인지 확인
+     *
+     * @param userId 회원 ID
+     * @return 정지/탈퇴 회원이면 true
+     */
+    public boolean isRevoked(Long userId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = reload(false);
+        }
+        return current.userIds().contains(userId);
+    }
+
+    /**
+     * 캐시 버전 확인
+     * 관리자 백엔드가 버전을 올렸거나 재적재 주기가 지났으면 다시 적재합니다.
+     */
+    @Scheduled(fixedDelayString = "${argu.auth.revocation.version-check-interval-ms:5000}")
+    public void checkVersion() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        long version = cacheVersionRepository.findVersion(CACHE_NAME).orElse(0L);
+        boolean expired = System.currentTimeMillis() - current.loadedAt() >= refreshIntervalMs;
+        if (version != current.version() || expired) {
+            Snapshot loaded = reload(true);
+            if (version != current.version()) {
+                log.info("[AUTH] 인증 차단 회원 재적재 - version={} -> {}, revoked={}",
+                        current.version(), loaded.version(), loaded.userIds().size());
+            }
+        }
+    }
+
+    private synchronized Snapshot reload(boolean force) {
+        // 동시에 여러 요청이 비어 있는 캐시를 만나도 한 번만 적재
+        if (!force && snapshot != null) {
+            return snapshot;
+        }
+        Snapshot loaded = readOnlyTransaction.execute(status -> {
+            // 버전을 먼저 읽어, 적재 중에 바뀐 상태는 다음 확인 때 다시 적재되도록 함
+            long version = cacheVersionRepository.findVersion(CACHE_NAME).orElse(0L);
+            Set<Long> userIds = Set.copyOf(userRepository.findIdsByStatusNot(User.UserStatus.ACTIVE));
+            return new Snapshot(version, userIds, System.currentTimeMillis());
+        });
+        snapshot = loaded;
+        return loaded;
+    }
+
+    /**
+     * 적재된 차단 회원 ID (불변)
+     */
+    private record Snapshot(long version, Set<Long> userIds, long loadedAt) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.argu.service;
+
+import com.argu.repository.ArguRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 논쟁 비정규화 카운터(좋아요/댓글/입장 수) 재계산 서비스
+ * likes, comments, argu_opinion 테이블에서 다시 집계하여 argu 테이블의 카운터 컬럼을 맞춥니다.
+ * 한 번에 전체 테이블을 잠그지 않도록 논쟁 ID 구간 단위로 나누어 각각 별도 트랜잭션으로 실행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArguCounterRepairService {
+    private final ArguRepository arguRepository;
+
+    @Value("${argu.counter.repair-chunk-size:1000}")
+    private long chunkSize;                         // 한 번에 재계산할 논쟁 ID 구간 크기
+
+    @Value("${argu.counter.repair-on-startup:true}")
+    private boolean repairOnStartup;                // 애플리케이션 시작 시 재계산 여부
+
+    /**
+     * 애플리케이션 시작 시 카운터 재계산
+     * 카운터 컬럼이 새로 추가된 기존 데이터를 채우기 위해 사용합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        if (repairOnStartup) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * 주기적인 카운터 재계산
+     * 증감 UPDATE 누락 등으로 어긋난 값을 원본 테이블 기준으로 보정합니다.
+     */
+    @Scheduled(cron = "${argu.counter.repair-cron:0 30 4 * * *}")
+    public void scheduledRepair() {
+        rebuildAll();
+    }
+
+    /**
+     * 전체 논쟁의 카운터 재계산
+     *
+     * @return 갱신된 논쟁 수
+     */
+    public int rebuildAll() {
+        Long maxId = arguRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int updated = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            updated += arguRepository.rebuildCounters(fromId, fromId + chunkSize - 1);
+        }
+
+        log.info("[ARGU-COUNTER] 카운터 재계산 완료 - updated={}, maxId={}, elapsedMs={}",
+                updated, maxId, System.currentTimeMillis() - startedAt);
+        return updated;
+    }
+}
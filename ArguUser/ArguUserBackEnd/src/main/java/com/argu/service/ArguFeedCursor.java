@@ -0,0 +1,110 @@
+package com.argu.service;
+
+import com.argu.entity.Argu;
+import com.argu.exception.BadRequestException;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 논쟁 피드 커서 인코더/디코더
+ * 마지막 항목의 정렬 키 값(예: createdAt, id)을 정렬 기준과 함께 Base64 문자열로 만들어
+ * 클라이언트에게는 불투명한(opaque) 토큰으로 전달합니다.
+ */
+final class ArguFeedCursor {
+    private static final String DELIMITER = "|";
+
+    private ArguFeedCursor() {
+    }
+
+    /**
+     * 마지막 항목으로부터 다음 페이지 커서 생성
+     *
+     * @param sortName 정렬 기준 이름 (latest, popular, comments, views)
+     * @param sort 키셋 정렬 (마지막 정렬 키는 항상 id)
+     * @param last 현재 페이지의 마지막 논쟁
+     * @return 커서 토큰
+     */
+    static String encode(String sortName, Sort sort, Argu last) {
+        List<String> parts = new ArrayList<>();
+        parts.add(sortName);
+        for (Sort.Order order : sort) {
+            parts.add(String.valueOf(keyValue(last, order.getProperty())));
+        }
+        String raw = String.join(DELIMITER, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰을 키셋 스크롤 위치로 변환
+     *
+     * @param sortName 요청한 정렬 기준 이름
+     * @param sort 키셋 정렬
+     * @param cursor 커서 토큰 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 스크롤 위치
+     * @throws BadRequestException 커서가 손상되었거나 다른 정렬 기준의 커서인 경우
+     */
+    static ScrollPosition decode(String sortName, Sort sort, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            List<Sort.Order> orders = sort.toList();
+            if (parts.length != orders.size() + 1 || !parts[0].equals(sortName)) {
+                throw new BadRequestException("잘못된 커서입니다");
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (int i = 0; i < orders.size(); i++) {
+                String property = orders.get(i).getProperty();
+                keys.put(property, parseKeyValue(property, parts[i + 1]));
+            }
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("잘못된 커서입니다");
+        }
+    }
+
+    private static Object keyValue(Argu argu, String property) {
+        switch (property) {
+            case "createdAt":
+                return argu.getCreatedAt();
+            case "likeCount":
+                return argu.getLikeCount();
+            case "commentCount":
+                return argu.getCommentCount();
+            case "viewCount":
+                return argu.getViewCount();
+            case "id":
+                return argu.getId();
+            default:
+                throw new IllegalStateException("지원하지 않는 커서 정렬 키입니다: " + property);
+        }
+    }
+
+    private static Object parseKeyValue(String property, String value) {
+        switch (property) {
+            case "createdAt":
+                return LocalDateTime.parse(value);
+            case "viewCount":
+                return Integer.valueOf(value);
+            case "likeCount":
+            case "commentCount":
+            case "id":
+                return Long.valueOf(value);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 커서 정렬 키입니다: " + property);
+        }
+    }
+}
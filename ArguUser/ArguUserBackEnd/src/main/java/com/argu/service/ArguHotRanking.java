@@ -0,0 +1,254 @@
+package com.argu.service;
+
+import com.argu.repository.ArguRepository;
+import com.argu.repository.projection.HotCandidate;
+import com.argu.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기(hot) 논쟁 랭킹
+ * 좋아요/댓글/입장 참여/조회수를 가중 합산한 점수를 작성 후 경과 시간으로 감쇠시켜 정렬합니다.
+ *   score = (3 × 좋아요 + 2 × 댓글 + 2 × 입장 + 조회수 / 10 + 1) / (경과 시간(h) + 2) ^ gravity
+ * 요청마다 계산하지 않고, 최근 작성된 공개 논쟁을 후보로 메모리에 올려 둔 뒤
+ * 주기적으로 점수를 다시 계산하여 전체/카테고리별 상위 K개 ID 목록을 만들어 둡니다.
+ * - 좋아요/댓글/입장/조회: 트랜잭션 커밋 후 메모리 카운터만 증감 (DB 조회 없음)
+ * - 논쟁 생성/삭제/카테고리 변경: 후보 추가/제거/이동
+ * - 관리자 숨김/삭제, 후보 기간 만료: 주기적인 후보 재적재로 반영
+ */
+@Slf4j
+@Component
+public class ArguHotRanking {
+    private static final double LIKE_WEIGHT = 3.0;       // 좋아요 가중치
+    private static final double COMMENT_WEIGHT = 2.0;    // 댓글 가중치
+    private static final double OPINION_WEIGHT = 2.0;    // 입장 참여 가중치
+    private static final double VIEW_WEIGHT = 0.1;       // 조회수 가중치
+    private static final long GLOBAL = 0L;               // 전체 랭킹 키 (카테고리 ID는 1부터 시작)
+
+    /**
+     * 랭킹 신호 종류
+     */
+    public enum Signal {
+        LIKE,       // 좋아요
+        COMMENT,    // 댓글
+        OPINION,    // 입장 참여
+        VIEW        // 조회
+    }
+
+    private final ArguRepository arguRepository;
+
+    private volatile Map<Long, Candidate> candidates = new ConcurrentHashMap<>();  // 랭킹 후보 (논쟁 ID → 카운터)
+    private volatile Map<Long, long[]> rankings;                                   // 전체(0)/카테고리별 상위 K개 논쟁 ID
+
+    @Value("${argu.hot.window-days:7}")
+    private long windowDays;                             // 후보 기간 (최근 N일 이내 작성된 논쟁)
+
+    @Value("${argu.hot.top-k:500}")
+    private int topK;                                    // 전체/카테고리별로 보관할 최대 논쟁 수
+
+    @Value("${argu.hot.gravity:1.8}")
+    private double gravity;                              // 시간 감쇠 지수 (클수록 오래된 논쟁이 빨리 내려감)
+
+    public ArguHotRanking(ArguRepository arguRepository) {
+        this.arguRepository = arguRepository;
+    }
+
+    /**
+     * 랭킹이 준비되었는지 여부 (첫 적재 전에는 false)
+     */
+    public boolean isReady() {
+        return rankings != null;
+    }
+
+    /**
+     * 랭킹 페이지 조회
+     *
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param pageable 페이징 정보
+     * @return 해당 페이지의 논쟁 ID 목록 (전체 개수는 랭킹에 보관된 논쟁 수)
+     */
+    public Page<Long> getPage(Long categoryId, Pageable pageable) {
+        Map<Long, long[]> current = rankings;
+        long[] ids = current != null ? current.getOrDefault(categoryId != null ? categoryId : GLOBAL, new long[0]) : new long[0];
+        int from = (int) Math.min(pageable.getOffset(), ids.length);
+        int to = Math.min(from + pageable.getPageSize(), ids.length);
+        List<Long> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add(ids[i]);
+        }
+        return new PageImpl<>(content, pageable, ids.length);
+    }
+
+    /**
+     * 랭킹 신호 기록 (트랜잭션 안이면 커밋 후 반영)
+     *
+     * @param arguId 논쟁 ID
+     * @param signal 신호 종류
+     * @param delta 증감값
+     */
+    public void record(Long arguId, Signal signal, long delta) {
+        TransactionUtil.afterCommit(() -> {
+            Candidate candidate = candidates.get(arguId);
+            if (candidate != null) {
+                candidate.counter(signal).add(delta);
+            }
+        });
+    }
+
+    /**
+     * 새 논쟁을 후보에 추가 (커밋 후 반영)
+     */
+    public void add(Long arguId, Long categoryId, LocalDateTime createdAt) {
+        TransactionUtil.afterCommit(() -> candidates.put(arguId, new Candidate(categoryId, toMillis(createdAt))));
+    }
+
+    /**
+     * 논쟁의 카테고리 변경 반영 (커밋 후 반영)
+     */
+    public void move(Long arguId, Long categoryId) {
+        TransactionUtil.afterCommit(() -> {
+            Candidate candidate = candidates.get(arguId);
+            if (candidate != null) {
+                candidate.categoryId = categoryId;
+            }
+        });
+    }
+
+    /**
+     * 삭제된 논쟁을 후보에서 제거 (커밋 후 반영)
+     */
+    public void remove(Long arguId) {
+        TransactionUtil.afterCommit(() -> candidates.remove(arguId));
+    }
+
+    /**
+     * 시작 시 후보 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    /**
+     * 후보 재적재
+     * 최근 작성된 공개 논쟁과 카운터를 DB에서 다시 읽어, 관리자 숨김/삭제와 기간 만료를 반영하고 메모리 카운터 오차를 보정합니다.
+     */
+    @Scheduled(fixedDelayString = "${argu.hot.reload-interval-ms:300000}", initialDelayString = "${argu.hot.reload-interval-ms:300000}")
+    public synchronized void reload() {
+        LocalDateTime since = LocalDateTime.now().minusDays(windowDays);
+        Map<Long, Candidate> loaded = new ConcurrentHashMap<>();
+        for (HotCandidate row : arguRepository.findHotCandidates(since)) {
+            Candidate candidate = new Candidate(row.getCategoryId(), toMillis(row.getCreatedAt()));
+            candidate.likes.add(row.getLikeCount());
+            candidate.comments.add(row.getCommentCount());
+            candidate.opinions.add(row.getOpinionCount());
+            candidate.views.add(row.getViewCount());
+            loaded.put(row.getId(), candidate);
+        }
+        candidates = loaded;
+        log.debug("[ARGU-HOT] 랭킹 후보 적재 - candidates={}", loaded.size());
+        rescore();
+    }
+
+    /**
+     * 점수 재계산
+     * 후보 N개의 점수를 계산하면서 전체/카테고리별 크기 K의 최소 힙만 유지하므로 O(N log K)입니다.
+     */
+    @Scheduled(fixedDelayString = "${argu.hot.rescore-interval-ms:10000}")
+    public synchronized void rescore() {
+        long now = System.currentTimeMillis();
+        Map<Long, PriorityQueue<Scored>> heaps = new HashMap<>();
+        heaps.put(GLOBAL, new PriorityQueue<>(Comparator.comparingDouble(Scored::score)));
+
+        candidates.forEach((arguId, candidate) -> {
+            Scored scored = new Scored(arguId, candidate.score(now, gravity));
+            offer(heaps.get(GLOBAL), scored);
+            offer(heaps.computeIfAbsent(candidate.categoryId, id -> new PriorityQueue<>(Comparator.comparingDouble(Scored::score))), scored);
+        });
+
+        Map<Long, long[]> computed = new HashMap<>();
+        heaps.forEach((key, heap) -> computed.put(key, toDescendingIds(heap)));
+        rankings = Collections.unmodifiableMap(computed);
+    }
+
+    private void offer(PriorityQueue<Scored> heap, Scored scored) {
+        if (heap.size() < topK) {
+            heap.add(scored);
+        } else if (heap.peek().score() < scored.score()) {
+            heap.poll();
+            heap.add(scored);
+        }
+    }
+
+    private static long[] toDescendingIds(PriorityQueue<Scored> heap) {
+        Scored[] sorted = heap.toArray(new Scored[0]);
+        Arrays.sort(sorted, Comparator.comparingDouble(Scored::score).reversed().thenComparing(Scored::arguId, Comparator.reverseOrder()));
+        long[] ids = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            ids[i] = sorted[i].arguId();
+        }
+        return ids;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : System.currentTimeMillis();
+    }
+
+    private record Scored(long arguId, double score) {
+    }
+
+    /**
+     * 랭킹 후보 (카운터는 동시에 증감되므로 LongAdder 사용)
+     */
+    private static final class Candidate {
+        private volatile Long categoryId;
+        private final long createdAtMillis;
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder comments = new LongAdder();
+        private final LongAdder opinions = new LongAdder();
+        private final LongAdder views = new LongAdder();
+
+        private Candidate(Long categoryId, long createdAtMillis) {
+            this.categoryId = categoryId;
+            this.createdAtMillis = createdAtMillis;
+        }
+
+        private LongAdder counter(Signal signal) {
+            return switch (signal) {
+                case LIKE -> likes;
+                case COMMENT -> comments;
+                case OPINION -> opinions;
+                case VIEW -> views;
+            };
+        }
+
+        private double score(long now, double gravity) {
+            double points = LIKE_WEIGHT * likes.sum()
+                    + COMMENT_WEIGHT * comments.sum()
+                    + OPINION_WEIGHT * opinions.sum()
+                    + VIEW_WEIGHT * views.sum();
+            double ageHours = Math.max(0L, now - createdAtMillis) / 3_600_000.0;
+            return (Math.max(points, 0.0) + 1.0) / Math.pow(ageHours + 2.0, gravity);
+        }
+    }
+}
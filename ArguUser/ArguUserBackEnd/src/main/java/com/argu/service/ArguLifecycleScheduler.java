@@ -0,0 +1,229 @@
+package com.argu.service;
+
+import com.argu.entity.Argu;
+import com.argu.entity.Argu.ArguStatus;
+import com.argu.entity.SearchIndexQueue.DocType;
+import com.argu.repository.ArguRepository;
+import com.argu.repository.projection.LifecycleDeadline;
+import com.argu.search.SearchIndexEvent;
+import com.argu.util.TimerWheel;
+import com.argu.util.TransactionUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 논쟁 상태 자동 전환 스케줄러
+ * - SCHEDULED → ACTIVE: 시작일시 도달
+ * - ACTIVE → ENDED: 종료일시 도달
+ * 가까운 시간 안에 시작/종료될 논쟁을 타이머 휠에 시작일시/종료일시로 예약해 두고, 해당 시각에 그 논쟁 하나만 조건부 UPDATE로 전환합니다.
+ * 조건부 UPDATE(현재 상태 + 전환 시각)라 여러 인스턴스가 같은 논쟁을 예약해도 한 번만 반영됩니다.
+ * 예약 누락(다른 인스턴스에서 생성, 재시작 중 도달 등)은 주기적인 일괄 UPDATE로 보정하며,
+ * 일괄 UPDATE는 scheduler_lease 임대를 보유한 인스턴스 하나만 실행합니다.
+ */
+@Slf4j
+@Component
+public class ArguLifecycleScheduler {
+    private static final String LEASE_NAME = "argu-lifecycle";     // scheduler_lease 작업 이름
+
+    private final ArguRepository arguRepository;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService transitionExecutor;              // 예약된 전환 실행 스레드
+    private final TimerWheel<String> timerWheel;                   // 전환 예약 (키: START:{id} / END:{id})
+
+    @Value("${argu.lifecycle.horizon-minutes:60}")
+    private long horizonMinutes;                                   // 타이머 휠에 미리 예약하는 범위 (지금부터 N분 이내)
+
+    @Value("${argu.lifecycle.lease-ms:180000}")
+    private long leaseMs;                                          // 일괄 보정 임대 기간 (보정 주기보다 길게)
+
+    public ArguLifecycleScheduler(ArguRepository arguRepository,
+                                  SchedulerLeaseService schedulerLeaseService,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${argu.lifecycle.tick-ms:1000}") long tickMs,
+                                  @Value("${argu.lifecycle.wheel-size:512}") int wheelSize) {
+        this.arguRepository = arguRepository;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transitionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "argu-lifecycle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timerWheel = new TimerWheel<>("argu-lifecycle-wheel", tickMs, wheelSize, transitionExecutor);
+    }
+
+    /**
+     * 시작 시 밀린 전환을 반영하고 타이머 휠 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        timerWheel.start();
+        sweep();
+    }
+
+    /**
+     * 주기적인 일괄 보정 및 예약 갱신
+     * 임대를 보유한 인스턴스만 전환 시각이 지난 논쟁을 일괄 UPDATE하고, 모든 인스턴스가 다음 예약 범위의 논쟁을 타이머 휠에 등록합니다.
+     */
+    @Scheduled(fixedDelayString = "${argu.lifecycle.sweep-interval-ms:60000}",
+               initialDelayString = "${argu.lifecycle.sweep-interval-ms:60000}")
+    public void sweep() {
+        try {
+            if (schedulerLeaseService.tryAcquire(LEASE_NAME, Duration.ofMillis(leaseMs))) {
+                transitionDue(LocalDateTime.now());
+            }
+            scheduleUpcoming();
+        } catch (RuntimeException e) {
+            log.error("[ARGU-LIFECYCLE] 논쟁 상태 보정 실패", e);
+        }
+    }
+
+    /**
+     * 전환 시각이 지난 논쟁 일괄 전환
+     * 상태별로 엔티티를 읽지 않는 UPDATE 한 번씩만 실행하며, 검색 인덱스 갱신을 위해 대상 ID만 먼저 조회합니다.
+     *
+     * @param now 기준 시각
+     * @return 전환된 논쟁 수
+     */
+    public int transitionDue(LocalDateTime now) {
+        Integer updated = transactionTemplate.execute(status -> {
+            List<Long> started = arguRepository.findIdsByStatusAndStartDateLessThanEqual(ArguStatus.SCHEDULED, now);
+            int count = started.isEmpty() ? 0
+                    : arguRepository.updateStatusByStartDate(ArguStatus.SCHEDULED, ArguStatus.ACTIVE, now);
+            started.forEach(this::publishIndexEvent);
+
+            // 시작과 종료가 모두 지난 논쟁은 위에서 ACTIVE가 된 뒤 바로 ENDED로 전환
+            List<Long> ended = arguRepository.findIdsByStatusAndEndDateLessThanEqual(ArguStatus.ACTIVE, now);
+            count += ended.isEmpty() ? 0
+                    : arguRepository.updateStatusByEndDate(ArguStatus.ACTIVE, ArguStatus.ENDED, now);
+            ended.forEach(this::publishIndexEvent);
+            return count;
+        });
+        if (updated != null && updated > 0) {
+            log.info("[ARGU-LIFECYCLE] 논쟁 상태 일괄 전환 - updated={}", updated);
+        }
+        return updated != null ? updated : 0;
+    }
+
+    private void scheduleUpcoming() {
+        LocalDateTime until = LocalDateTime.now().plusMinutes(horizonMinutes);
+        List<LifecycleDeadline> starts = arguRepository.findStartDeadlines(ArguStatus.SCHEDULED, until);
+        List<LifecycleDeadline> ends = arguRepository.findEndDeadlines(ArguStatus.ACTIVE, until);
+        starts.forEach(row -> scheduleStart(row.getId(), row.getDeadline()));
+        ends.forEach(row -> scheduleEnd(row.getId(), row.getDeadline()));
+        log.debug("[ARGU-LIFECYCLE] 상태 전환 예약 - starts={}, ends={}, scheduled={}",
+                starts.size(), ends.size(), timerWheel.size());
+    }
+
+    /**
+     * 논쟁 생성/일정 변경 시 전환 예약 (트랜잭션 안이면 커밋 후 반영)
+     * 예약 범위 밖의 일정은 주기적인 예약 갱신 때 등록됩니다.
+     *
+     * @param argu 논쟁
+     */
+    public void schedule(Argu argu) {
+        Long id = argu.getId();
+        LocalDateTime startDate = argu.getStartDate();
+        LocalDateTime endDate = argu.getEndDate();
+        TransactionUtil.afterCommit(() -> {
+            LocalDateTime until = LocalDateTime.now().plusMinutes(horizonMinutes);
+            if (startDate.isBefore(until)) {
+                scheduleStart(id, startDate);
+            } else {
+                timerWheel.cancel(startKey(id));
+            }
+            if (endDate.isBefore(until)) {
+                scheduleEnd(id, endDate);
+            } else {
+                timerWheel.cancel(endKey(id));
+            }
+        });
+    }
+
+    /**
+     * 삭제된 논쟁의 전환 예약 취소 (커밋 후 반영)
+     *
+     * @param arguId 논쟁 ID
+     */
+    public void cancel(Long arguId) {
+        TransactionUtil.afterCommit(() -> {
+            timerWheel.cancel(startKey(arguId));
+            timerWheel.cancel(endKey(arguId));
+        });
+    }
+
+    private void scheduleStart(Long id, LocalDateTime startDate) {
+        timerWheel.schedule(startKey(id), toMillis(startDate),
+                () -> transitionOne(id, ArguStatus.SCHEDULED, ArguStatus.ACTIVE));
+    }
+
+    private void scheduleEnd(Long id, LocalDateTime endDate) {
+        timerWheel.schedule(endKey(id), toMillis(endDate),
+                () -> transitionOne(id, ArguStatus.ACTIVE, ArguStatus.ENDED));
+    }
+
+    private void transitionOne(Long id, ArguStatus from, ArguStatus to) {
+        try {
+            Integer updated = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                int count = from == ArguStatus.SCHEDULED
+                        ? arguRepository.updateStatusByStartDate(id, from, to, now)
+                        : arguRepository.updateStatusByEndDate(id, from, to, now);
+                if (count > 0) {
+                    publishIndexEvent(id);
+                }
+                return count;
+            });
+            if (updated != null && updated > 0) {
+                log.info("[ARGU-LIFECYCLE] 논쟁 상태 전환 - arguId={}, {} -> {}", id, from, to);
+            }
+        } catch (RuntimeException e) {
+            // 실패한 전환은 다음 일괄 보정에서 반영
+            log.warn("[ARGU-LIFECYCLE] 논쟁 상태 전환 실패 - arguId={}, {} -> {}", id, from, to, e);
+        }
+    }
+
+    private void publishIndexEvent(Long arguId) {
+        eventPublisher.publishEvent(new SearchIndexEvent(DocType.ARGU, arguId));
+    }
+
+    private static String startKey(Long arguId) {
+        return "START:" + arguId;
+    }
+
+    private static String endKey(Long arguId) {
+        return "END:" + arguId;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 종료 시 타이머 휠과 실행 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        timerWheel.stop();
+        transitionExecutor.shutdownNow();
+    }
+}
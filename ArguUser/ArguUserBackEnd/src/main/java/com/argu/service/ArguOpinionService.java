@@ -1,25 +1,35 @@
 package com.argu.service;
 
 import com.argu.dto.request.CreateOpinionRequest;
+import com.argu.dto.response.CursorResponse;
+import com.argu.dto.response.OpinionResponse;
 import com.argu.entity.Argu;
 import com.argu.entity.ArguOpinion;
+import com.argu.entity.ArguOpinion.OpinionSide;
 import com.argu.entity.User;
 import com.argu.exception.BadRequestException;
 import com.argu.exception.ResourceNotFoundException;
 import com.argu.repository.ArguOpinionRepository;
 import com.argu.repository.ArguRepository;
+import com.argu.repository.projection.OpinionView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ArguOpinionService {
+    private static final int MAX_PAGE_SIZE = 100;                                            // 입장 목록 최대 페이지 크기
+
     private final ArguOpinionRepository arguOpinionRepository;
     private final ArguRepository arguRepository;
+    private final ArguHotRanking hotRanking;
+    private final OpinionTallyHub opinionTallyHub;
 
     @Transactional
     public ArguOpinion createOpinion(CreateOpinionRequest request, Long userId) {
@@ -48,15 +58,49 @@ public class ArguOpinionService {
                 .content(request.getContent())
                 .build();
 
-        return arguOpinionRepository.save(opinion);
+        opinion = arguOpinionRepository.save(opinion);
+        arguRepository.incrementOpinionCount(argu.getId(), opinion.getSide().name());
+        hotRanking.record(argu.getId(), ArguHotRanking.Signal.OPINION, 1);
+        opinionTallyHub.increment(argu.getId(), opinion.getSide());
+        return opinion;
     }
 
-    public List<ArguOpinion> getOpinionsByArgu(Long arguId) {
-        Argu argu = arguRepository.findById(arguId)
-                .orElseThrow(() -> new ResourceNotFoundException("논쟁을 찾을 수 없습니다"));
+    /**
+     * 논쟁의 입장 목록 조회 (최신순 커서 페이징)
+     * 작성자를 조인한 프로젝션으로 한 페이지만 조회하므로 입장이 많은 논쟁도 페이지 단위로 내려줍니다.
+     *
+     * @param arguId 논쟁 ID
+     * @param side 입장 필터 (null이면 전체)
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 입장 목록과 다음 커서
+     * @throws ResourceNotFoundException 논쟁을 찾을 수 없는 경우
+     * @throws BadRequestException 커서가 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<OpinionResponse> getOpinionsByArgu(Long arguId, OpinionSide side, String cursor, int size) {
+        if (!arguRepository.existsById(arguId)) {
+            throw new ResourceNotFoundException("논쟁을 찾을 수 없습니다");
+        }
+
+        CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<OpinionView> opinions = side != null
+                ? arguOpinionRepository.findViewsByArguIdAndSide(arguId, side, after.createdAt(), after.id(), Limit.of(limit + 1))
+                : arguOpinionRepository.findViewsByArguId(arguId, after.createdAt(), after.id(), Limit.of(limit + 1));
+        boolean hasNext = opinions.size() > limit;
+        if (hasNext) {
+            opinions = opinions.subList(0, limit);
+        }
 
-        return arguOpinionRepository.findByArgu(argu);
+        List<OpinionResponse> content = opinions.stream()
+                .map(OpinionResponse::from)
+                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (!opinions.isEmpty()) {
+            OpinionView last = opinions.get(opinions.size() - 1);
+            nextCursor = CreatedAtCursor.encode(last.getCreatedAt(), last.getId());
+        }
+        return CursorResponse.of(content, hasNext, nextCursor);
     }
 }
-
-
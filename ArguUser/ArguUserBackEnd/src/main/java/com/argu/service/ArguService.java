@@ -3,27 +3,39 @@ package com.argu.service;
 import com.argu.dto.request.CreateArguRequest;
 import com.argu.dto.request.UpdateArguRequest;
 import com.argu.dto.response.ArguResponse;
+import com.argu.dto.response.CursorResponse;
 import com.argu.entity.Argu;
 import com.argu.entity.Category;
+import com.argu.entity.SearchIndexQueue.DocType;
 import com.argu.entity.User;
 import com.argu.exception.BadRequestException;
 import com.argu.exception.ResourceNotFoundException;
 import com.argu.exception.UnauthorizedException;
 import com.argu.repository.ArguRepository;
 import com.argu.repository.CategoryRepository;
-import com.argu.repository.CommentRepository;
-import com.argu.repository.LikeRepository;
+import com.argu.repository.projection.ArguView;
+import com.argu.search.LuceneSearchIndex;
+import com.argu.search.SearchHits;
+import com.argu.search.SearchIndexEvent;
+import com.argu.util.FullTextQueryUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -32,10 +44,19 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class ArguService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;   // 커서 페이징 최대 페이지 크기
+
     private final ArguRepository arguRepository;           // 논쟁 데이터 접근 리포지토리
     private final CategoryRepository categoryRepository;   // 카테고리 데이터 접근 리포지토리
-    private final LikeRepository likeRepository;           // 좋아요 데이터 접근 리포지토리
-    private final CommentRepository commentRepository;     // 댓글 데이터 접근 리포지토리
+    private final ArguViewCountBuffer viewCountBuffer;     // 조회수 쓰기 지연 버퍼
+    private final CategoryCatalogCache categoryCatalogCache; // 카테고리 목록 캐시 (카테고리별 논쟁 개수)
+    private final ArguHotRanking hotRanking;               // 인기(hot) 논쟁 랭킹
+    private final ArguLifecycleScheduler lifecycleScheduler; // 논쟁 상태 자동 전환 예약
+    private final LuceneSearchIndex searchIndex;           // 내장 검색 인덱스
+    private final ApplicationEventPublisher eventPublisher; // 검색 인덱스 갱신 이벤트 발행
+
+    @Value("${argu.search.engine:fulltext}")
+    private String searchEngine;                           // 검색 엔진 (lucene, fulltext)
 
     /**
      * 새로운 논쟁 생성
@@ -81,22 +102,28 @@ public class ArguService {
 
         // 논쟁 저장
         argu = arguRepository.save(argu);
+        eventPublisher.publishEvent(new SearchIndexEvent(DocType.ARGU, argu.getId()));
+        categoryCatalogCache.adjustArguCount(category.getId(), 1);
+        hotRanking.add(argu.getId(), category.getId(), argu.getCreatedAt());
+        lifecycleScheduler.schedule(argu);
         
         // 응답 DTO 생성 (좋아요 수, 댓글 수는 0으로 초기화)
-        return ArguResponse.from(argu, 0L, 0L);
+        return ArguResponse.from(argu);
     }
 
     /**
      * 논쟁 ID로 논쟁 상세 정보 조회
      * 조회 시 조회수가 자동으로 증가합니다.
+     * 조회수는 ArguViewCountBuffer에 누적되었다가 주기적으로 DB에 반영되므로 조회 자체는 읽기 전용 트랜잭션입니다.
      * 
      * @param id 논쟁 ID
      * @return 논쟁 상세 정보 (좋아요 수, 댓글 수 포함)
      * @throws ResourceNotFoundException 논쟁을 찾을 수 없거나 숨김 처리된 경우
      */
+    @Transactional(readOnly = true)
     public ArguResponse getArguById(Long id) {
-        // 논쟁 조회
-        Argu argu = arguRepository.findById(id)
+        // 논쟁 조회 (작성자/카테고리를 조인한 프로젝션으로 한 번에 조회)
+        ArguView argu = arguRepository.findViewById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("논쟁을 찾을 수 없습니다"));
 
         // 숨김 처리된 논쟁인지 확인
@@ -104,18 +131,14 @@ public class ArguService {
             throw new ResourceNotFoundException("논쟁을 찾을 수 없습니다");
         }
 
-        // 조회수 증가
-        argu.setViewCount(argu.getViewCount() + 1);
-        arguRepository.save(argu);
-
-        // 좋아요 수 조회
-        Long likeCount = likeRepository.countByArgu(argu);
-        
-        // 댓글 수 조회 (숨김 처리되지 않은 댓글만)
-        Long commentCount = commentRepository.countByArguAndIsHiddenFalse(argu);
+        // 조회수 증가 (메모리 버퍼에 누적, 주기적으로 배치 반영)
+        viewCountBuffer.increment(id);
+        hotRanking.record(id, ArguHotRanking.Signal.VIEW, 1);
 
-        // 응답 DTO 생성
-        return ArguResponse.from(argu, likeCount, commentCount);
+        // 응답 DTO 생성 (좋아요 수, 댓글 수는 카운터 컬럼 사용, 조회수는 미반영 증가분 포함)
+        ArguResponse response = ArguResponse.from(argu);
+        response.setViewCount((int) (argu.getViewCount() + viewCountBuffer.getPending(id)));
+        return response;
     }
 
     /**
@@ -123,66 +146,82 @@ public class ArguService {
      * 숨김 처리되지 않은 논쟁만 조회합니다.
      * 
      * @param pageable 페이징 정보
-     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param sort 정렬 기준 (hot, latest, popular, comments, views)
      * @param status 논쟁 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
      * @return 논쟁 목록 (좋아요 수, 댓글 수 포함)
      */
+    @Transactional(readOnly = true)
     public Page<ArguResponse> getAllArgus(Pageable pageable, String sort, Argu.ArguStatus status) {
+        // 인기순은 미리 계산된 랭킹에서 해당 페이지의 ID만 가져옴
+        if (useHotRanking(sort, status)) {
+            return getHotPage(null, pageable);
+        }
+
         // 정렬 기준에 따라 Pageable 수정
         Pageable sortedPageable = getSortedPageable(pageable, sort);
         
-        // 정렬 기준이 popular 또는 comments인 경우, 모든 데이터를 가져와서 정렬 후 페이징
-        if ("popular".equals(sort) || "comments".equals(sort)) {
-            // 모든 데이터 가져오기 (페이징 없이)
-            List<Argu> allArgus;
-            if (status != null) {
-                allArgus = arguRepository.findByIsHiddenFalseAndStatus(status, Sort.by(Sort.Direction.DESC, "createdAt"));
-            } else {
-                allArgus = arguRepository.findByIsHiddenFalse(Sort.by(Sort.Direction.DESC, "createdAt"));
-            }
-            
-            List<ArguResponse> allArguResponses = allArgus.stream()
-                    .map(argu -> {
-                        Long likeCount = likeRepository.countByArgu(argu);
-                        Long commentCount = commentRepository.countByArguAndIsHiddenFalse(argu);
-                        return ArguResponse.from(argu, likeCount, commentCount);
-                    })
-                    .collect(Collectors.toList());
-            
-            // 정렬 기준에 따라 정렬
-            if ("popular".equals(sort)) {
-                allArguResponses.sort(Comparator
-                        .comparing((ArguResponse a) -> a.getLikeCount() != null ? a.getLikeCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((ArguResponse a) -> a.getCreatedAt() != null ? a.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
-            } else if ("comments".equals(sort)) {
-                allArguResponses.sort(Comparator
-                        .comparing((ArguResponse a) -> a.getCommentCount() != null ? a.getCommentCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((ArguResponse a) -> a.getCreatedAt() != null ? a.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
-            }
-            
-            // 페이징 적용
-            int start = (int) pageable.getOffset();
-            int end = Math.min((start + pageable.getPageSize()), allArguResponses.size());
-            List<ArguResponse> pagedArgus = allArguResponses.subList(start, end);
-            
-            return new PageImpl<>(pagedArgus, pageable, allArguResponses.size());
+        // 모든 정렬 기준을 DB의 ORDER BY + LIMIT/OFFSET으로 처리
+        Page<Argu> arguPage;
+        if (status != null) {
+            arguPage = arguRepository.findByIsHiddenFalseAndStatus(status, sortedPageable);
         } else {
-            // latest, views는 DB에서 정렬 가능
-            Page<Argu> arguPage;
-            if (status != null) {
-                arguPage = arguRepository.findByIsHiddenFalseAndStatus(status, sortedPageable);
-            } else {
-                arguPage = arguRepository.findByIsHiddenFalse(sortedPageable);
-            }
-            
-            return arguPage.map(argu -> {
-                Long likeCount = likeRepository.countByArgu(argu);
-                Long commentCount = commentRepository.countByArguAndIsHiddenFalse(argu);
-                return ArguResponse.from(argu, likeCount, commentCount);
-            });
+            arguPage = arguRepository.findByIsHiddenFalse(sortedPageable);
         }
+        
+        return arguPage.map(this::toResponse);
     }
     
+    private boolean useHotRanking(String sort, Argu.ArguStatus status) {
+        // 랭킹은 상태별로 나누어 두지 않으므로 상태 필터가 있으면 DB 정렬(인기순)로 처리
+        return "hot".equals(sort) && status == null && hotRanking.isReady();
+    }
+
+    /**
+     * 인기(hot) 랭킹 페이지 조회
+     * 랭킹에서 해당 페이지의 ID만 꺼내 한 번에 조회하므로 페이지 크기만큼만 읽습니다.
+     * 
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param pageable 페이징 정보
+     * @return 인기순 논쟁 목록 (전체 개수는 랭킹에 보관된 논쟁 수)
+     */
+    private Page<ArguResponse> getHotPage(Long categoryId, Pageable pageable) {
+        Page<Long> ids = hotRanking.getPage(categoryId, pageable);
+        return new PageImpl<>(findResponsesInOrder(ids.getContent()), pageable, ids.getTotalElements());
+    }
+
+    /**
+     * ID 목록 순서대로 논쟁 응답 생성
+     * 논쟁은 ID 목록으로 한 번에 조회하며, 그 사이 삭제되거나 숨김 처리된 논쟁은 제외합니다.
+     * 
+     * @param ids 논쟁 ID 목록 (표시 순서)
+     * @return 논쟁 응답 목록
+     */
+    private List<ArguResponse> findResponsesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Argu> argus = arguRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Argu::getId, Function.identity()));
+        return ids.stream()
+                .map(argus::get)
+                .filter(argu -> argu != null && !argu.getIsHidden())
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 논쟁 엔티티를 응답 DTO로 변환
+     * 아직 DB에 반영되지 않은 조회수 증가분을 더해 화면의 조회수가 줄어들지 않도록 합니다.
+     * 
+     * @param argu 논쟁 엔티티
+     * @return 논쟁 응답 DTO
+     */
+    private ArguResponse toResponse(Argu argu) {
+        ArguResponse response = ArguResponse.from(argu);
+        response.setViewCount((int) (argu.getViewCount() + viewCountBuffer.getPending(argu.getId())));
+        return response;
+    }
+
     /**
      * 정렬 기준에 따라 Pageable 생성
      * 
@@ -191,25 +230,85 @@ public class ArguService {
      * @return 정렬된 Pageable
      */
     private Pageable getSortedPageable(Pageable pageable, String sort) {
+        return PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                getSort(sort)
+        );
+    }
+
+    /**
+     * 정렬 기준 이름을 Sort로 변환
+     * 
+     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @return 정렬 조건
+     */
+    private Sort getSort(String sort) {
         Sort.Direction direction = Sort.Direction.DESC;
-        String property;
         
         switch (sort) {
-            case "latest":
-                property = "createdAt";
-                break;
             case "views":
-                property = "viewCount";
-                break;
+                return Sort.by(direction, "viewCount");
+            case "hot":
+                // 랭킹을 사용할 수 없는 경우(상태 필터, 커서 피드, 랭킹 준비 전)는 인기순으로 대체
+            case "popular":
+                // 좋아요 수 카운터 컬럼 기준, 동률이면 최신순
+                return Sort.by(direction, "likeCount").and(Sort.by(direction, "createdAt"));
+            case "comments":
+                // 댓글 수 카운터 컬럼 기준, 동률이면 최신순
+                return Sort.by(direction, "commentCount").and(Sort.by(direction, "createdAt"));
+            case "latest":
             default:
-                property = "createdAt";
+                return Sort.by(direction, "createdAt");
         }
-        
-        return org.springframework.data.domain.PageRequest.of(
-                pageable.getPageNumber(),
-                pageable.getPageSize(),
-                Sort.by(direction, property)
-        );
+    }
+
+    /**
+     * 커서(키셋) 기반 논쟁 피드 조회
+     * OFFSET과 COUNT 쿼리 없이 마지막 항목의 정렬 키 이후부터 조회하므로 페이지 깊이와 관계없이 일정한 비용으로 동작합니다.
+     * 무한 스크롤 클라이언트용입니다.
+     * 
+     * @param categoryId 카테고리 ID (선택적, null이면 전체)
+     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param status 논쟁 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 문자열)
+     * @param size 페이지 크기 (1~100)
+     * @return 논쟁 목록과 다음 커서
+     * @throws ResourceNotFoundException 카테고리를 찾을 수 없는 경우
+     * @throws BadRequestException 커서가 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<ArguResponse> getArgusByCursor(Long categoryId, String sort, Argu.ArguStatus status,
+                                                         String cursor, int size) {
+        Category category = null;
+        if (categoryId != null) {
+            category = categoryRepository.findById(categoryId)
+                    .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다"));
+        }
+
+        // 키셋 정렬: 정렬 기준 + id (동률 항목도 순서가 유일하게 결정되도록)
+        Sort keysetSort = getSort(sort).and(Sort.by(Sort.Direction.DESC, "id"));
+        ScrollPosition position = ArguFeedCursor.decode(sort, keysetSort, cursor);
+        Limit limit = Limit.of(Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE));
+
+        Window<Argu> window;
+        if (category != null && status != null) {
+            window = arguRepository.findByCategoryAndIsHiddenFalseAndStatus(category, status, position, keysetSort, limit);
+        } else if (category != null) {
+            window = arguRepository.findByCategoryAndIsHiddenFalse(category, position, keysetSort, limit);
+        } else if (status != null) {
+            window = arguRepository.findByIsHiddenFalseAndStatus(status, position, keysetSort, limit);
+        } else {
+            window = arguRepository.findByIsHiddenFalse(position, keysetSort, limit);
+        }
+
+        List<Argu> argus = window.getContent();
+        String nextCursor = argus.isEmpty() ? null : ArguFeedCursor.encode(sort, keysetSort, argus.get(argus.size() - 1));
+        List<ArguResponse> content = argus.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+
+        return CursorResponse.of(content, window.hasNext(), nextCursor);
     }
 
     /**
@@ -217,83 +316,49 @@ public class ArguService {
      * 
      * @param categoryId 카테고리 ID
      * @param pageable 페이징 정보
-     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param sort 정렬 기준 (hot, latest, popular, comments, views)
      * @param status 논쟁 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
      * @return 해당 카테고리의 논쟁 목록 (좋아요 수, 댓글 수 포함)
      * @throws ResourceNotFoundException 카테고리를 찾을 수 없는 경우
      */
+    @Transactional(readOnly = true)
     public Page<ArguResponse> getArgusByCategory(Long categoryId, Pageable pageable, String sort, Argu.ArguStatus status) {
         // 카테고리 조회 및 검증
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다"));
 
+        // 인기순은 미리 계산된 카테고리별 랭킹 사용
+        if (useHotRanking(sort, status)) {
+            return getHotPage(category.getId(), pageable);
+        }
+
         // 정렬 기준에 따라 Pageable 수정
         Pageable sortedPageable = getSortedPageable(pageable, sort);
         
-        // 정렬 기준이 popular 또는 comments인 경우, 모든 데이터를 가져와서 정렬 후 페이징
-        if ("popular".equals(sort) || "comments".equals(sort)) {
-            // 모든 데이터 가져오기 (페이징 없이)
-            List<Argu> allArgus;
-            if (status != null) {
-                allArgus = arguRepository.findByCategoryAndIsHiddenFalseAndStatus(category, status, Sort.by(Sort.Direction.DESC, "createdAt"));
-            } else {
-                allArgus = arguRepository.findByCategoryAndIsHiddenFalse(category, Sort.by(Sort.Direction.DESC, "createdAt"));
-            }
-            
-            List<ArguResponse> allArguResponses = allArgus.stream()
-                    .map(argu -> {
-                        Long likeCount = likeRepository.countByArgu(argu);
-                        Long commentCount = commentRepository.countByArguAndIsHiddenFalse(argu);
-                        return ArguResponse.from(argu, likeCount, commentCount);
-                    })
-                    .collect(Collectors.toList());
-            
-            // 정렬 기준에 따라 정렬
-            if ("popular".equals(sort)) {
-                allArguResponses.sort(Comparator
-                        .comparing((ArguResponse a) -> a.getLikeCount() != null ? a.getLikeCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((ArguResponse a) -> a.getCreatedAt() != null ? a.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
-            } else if ("comments".equals(sort)) {
-                allArguResponses.sort(Comparator
-                        .comparing((ArguResponse a) -> a.getCommentCount() != null ? a.getCommentCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((ArguResponse a) -> a.getCreatedAt() != null ? a.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
-            }
-            
-            // 페이징 적용
-            int start = (int) pageable.getOffset();
-            int end = Math.min((start + pageable.getPageSize()), allArguResponses.size());
-            List<ArguResponse> pagedArgus = allArguResponses.subList(start, end);
-            
-            return new PageImpl<>(pagedArgus, pageable, allArguResponses.size());
+        // 모든 정렬 기준을 DB의 ORDER BY + LIMIT/OFFSET으로 처리
+        Page<Argu> arguPage;
+        if (status != null) {
+            arguPage = arguRepository.findByCategoryAndIsHiddenFalseAndStatus(category, status, sortedPageable);
         } else {
-            // latest, views는 DB에서 정렬 가능
-            Page<Argu> arguPage;
-            if (status != null) {
-                arguPage = arguRepository.findByCategoryAndIsHiddenFalseAndStatus(category, status, sortedPageable);
-            } else {
-                arguPage = arguRepository.findByCategoryAndIsHiddenFalse(category, sortedPageable);
-            }
-            
-            return arguPage.map(argu -> {
-                Long likeCount = likeRepository.countByArgu(argu);
-                Long commentCount = commentRepository.countByArguAndIsHiddenFalse(argu);
-                return ArguResponse.from(argu, likeCount, commentCount);
-            });
+            arguPage = arguRepository.findByCategoryAndIsHiddenFalse(category, sortedPageable);
         }
+        
+        return arguPage.map(this::toResponse);
     }
 
     /**
      * 키워드로 논쟁 검색 (페이징)
-     * 제목과 내용에서 키워드를 검색합니다.
-     * 카테고리, 상태 필터를 지원합니다.
+     * 제목과 내용에서 키워드를 FULLTEXT(ngram) 인덱스로 검색합니다.
+     * 카테고리, 상태 필터를 지원하며, 정렬 기준이 relevance이면 관련도 점수가 높은 순으로 정렬합니다.
      * 
-     * @param keyword 검색 키워드
+     * @param keyword 검색 키워드 (공백으로 구분된 모든 단어를 포함하는 논쟁 검색)
      * @param categoryId 카테고리 ID (선택적)
      * @param status 논쟁 상태 (선택적)
      * @param pageable 페이징 정보
-     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param sort 정렬 기준 (relevance, latest, popular, comments, views)
      * @return 검색된 논쟁 목록 (좋아요 수, 댓글 수 포함)
      */
+    @Transactional(readOnly = true)
     public Page<ArguResponse> searchArgus(String keyword, Long categoryId, Argu.ArguStatus status, Pageable pageable, String sort) {
         // 카테고리 조회 (categoryId가 있는 경우)
         Category category = null;
@@ -301,84 +366,54 @@ public class ArguService {
             category = categoryRepository.findById(categoryId)
                     .orElse(null); // 카테고리를 찾을 수 없으면 null
         }
-        
-        // 정렬 기준이 popular 또는 comments인 경우, 모든 데이터를 가져와서 정렬 후 페이징
-        if ("popular".equals(sort) || "comments".equals(sort)) {
-            // 모든 데이터 가져오기 (페이징 없이)
-            List<Argu> allArgus = arguRepository.searchByKeywordWithoutPaging(
-                    keyword != null && !keyword.trim().isEmpty() ? keyword : null,
-                    category,
-                    status,
-                    Sort.by(Sort.Direction.DESC, "createdAt")
-            );
-            
-            List<ArguResponse> allArguResponses = allArgus.stream()
-                    .map(argu -> {
-                        Long likeCount = likeRepository.countByArgu(argu);
-                        Long commentCount = commentRepository.countByArguAndIsHiddenFalse(argu);
-                        return ArguResponse.from(argu, likeCount, commentCount);
-                    })
-                    .collect(Collectors.toList());
-            
-            // 정렬 기준에 따라 정렬
-            if ("popular".equals(sort)) {
-                allArguResponses.sort(Comparator
-                        .comparing((ArguResponse a) -> a.getLikeCount() != null ? a.getLikeCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((ArguResponse a) -> a.getCreatedAt() != null ? a.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
-            } else if ("comments".equals(sort)) {
-                allArguResponses.sort(Comparator
-                        .comparing((ArguResponse a) -> a.getCommentCount() != null ? a.getCommentCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((ArguResponse a) -> a.getCreatedAt() != null ? a.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
-            }
-            
-            // 페이징 적용
-            int start = (int) pageable.getOffset();
-            int end = Math.min((start + pageable.getPageSize()), allArguResponses.size());
-            List<ArguResponse> pagedArgus = allArguResponses.subList(start, end);
-            
-            return new PageImpl<>(pagedArgus, pageable, allArguResponses.size());
+
+        // 검색 인덱스 사용 시 관련도순/최신순은 Lucene으로 검색 (인덱스 준비 전에는 DB 사용)
+        if (useSearchIndex(keyword, sort, pageable)) {
+            return searchByIndex(keyword, category != null ? category.getId() : null, status, pageable,
+                    !"relevance".equals(sort));
+        }
+
+        // 검색어를 BOOLEAN MODE 검색식으로 변환 (사용할 단어가 없으면 조건 검색만 수행)
+        String query = FullTextQueryUtil.toBooleanModeQuery(keyword);
+
+        Page<Argu> searchResults;
+        if (query == null) {
+            searchResults = arguRepository.searchByFilters(category, status, getSortedPageable(pageable, sort));
+        } else if ("relevance".equals(sort)) {
+            // 관련도순은 쿼리의 ORDER BY를 사용하므로 정렬 없는 Pageable 전달
+            Pageable unsortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+            searchResults = arguRepository.searchByFullTextOrderByRelevance(query, category, status, unsortedPageable);
         } else {
-            // latest, views는 DB에서 정렬 가능
-            // 정렬 기준에 따라 Pageable 수정
-            Pageable sortedPageable = getSortedPageable(pageable, sort);
-            
-            // 검색 실행
-            Page<Argu> searchResults = arguRepository.searchByKeyword(
-                    keyword != null && !keyword.trim().isEmpty() ? keyword : null,
-                    category,
-                    status,
-                    sortedPageable
-            );
-            
-            return searchResults.map(argu -> {
-                Long likeCount = likeRepository.countByArgu(argu);
-                Long commentCount = commentRepository.countByArguAndIsHiddenFalse(argu);
-                return ArguResponse.from(argu, likeCount, commentCount);
-            });
+            searchResults = arguRepository.searchByFullText(query, category, status, getSortedPageable(pageable, sort));
         }
+        
+        return searchResults.map(this::toResponse);
+    }
+
+    private boolean useSearchIndex(String keyword, String sort, Pageable pageable) {
+        return "lucene".equals(searchEngine)
+                && searchIndex.isReady()
+                && keyword != null && !keyword.isBlank()
+                && ("relevance".equals(sort) || "latest".equals(sort))
+                && pageable.getOffset() + pageable.getPageSize() <= LuceneSearchIndex.MAX_RESULT_WINDOW;
     }
 
     /**
-     * 논쟁 상태 자동 업데이트
-     * 스케줄러에서 주기적으로 호출하여 논쟁 상태를 자동으로 변경합니다.
-     * - SCHEDULED → ACTIVE: 시작일시가 지난 논쟁
-     * - ACTIVE → ENDED: 종료일시가 지난 논쟁
+     * 검색 인덱스로 논쟁 검색
+     * 인덱스에서 해당 페이지의 논쟁 ID만 얻고, 논쟁은 ID 목록으로 한 번에 조회하여 인덱스 순서대로 정렬합니다.
+     * 
+     * @param keyword 검색 키워드
+     * @param categoryId 카테고리 ID (선택적)
+     * @param status 논쟁 상태 (선택적)
+     * @param pageable 페이징 정보
+     * @param latest true면 최신순, false면 관련도순
+     * @return 검색된 논쟁 목록
      */
-    @Transactional
-    public void updateArguStatus() {
-        LocalDateTime now = LocalDateTime.now();
-
-        // 예정(SCHEDULED) 상태인 논쟁 중 시작일시가 지난 논쟁을 진행중(ACTIVE)으로 변경
-        List<Argu> scheduledArgus = arguRepository.findByStatusAndStartDateLessThanEqual(
-                Argu.ArguStatus.SCHEDULED, now);
-        scheduledArgus.forEach(argu -> argu.setStatus(Argu.ArguStatus.ACTIVE));
-        arguRepository.saveAll(scheduledArgus);
-
-        // 진행중(ACTIVE) 상태인 논쟁 중 종료일시가 지난 논쟁을 종료(ENDED)로 변경
-        List<Argu> activeArgus = arguRepository.findByStatusAndEndDateLessThanEqual(
-                Argu.ArguStatus.ACTIVE, now);
-        activeArgus.forEach(argu -> argu.setStatus(Argu.ArguStatus.ENDED));
-        arguRepository.saveAll(activeArgus);
+    private Page<ArguResponse> searchByIndex(String keyword, Long categoryId, Argu.ArguStatus status,
+                                             Pageable pageable, boolean latest) {
+        SearchHits hits = searchIndex.searchArgus(keyword, categoryId, status, latest,
+                (int) pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(findResponsesInOrder(hits.ids()), pageable, hits.totalHits());
     }
 
     /**
@@ -425,9 +460,12 @@ public class ArguService {
         }
 
         // 카테고리 수정
-        if (request.getCategoryId() != null) {
+        if (request.getCategoryId() != null && !request.getCategoryId().equals(argu.getCategory().getId())) {
             Category category = categoryRepository.findById(request.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다"));
+            categoryCatalogCache.adjustArguCount(argu.getCategory().getId(), -1);
+            categoryCatalogCache.adjustArguCount(category.getId(), 1);
+            hotRanking.move(argu.getId(), category.getId());
             argu.setCategory(category);
         }
 
@@ -454,15 +492,11 @@ public class ArguService {
 
         // 논쟁 저장
         argu = arguRepository.save(argu);
+        eventPublisher.publishEvent(new SearchIndexEvent(DocType.ARGU, argu.getId()));
+        lifecycleScheduler.schedule(argu);
 
-        // 좋아요 수 조회
-        Long likeCount = likeRepository.countByArgu(argu);
-        
-        // 댓글 수 조회 (숨김 처리되지 않은 댓글만)
-        Long commentCount = commentRepository.countByArguAndIsHiddenFalse(argu);
-
-        // 응답 DTO 생성
-        return ArguResponse.from(argu, likeCount, commentCount);
+        // 응답 DTO 생성 (좋아요 수, 댓글 수는 카운터 컬럼 사용)
+        return toResponse(argu);
     }
 
     /**
@@ -491,8 +525,14 @@ public class ArguService {
             throw new BadRequestException("논쟁이 시작된 후에는 삭제할 수 없습니다");
         }
 
-        // 논쟁 삭제
+        // 논쟁 삭제 (검색 인덱스에서는 논쟁과 해당 댓글 문서 삭제)
         arguRepository.delete(argu);
+        eventPublisher.publishEvent(new SearchIndexEvent(DocType.ARGU, id));
+        if (!argu.getIsHidden()) {
+            categoryCatalogCache.adjustArguCount(argu.getCategory().getId(), -1);
+        }
+        hotRanking.remove(id);
+        lifecycleScheduler.cancel(id);
     }
 }
 
@@ -0,0 +1,127 @@
+package com.argu.service;
+
+import com.argu.dto.response.ArguResponse;
+import com.argu.dto.response.ArguUserStateResponse;
+import com.argu.entity.ArguOpinion;
+import com.argu.exception.BadRequestException;
+import com.argu.repository.ArguOpinionRepository;
+import com.argu.repository.BookmarkRepository;
+import com.argu.repository.LikeRepository;
+import com.argu.repository.projection.OpinionSideView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 논쟁별 내 상태 조회 서비스
+ * 목록 화면의 카드마다 좋아요/북마크/입장 여부를 따로 요청하지 않도록, 여러 논쟁의 상태를 관계(테이블)마다 쿼리 한 번으로 조회합니다.
+ * 좋아요는 회원별 최근 좋아요 캐시(RecentLikeCache)에 없는 논쟁만 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ArguUserStateService {
+    public static final int MAX_ARGU_IDS = 100;         // 한 번에 조회할 수 있는 최대 논쟁 수
+
+    private final LikeRepository likeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final ArguOpinionRepository arguOpinionRepository;
+    private final RecentLikeCache recentLikeCache;
+    private final LikeWriter likeWriter;
+
+    /**
+     * 여러 논쟁의 내 상태 조회
+     *
+     * @param userId 회원 ID
+     * @param arguIds 논쟁 ID 목록 (중복은 제거, 최대 100개)
+     * @return 요청 순서대로 정렬된 논쟁별 상태
+     * @throws BadRequestException 논쟁 ID가 없거나 최대 개수를 넘는 경우
+     */
+    @Transactional(readOnly = true)
+    public List<ArguUserStateResponse> getStates(Long userId, List<Long> arguIds) {
+        if (arguIds == null || arguIds.isEmpty()) {
+            throw new BadRequestException("논쟁 ID를 입력해주세요");
+        }
+        Set<Long> ids = new LinkedHashSet<>(arguIds);
+        if (ids.size() > MAX_ARGU_IDS) {
+            throw new BadRequestException("한 번에 조회할 수 있는 논쟁은 최대 " + MAX_ARGU_IDS + "개입니다");
+        }
+
+        States states = load(userId, ids);
+        List<ArguUserStateResponse> result = new ArrayList<>(ids.size());
+        for (Long arguId : ids) {
+            result.add(ArguUserStateResponse.builder()
+                    .arguId(arguId)
+                    .liked(states.liked().contains(arguId))
+                    .bookmarked(states.bookmarked().contains(arguId))
+                    .mySide(states.sides().get(arguId))
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 논쟁 응답에 내 상태 채우기
+     * 로그인하지 않은 요청이면 아무것도 하지 않습니다.
+     *
+     * @param userId 회원 ID (비로그인이면 null)
+     * @param argus 논쟁 응답 목록
+     */
+    @Transactional(readOnly = true)
+    public void fill(Long userId, Collection<ArguResponse> argus) {
+        if (userId == null || argus.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>();
+        argus.forEach(argu -> ids.add(argu.getId()));
+
+        States states = load(userId, ids);
+        for (ArguResponse argu : argus) {
+            argu.setLiked(states.liked().contains(argu.getId()));
+            argu.setBookmarked(states.bookmarked().contains(argu.getId()));
+            argu.setMySide(states.sides().get(argu.getId()));
+        }
+    }
+
+    private States load(Long userId, Set<Long> ids) {
+        // 좋아요: 반영 대기 상태 > 회원별 캐시 > DB 순으로 확인
+        Set<Long> liked = new HashSet<>();
+        Map<Long, Boolean> known = recentLikeCache.getAll(userId, ids);
+        List<Long> missing = new ArrayList<>();
+        for (Long arguId : ids) {
+            Boolean pending = likeWriter.getPending(arguId, userId);
+            Boolean state = pending != null ? pending : known.get(arguId);
+            if (state == null) {
+                missing.add(arguId);
+            } else if (state) {
+                liked.add(arguId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Set<Long> found = new HashSet<>(likeRepository.findArguIdsByUserIdAndArguIdIn(userId, missing));
+            Map<Long, Boolean> loaded = new HashMap<>();
+            missing.forEach(arguId -> loaded.put(arguId, found.contains(arguId)));
+            recentLikeCache.putAllIfAbsent(userId, loaded);
+            liked.addAll(found);
+        }
+
+        Set<Long> bookmarked = new HashSet<>(bookmarkRepository.findArguIdsByUserIdAndArguIdIn(userId, ids));
+
+        Map<Long, ArguOpinion.OpinionSide> sides = new HashMap<>();
+        for (OpinionSideView view : arguOpinionRepository.findSidesByUserIdAndArguIdIn(userId, ids)) {
+            sides.put(view.getArguId(), view.getSide());
+        }
+        return new States(liked, bookmarked, sides);
+    }
+
+    private record States(Set<Long> liked, Set<Long> bookmarked, Map<Long, ArguOpinion.OpinionSide> sides) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.argu.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 논쟁 조회수 쓰기 지연(write-behind) 버퍼
+ * 상세 조회마다 argu 행을 UPDATE 하지 않고 논쟁 ID별 증가분을 메모리에 누적한 뒤,
+ * 주기적으로 한 번의 JDBC 배치 UPDATE로 DB에 반영합니다.
+ * 조회 응답에는 아직 반영되지 않은 증가분을 더해 조회수가 줄어들어 보이지 않도록 합니다.
+ * 증가(merge)와 반영 시 꺼내기(remove)는 모두 ConcurrentHashMap의 원자 연산이므로,
+ * 반영 중에 들어온 조회는 새 항목으로 누적되어 사라지지 않습니다.
+ * 응답에 더하는 증가분은 화면 표시용 근사값(best-effort)입니다. 증가분을 pending과 inFlight 사이로 옮기는 동안에는
+ * 읽기가 이동이 끝날 때까지 다시 시도하여 같은 증가분을 두 번 세지 않지만, DB의 view_count 조회와 버퍼 조회는
+ * 원자적으로 묶이지 않으므로 반영 커밋 직후에는 잠깐 증가분만큼 적게(또는 많게) 보일 수 있습니다. DB 값에는 영향이 없습니다.
+ */
+@Slf4j
+@Component
+public class ArguViewCountBuffer {
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE argu SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;                    // 배치 UPDATE 실행용
+    private final TransactionTemplate transactionTemplate;      // 배치 UPDATE를 한 트랜잭션으로 묶기 위해 사용
+
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();   // 아직 반영되지 않은 증가분
+    private volatile Map<Long, Long> inFlight = Collections.emptyMap();                // 반영 중인 증가분 (커밋 전)
+    private final AtomicLong moveSequence = new AtomicLong();                           // 증가분 이동 순번 (홀수면 이동 중)
+
+    public ArguViewCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     *
+     * @param arguId 논쟁 ID
+     */
+    public void increment(Long arguId) {
+        pending.merge(arguId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분
+     *
+     * @param arguId 논쟁 ID
+     * @return 대기 중인 증가분 (반영 중인 값 포함, 표시용 근사값)
+     */
+    public long getPending(Long arguId) {
+        while (true) {
+            // 이동 중이 아닐 때 읽고, 읽는 사이에 이동이 없었을 때만 사용 (같은 증가분을 두 번 세지 않음)
+            long sequence = moveSequence.get();
+            if ((sequence & 1) == 0) {
+                long value = pending.getOrDefault(arguId, 0L) + inFlight.getOrDefault(arguId, 0L);
+                if (moveSequence.get() == sequence) {
+                    return value;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영
+     * 스케줄러와 종료 훅에서 동시에 호출되지 않도록 동기화합니다.
+     * 반영에 실패하면 증가분을 버퍼에 되돌려 다음 주기에 다시 시도합니다.
+     *
+     * @return 반영된 논쟁 수
+     */
+    @Scheduled(fixedDelayString = "${argu.view-count.flush-interval-ms:5000}")
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 꺼낸 증가분이 조회 응답에서 빠지지 않도록 먼저 inFlight로 공개한 뒤 항목별로 원자적으로 꺼냄
+        Map<Long, Long> deltas = new ConcurrentHashMap<>();
+        moveSequence.incrementAndGet();
+        try {
+            inFlight = deltas;
+            for (Long arguId : pending.keySet()) {
+                pending.computeIfPresent(arguId, (id, delta) -> {
+                    deltas.put(id, delta);
+                    return null;    // 꺼낸 항목은 제거 (이후 조회는 새 항목으로 누적)
+                });
+            }
+        } finally {
+            moveSequence.incrementAndGet();
+        }
+
+        boolean flushed = false;
+        try {
+            List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+            deltas.forEach((arguId, delta) -> batchArgs.add(new Object[]{delta, arguId}));
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, batchArgs));
+            flushed = true;
+            log.debug("[ARGU-VIEW] 조회수 반영 완료 - argus={}", deltas.size());
+            return deltas.size();
+        } catch (RuntimeException e) {
+            log.warn("[ARGU-VIEW] 조회수 반영 실패, 다음 주기에 재시도 - argus={}", deltas.size(), e);
+            return 0;
+        } finally {
+            if (flushed) {
+                inFlight = Collections.emptyMap();
+            } else {
+                // 되돌리기도 이동이므로, 되돌린 값과 inFlight 값을 함께 세지 않도록 순번으로 감쌈
+                moveSequence.incrementAndGet();
+                try {
+                    deltas.forEach((arguId, delta) -> pending.merge(arguId, delta, Long::sum));
+                    inFlight = Collections.emptyMap();
+                } finally {
+                    moveSequence.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * 정상 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -4,45 +4,55 @@ import com.argu.dto.request.LoginRequest;
 import com.argu.dto.request.RegisterRequest;
 import com.argu.dto.response.AuthResponse;
 import com.argu.dto.response.UserResponse;
+import com.argu.entity.SearchIndexQueue.DocType;
 import com.argu.entity.User;
 import com.argu.exception.BadRequestException;
 import com.argu.exception.UnauthorizedException;
 import com.argu.repository.UserRepository;
+import com.argu.security.PasswordHasher;
 import com.argu.util.JwtUtil;
+import com.argu.search.SearchIndexEvent;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 인증(Authentication) 관련 비즈니스 로직을 처리하는 서비스 클래스
  * 회원가입, 로그인, JWT 토큰 생성 등의 기능을 제공합니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
     private final UserRepository userRepository;      // 사용자 데이터 접근 리포지토리
-    private final PasswordEncoder passwordEncoder;     // 비밀번호 암호화 인코더
+    private final PasswordHasher passwordHasher;       // 비밀번호 해시 실행기 (전용 스레드 풀)
     private final JwtUtil jwtUtil;                     // JWT 토큰 유틸리티
+    private final ApplicationEventPublisher eventPublisher; // 검색 인덱스 갱신 이벤트 발행
+    private final TransactionTemplate transactionTemplate;  // 해시가 끝난 뒤 저장만 트랜잭션으로 실행
 
     /**
      * 회원가입 처리
+     * 비밀번호 해시는 트랜잭션 밖에서 먼저 만들어, 해시를 기다리는 동안 DB 커넥션을 잡고 있지 않도록 합니다.
      * 
      * @param request 회원가입 요청 데이터
      * @return 인증 응답 (JWT 토큰 및 사용자 정보)
      * @throws BadRequestException 이메일 또는 아이디가 이미 사용 중인 경우
      */
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
         // 이메일 중복 확인
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new BadRequestException("이미 사용 중인 이메일입니다");
         }
 
+        // 비밀번호 암호화 (해시 스레드 풀이 가득 차면 503)
+        String encodedPassword = passwordHasher.encode(request.getPassword());
+
         // 사용자 엔티티 생성
-        User user = User.builder()
+        User newUser = User.builder()
                 .email(request.getEmail())                                    // 이메일
-                .password(passwordEncoder.encode(request.getPassword()))      // 비밀번호 암호화
+                .password(encodedPassword)                                    // 암호화된 비밀번호
                 .nickname(request.getNickname())                              // 닉네임
                 .bio(request.getBio())                                        // 자기소개
                 .status(User.UserStatus.ACTIVE)                               // 상태: 활성
@@ -50,10 +60,14 @@ public class AuthService {
                 .build();
 
         // 사용자 저장
-        user = userRepository.save(user);
+        User user = transactionTemplate.execute(status -> {
+            User saved = userRepository.save(newUser);
+            eventPublisher.publishEvent(new SearchIndexEvent(DocType.USER, saved.getId()));
+            return saved;
+        });
 
         // JWT 토큰 생성
-        String token = jwtUtil.generateToken(user.getId(), user.getEmail());
+        String token = jwtUtil.generateToken(user.getId(), user.getEmail(), user.getStatus());
 
         // 인증 응답 생성
         return AuthResponse.builder()
@@ -75,8 +89,8 @@ public class AuthService {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new UnauthorizedException("이메일 또는 비밀번호가 올바르지 않습니다"));
 
-        // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // 비밀번호 확인 (해시 스레드 풀이 가득 차면 503)
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new UnauthorizedException("이메일 또는 비밀번호가 올바르지 않습니다");
         }
 
@@ -85,8 +99,19 @@ public class AuthService {
             throw new UnauthorizedException("비활성화된 계정입니다");
         }
 
+        // 이전 형식/낮은 비용의 해시는 현재 설정으로 다시 해시 (응답은 기다리지 않음)
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            Long userId = user.getId();
+            String oldPassword = user.getPassword();
+            passwordHasher.rehashInBackground(request.getPassword(), newPassword -> {
+                if (userRepository.updatePasswordIfUnchanged(userId, oldPassword, newPassword) > 0) {
+                    log.info("[AUTH] 비밀번호 재해시 - userId={}", userId);
+                }
+            });
+        }
+
         // JWT 토큰 생성
-        String token = jwtUtil.generateToken(user.getId(), user.getEmail());
+        String token = jwtUtil.generateToken(user.getId(), user.getEmail(), user.getStatus());
 
         // 인증 응답 생성
         return AuthResponse.builder()
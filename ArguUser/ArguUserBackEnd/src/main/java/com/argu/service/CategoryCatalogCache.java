@@ -0,0 +1,186 @@
+package com.argu.service;
+
+import com.argu.dto.response.CategoryResponse;
+import com.argu.entity.Category;
+import com.argu.repository.ArguRepository;
+import com.argu.repository.CacheVersionRepository;
+import com.argu.repository.CategoryRepository;
+import com.argu.repository.projection.CategoryArguCount;
+import com.argu.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 목록 캐시
+ * 카테고리 목록과 카테고리별 공개 논쟁 개수를 메모리에 보관하여 매 요청마다 DB를 조회하지 않도록 합니다.
+ * - 적재: 카테고리 목록 1회 + 카테고리별 개수 GROUP BY 1회
+ * - 논쟁 생성/삭제/카테고리 변경: 트랜잭션 커밋 후 해당 카테고리 개수만 증감
+ * - 관리자 백엔드의 카테고리 변경, 논쟁 숨김/삭제: cache_version 테이블의 버전이 바뀌면 다시 적재
+ * - 증감 누락 등으로 생긴 오차는 주기적인 전체 재적재로 보정
+ */
+@Slf4j
+@Component
+public class CategoryCatalogCache {
+    public static final String CACHE_NAME = "category";        // cache_version 테이블의 캐시 이름
+
+    private final CategoryRepository categoryRepository;
+    private final ArguRepository arguRepository;
+    private final CacheVersionRepository cacheVersionRepository;
+    private final TransactionTemplate readOnlyTransaction;      // 적재용 읽기 전용 트랜잭션
+
+    private volatile Catalog catalog;                           // 현재 캐시 (null이면 다음 조회 시 적재)
+
+    @Value("${argu.category.cache.refresh-interval-ms:600000}")
+    private long refreshIntervalMs;                             // 버전 변경이 없어도 다시 적재하는 주기
+
+    public CategoryCatalogCache(CategoryRepository categoryRepository,
+                                ArguRepository arguRepository,
+                                CacheVersionRepository cacheVersionRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.arguRepository = arguRepository;
+        this.cacheVersionRepository = cacheVersionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 전체 카테고리 목록 (정렬 순서대로, 논쟁 개수 포함)
+     */
+    public List<CategoryResponse> getAll() {
+        Catalog current = load();
+        return current.categories().stream()
+                .map(category -> CategoryResponse.from(category, current.count(category.getId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 카테고리 하나 조회 (논쟁 개수 포함)
+     *
+     * @param id 카테고리 ID
+     * @return 카테고리 응답 (없으면 empty)
+     */
+    public Optional<CategoryResponse> find(Long id) {
+        Catalog current = load();
+        return current.categories().stream()
+                .filter(category -> category.getId().equals(id))
+                .findFirst()
+                .map(category -> CategoryResponse.from(category, current.count(id)));
+    }
+
+    /**
+     * 카테고리의 공개 논쟁 개수 증감
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에만 반영하여 롤백된 변경이 개수에 남지 않도록 합니다.
+     *
+     * @param categoryId 카테고리 ID
+     * @param delta 증감값
+     */
+    public void adjustArguCount(Long categoryId, long delta) {
+        TransactionUtil.afterCommit(() -> applyDelta(categoryId, delta));
+    }
+
+    private void applyDelta(Long categoryId, long delta) {
+        Catalog current = catalog;
+        if (current == null) {
+            return;
+        }
+        AtomicLong count = current.counts().get(categoryId);
+        if (count != null) {
+            count.addAndGet(delta);
+            // 개수를 바꾼 뒤에 리비전을 올려, 먼저 읽은 ETag가 목록보다 새로운 상태를 가리키지 않도록 함
+            current.revision().incrementAndGet();
+        } else {
+            // 캐시에 없는 카테고리 (적재 이후 추가됨): 다음 조회 시 다시 적재
+            invalidate();
+        }
+    }
+
+    /**
+     * 카테고리 목록 ETag
+     * cache_version 버전, 적재 시각, 적재 이후 개수 증감 횟수로 만듭니다.
+     * 목록을 조회하기 전에 읽어야 오래된 목록이 새 ETag로 캐시되지 않습니다.
+     *
+     * @return 따옴표를 포함한 ETag 값
+     */
+    public String getETag() {
+        Catalog current = load();
+        return "\"" + current.version() + "-" + Long.toHexString(current.loadedAt()) + "-" + current.revision().get() + "\"";
+    }
+
+    /**
+     * 캐시 무효화 (다음 조회 시 다시 적재)
+     */
+    public void invalidate() {
+        catalog = null;
+    }
+
+    /**
+     * 캐시 버전 확인
+     * 관리자 백엔드가 버전을 올렸거나 재적재 주기가 지났으면 미리 다시 적재하여 요청 스레드가 기다리지 않도록 합니다.
+     */
+    @Scheduled(fixedDelayString = "${argu.category.cache.version-check-interval-ms:5000}")
+    public void checkVersion() {
+        Catalog current = catalog;
+        if (current == null) {
+            return;
+        }
+        long version = cacheVersionRepository.findVersion(CACHE_NAME).orElse(0L);
+        boolean expired = System.currentTimeMillis() - current.loadedAt() >= refreshIntervalMs;
+        if (version != current.version() || expired) {
+            log.debug("[CATEGORY-CACHE] 카테고리 캐시 재적재 - version={} -> {}, expired={}",
+                    current.version(), version, expired);
+            reload(true);
+        }
+    }
+
+    private Catalog load() {
+        Catalog current = catalog;
+        return current != null ? current : reload(false);
+    }
+
+    private synchronized Catalog reload(boolean force) {
+        // 동시에 여러 요청이 비어 있는 캐시를 만나도 한 번만 적재
+        if (!force && catalog != null) {
+            return catalog;
+        }
+        Catalog loaded = readOnlyTransaction.execute(status -> {
+            // 버전을 먼저 읽어, 적재 중에 바뀐 변경은 다음 확인 때 다시 적재되도록 함
+            long version = cacheVersionRepository.findVersion(CACHE_NAME).orElse(0L);
+            List<Category> categories = categoryRepository.findAllByOrderByOrderNumAsc();
+            Map<Long, AtomicLong> counts = new HashMap<>();
+            categories.forEach(category -> counts.put(category.getId(), new AtomicLong()));
+            for (CategoryArguCount row : arguRepository.countVisibleGroupByCategory()) {
+                AtomicLong count = counts.get(row.getCategoryId());
+                if (count != null) {
+                    count.set(row.getArguCount());
+                }
+            }
+            return new Catalog(version, List.copyOf(categories), Map.copyOf(counts), System.currentTimeMillis(), new AtomicLong());
+        });
+        catalog = loaded;
+        return loaded;
+    }
+
+    /**
+     * 적재된 카테고리 목록 (카테고리 목록과 순서는 불변, 개수만 증감)
+     * revision은 적재 이후 개수가 바뀐 횟수입니다. (ETag용)
+     */
+    private record Catalog(long version, List<Category> categories, Map<Long, AtomicLong> counts, long loadedAt,
+                           AtomicLong revision) {
+        long count(Long categoryId) {
+            AtomicLong count = counts.get(categoryId);
+            return count != null ? Math.max(0L, count.get()) : 0L;
+        }
+    }
+}
@@ -1,42 +1,36 @@
 package com.argu.service;
 
 import com.argu.dto.response.CategoryResponse;
-import com.argu.entity.Category;
 import com.argu.exception.ResourceNotFoundException;
-import com.argu.repository.ArguRepository;
-import com.argu.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
-    private final CategoryRepository categoryRepository;
-    private final ArguRepository arguRepository;
+    private final CategoryCatalogCache categoryCatalogCache;   // 카테고리 목록 캐시
 
     /**
      * 전체 카테고리 목록 조회 (논쟁 개수 포함)
+     * 카테고리 목록 캐시에서 반환하므로 DB를 조회하지 않습니다.
      * 
      * @return 카테고리 목록 (논쟁 개수 포함)
      */
     public List<CategoryResponse> getAllCategories() {
-        List<Category> categories = categoryRepository.findAllByOrderByOrderNumAsc();
-        
-        return categories.stream()
-                .map(category -> {
-                    // 해당 카테고리의 논쟁 개수 조회 (숨김 처리되지 않은 논쟁만)
-                    long arguCount = arguRepository.findByCategoryAndIsHiddenFalse(
-                            category, 
-                            Pageable.unpaged()
-                    ).getTotalElements();
-                    
-                    return CategoryResponse.from(category, arguCount);
-                })
-                .collect(Collectors.toList());
+        return categoryCatalogCache.getAll();
+    }
+
+    /**
+     * 전체 카테고리 목록의 ETag 조회
+     * 목록이 바뀌면 (관리자 변경으로 cache_version이 바뀌거나 논쟁 개수가 증감하면) 값이 바뀝니다.
+     * 목록보다 먼저 조회해야 합니다.
+     *
+     * @return ETag 값
+     */
+    public String getAllCategoriesETag() {
+        return categoryCatalogCache.getETag();
     }
 
     /**
@@ -47,16 +41,8 @@ public class CategoryService {
      * @throws ResourceNotFoundException 카테고리를 찾을 수 없는 경우
      */
     public CategoryResponse getCategoryById(Long id) {
-        Category category = categoryRepository.findById(id)
+        return categoryCatalogCache.find(id)
                 .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다"));
-        
-        // 해당 카테고리의 논쟁 개수 조회 (숨김 처리되지 않은 논쟁만)
-        long arguCount = arguRepository.findByCategoryAndIsHiddenFalse(
-                category, 
-                Pageable.unpaged()
-        ).getTotalElements();
-        
-        return CategoryResponse.from(category, arguCount);
     }
 }
 
@@ -0,0 +1,143 @@
+package com.argu.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 비동기 일괄 저장기
+ * 메시지마다 INSERT 하지 않고 제한된 크기의 대기열에 넣어 두면, 전용 스레드가 모아서 한 번의 JDBC 배치 INSERT로 저장합니다.
+ * (rewriteBatchedStatements=true 설정으로 다중 행 INSERT 하나로 전송)
+ * 대기열이 가득 차면 메시지를 받지 않아(enqueue false) 호출자가 전송을 거절하도록 하여 메모리가 무한히 늘지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_messages (argu_id, user_id, message, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;                    // 배치 INSERT 실행용
+    private final TransactionTemplate transactionTemplate;      // 배치 INSERT를 한 트랜잭션으로 묶기 위해 사용
+    private final BlockingQueue<PendingMessage> queue;          // 저장 대기 메시지
+    private final Thread worker;
+
+    @Value("${argu.chat.writer.batch-size:500}")
+    private int batchSize;                                      // 한 번에 저장하는 최대 메시지 수
+
+    @Value("${argu.chat.writer.flush-interval-ms:200}")
+    private long flushIntervalMs;                               // 첫 메시지 이후 배치를 모으는 최대 시간
+
+    private volatile boolean running = true;
+
+    public ChatMessageWriter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${argu.chat.writer.queue-capacity:20000}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.worker = new Thread(this::run, "chat-message-writer");
+        this.worker.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        worker.start();
+    }
+
+    /**
+     * 메시지 저장 예약
+     *
+     * @param arguId 논쟁 ID
+     * @param userId 작성자 ID
+     * @param message 메시지 내용
+     * @param createdAt 작성 일시
+     * @return 대기열에 넣었으면 true, 가득 찼거나 종료 중이면 false
+     */
+    public boolean enqueue(Long arguId, Long userId, String message, LocalDateTime createdAt) {
+        return running && queue.offer(new PendingMessage(arguId, userId, message, createdAt));
+    }
+
+    private void run() {
+        List<PendingMessage> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 첫 메시지 이후 flush-interval-ms 동안 또는 batch-size가 찰 때까지 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize && running) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingMessage> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch.stream().map(PendingMessage::toArgs).toList()));
+            log.debug("[CHAT] 채팅 메시지 저장 - count={}", batch.size());
+        } catch (RuntimeException e) {
+            // 삭제된 논쟁/회원의 메시지 등 일부 행 때문에 전체가 실패하면 한 건씩 다시 저장
+            log.warn("[CHAT] 채팅 메시지 일괄 저장 실패, 한 건씩 재시도 - count={}", batch.size(), e);
+            int dropped = 0;
+            for (PendingMessage message : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, message.toArgs());
+                } catch (RuntimeException rowError) {
+                    dropped++;
+                }
+            }
+            if (dropped > 0) {
+                log.warn("[CHAT] 채팅 메시지 저장 실패로 버림 - dropped={}", dropped);
+            }
+        }
+    }
+
+    /**
+     * 정상 종료 시 남은 메시지 저장
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private record PendingMessage(Long arguId, Long userId, String message, LocalDateTime createdAt) {
+        private Object[] toArgs() {
+            return new Object[]{arguId, userId, message, Timestamp.valueOf(createdAt)};
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.argu.service;
+
+import com.argu.dto.response.ChatMessageResponse;
+import com.argu.entity.Argu;
+import com.argu.exception.BadRequestException;
+import com.argu.exception.ResourceNotFoundException;
+import com.argu.repository.ArguRepository;
+import com.argu.repository.ChatMessageRepository;
+import com.argu.repository.projection.ArguView;
+import com.argu.security.ChatPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 논쟁 실시간 채팅 서비스
+ * 논쟁마다 채팅방을 메모리에 두고, 메시지를 브로커 토픽(/topic/argu/{id}/chat)으로 구독자 전체에게 한 번에 보냅니다.
+ * - 최근 메시지: 채팅방마다 크기가 정해진 원형 버퍼에 보관하여 입장 시 DB를 조회하지 않음 (채팅방을 처음 열 때만 1회 적재)
+ * - 저장: ChatMessageWriter가 비동기로 모아서 일괄 저장
+ * - 채팅 가능 여부: 숨김 처리되지 않은 논쟁의 기간(시작일시 ~ 종료일시) 안에서만 허용 (논쟁 상태는 주기적으로만 다시 확인)
+ */
+@Slf4j
+@Service
+public class ChatService {
+    private static final int MAX_MESSAGE_LENGTH = 1000;        // 메시지 최대 길이
+
+    private final ArguRepository arguRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Map<Long, ChatRoom> rooms = new ConcurrentHashMap<>();  // 열린 채팅방 (논쟁 ID → 채팅방)
+
+    @Value("${argu.chat.history-size:50}")
+    private int historySize;                                    // 채팅방별 최근 메시지 보관 수
+
+    @Value("${argu.chat.status-check-interval-ms:60000}")
+    private long statusCheckIntervalMs;                         // 논쟁 상태/숨김 여부를 다시 확인하는 주기
+
+    @Value("${argu.chat.idle-room-ms:1800000}")
+    private long idleRoomMs;                                    // 이 시간 동안 사용되지 않은 채팅방은 메모리에서 제거
+
+    public ChatService(ArguRepository arguRepository,
+                       ChatMessageRepository chatMessageRepository,
+                       ChatMessageWriter chatMessageWriter,
+                       SimpMessagingTemplate messagingTemplate) {
+        this.arguRepository = arguRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMessageWriter = chatMessageWriter;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    /**
+     * 채팅방 토픽 경로
+     *
+     * @param arguId 논쟁 ID
+     * @return 브로커 목적지
+     */
+    public static String topic(Long arguId) {
+        return "/topic/argu/" + arguId + "/chat";
+    }
+
+    /**
+     * 최근 메시지 조회 (오래된 순)
+     *
+     * @param arguId 논쟁 ID
+     * @return 최근 메시지 목록
+     * @throws ResourceNotFoundException 논쟁을 찾을 수 없거나 숨김 처리된 경우
+     */
+    public List<ChatMessageResponse> getRecentMessages(Long arguId) {
+        ChatRoom room = room(arguId);
+        if (room.hidden) {
+            throw new ResourceNotFoundException("논쟁을 찾을 수 없습니다");
+        }
+        return room.recent();
+    }
+
+    /**
+     * 메시지 전송
+     * 채팅방 구독자에게 바로 보내고, 저장은 비동기로 처리합니다.
+     *
+     * @param arguId 논쟁 ID
+     * @param sender 보낸 사용자
+     * @param text 메시지 내용
+     * @throws ResourceNotFoundException 논쟁을 찾을 수 없는 경우
+     * @throws BadRequestException 진행 중인 논쟁이 아니거나 메시지가 올바르지 않은 경우
+     */
+    public void send(Long arguId, ChatPrincipal sender, String text) {
+        String message = text != null ? text.trim() : "";
+        if (message.isEmpty()) {
+            throw new BadRequestException("메시지를 입력해주세요");
+        }
+        if (message.length() > MAX_MESSAGE_LENGTH) {
+            throw new BadRequestException("메시지는 " + MAX_MESSAGE_LENGTH + "자 이하로 입력해주세요");
+        }
+
+        ChatRoom room = room(arguId);
+        LocalDateTime now = LocalDateTime.now();
+        if (!room.isOpen(now)) {
+            throw new BadRequestException("진행 중인 논쟁에서만 채팅할 수 있습니다");
+        }
+
+        ChatMessageResponse response = ChatMessageResponse.builder()
+                .arguId(arguId)
+                .userId(sender.userId())
+                .nickname(sender.nickname())
+                .message(message)
+                .createdAt(now)
+                .build();
+        if (!chatMessageWriter.enqueue(arguId, sender.userId(), message, now)) {
+            throw new BadRequestException("채팅 메시지가 많습니다. 잠시 후 다시 시도해주세요");
+        }
+        // 버퍼 순서와 전송 순서가 같도록 채팅방 단위로 묶어서 처리
+        synchronized (room) {
+            room.append(response);
+            messagingTemplate.convertAndSend(topic(arguId), response);
+        }
+    }
+
+    private ChatRoom room(Long arguId) {
+        ChatRoom room = rooms.get(arguId);
+        if (room == null) {
+            ChatRoom loaded = load(arguId);
+            room = rooms.putIfAbsent(arguId, loaded);
+            room = room != null ? room : loaded;
+        } else if (System.currentTimeMillis() - room.checkedAt >= statusCheckIntervalMs) {
+            refresh(arguId, room);
+        }
+        room.lastUsedAt = System.currentTimeMillis();
+        return room;
+    }
+
+    private ChatRoom load(Long arguId) {
+        ArguView argu = arguRepository.findViewById(arguId)
+                .orElseThrow(() -> new ResourceNotFoundException("논쟁을 찾을 수 없습니다"));
+        ChatRoom room = new ChatRoom(historySize);
+        room.update(argu);
+
+        // 채팅방을 처음 열 때만 최근 메시지를 DB에서 적재 (최신순으로 조회하므로 뒤에서부터 추가)
+        List<ChatMessageResponse> recent = chatMessageRepository.findRecentByArguId(arguId, PageRequest.of(0, historySize))
+                .stream()
+                .map(ChatMessageResponse::from)
+                .toList();
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            room.append(recent.get(i));
+        }
+        return room;
+    }
+
+    private void refresh(Long arguId, ChatRoom room) {
+        arguRepository.findViewById(arguId).ifPresentOrElse(room::update, () -> {
+            rooms.remove(arguId, room);
+            throw new ResourceNotFoundException("논쟁을 찾을 수 없습니다");
+        });
+    }
+
+    /**
+     * 사용되지 않는 채팅방 정리
+     */
+    @Scheduled(fixedDelayString = "${argu.chat.idle-check-interval-ms:60000}")
+    public void evictIdleRooms() {
+        long threshold = System.currentTimeMillis() - idleRoomMs;
+        rooms.entrySet().removeIf(entry -> entry.getValue().lastUsedAt < threshold);
+    }
+
+    /**
+     * 채팅방 (논쟁 상태와 최근 메시지 원형 버퍼)
+     */
+    private static final class ChatRoom {
+        private final ChatMessageResponse[] buffer;             // 최근 메시지 원형 버퍼
+        private int head;                                       // 다음에 쓸 위치
+        private int size;                                       // 보관 중인 메시지 수
+
+        private volatile Argu.ArguStatus status;                // 논쟁 상태
+        private volatile boolean hidden;                        // 숨김 여부
+        private volatile LocalDateTime startDate;               // 논쟁 시작 일시
+        private volatile LocalDateTime endDate;                 // 논쟁 종료 일시
+        private volatile long checkedAt;                        // 논쟁 상태를 마지막으로 확인한 시각
+        private volatile long lastUsedAt;                       // 마지막 사용 시각
+
+        private ChatRoom(int capacity) {
+            this.buffer = new ChatMessageResponse[Math.max(1, capacity)];
+        }
+
+        private void update(ArguView argu) {
+            status = argu.getStatus();
+            hidden = Boolean.TRUE.equals(argu.getIsHidden());
+            startDate = argu.getStartDate();
+            endDate = argu.getEndDate();
+            checkedAt = System.currentTimeMillis();
+        }
+
+        /**
+         * 채팅 가능 여부
+         * 메모리의 상태는 주기적으로만 갱신되므로, 상태 전환을 기다리지 않고 기간으로 열고 닫습니다.
+         */
+        private boolean isOpen(LocalDateTime now) {
+            return !hidden && status != Argu.ArguStatus.ENDED
+                    && !now.isBefore(startDate) && now.isBefore(endDate);
+        }
+
+        private synchronized void append(ChatMessageResponse message) {
+            buffer[head] = message;
+            head = (head + 1) % buffer.length;
+            size = Math.min(size + 1, buffer.length);
+        }
+
+        private synchronized List<ChatMessageResponse> recent() {
+            List<ChatMessageResponse> messages = new ArrayList<>(size);
+            int start = (head - size + buffer.length) % buffer.length;
+            for (int i = 0; i < size; i++) {
+                messages.add(buffer[(start + i) % buffer.length]);
+            }
+            return messages;
+        }
+    }
+}
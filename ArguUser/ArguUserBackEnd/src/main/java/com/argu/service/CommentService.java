@@ -2,27 +2,43 @@ package com.argu.service;
 
 import com.argu.dto.request.CreateCommentRequest;
 import com.argu.dto.response.CommentResponse;
+import com.argu.dto.response.CursorResponse;
 import com.argu.entity.Argu;
 import com.argu.entity.Comment;
+import com.argu.entity.SearchIndexQueue.DocType;
 import com.argu.entity.User;
 import com.argu.exception.BadRequestException;
 import com.argu.exception.ResourceNotFoundException;
 import com.argu.repository.ArguRepository;
 import com.argu.repository.CommentRepository;
+import com.argu.repository.projection.CommentView;
+import com.argu.search.SearchIndexEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+    private static final int MAX_REPLY_PAGE_SIZE = 100;   // 답글 더보기 최대 페이지 크기
+
     private final CommentRepository commentRepository;
     private final ArguRepository arguRepository;
+    private final ApplicationEventPublisher eventPublisher;   // 검색 인덱스 갱신 이벤트 발행
+    private final ArguHotRanking hotRanking;                  // 인기 논쟁 랭킹
+
+    @Value("${argu.comment.reply-preview-size:3}")
+    private int replyPreviewSize;               // 댓글 목록에서 부모 댓글마다 미리 보여줄 답글 수
 
     @Transactional
     public CommentResponse createComment(CreateCommentRequest request, Long userId) {
@@ -51,25 +67,87 @@ public class CommentService {
                 .build();
 
         comment = commentRepository.save(comment);
+        arguRepository.addCommentCount(argu.getId(), 1);
+        hotRanking.record(argu.getId(), ArguHotRanking.Signal.COMMENT, 1);
+        eventPublisher.publishEvent(new SearchIndexEvent(DocType.COMMENT, comment.getId()));
         return CommentResponse.from(comment);
     }
 
+    @Transactional(readOnly = true)
     public Page<CommentResponse> getCommentsByArgu(Long arguId, Pageable pageable) {
-        Argu argu = arguRepository.findById(arguId)
-                .orElseThrow(() -> new ResourceNotFoundException("논쟁을 찾을 수 없습니다"));
+        // 숨김 처리된 논쟁은 상세 조회와 같이 없는 논쟁으로 처리
+        if (!arguRepository.existsByIdAndIsHiddenFalse(arguId)) {
+            throw new ResourceNotFoundException("논쟁을 찾을 수 없습니다");
+        }
+
+        // 작성자를 조인한 프로젝션으로 조회 (댓글마다 작성자 지연 로딩 없음)
+        Page<CommentView> comments = commentRepository.findTopLevelViewsByArguId(arguId, pageable);
 
-        Page<Comment> comments = commentRepository.findByArguAndIsHiddenFalseAndParentIsNull(argu, pageable);
+        // 페이지에 포함된 부모 댓글들의 답글을 한 번의 IN 쿼리로 조회 (더보기 여부 판단을 위해 1개 더 조회)
+        List<Long> parentIds = comments.getContent().stream()
+                .map(CommentView::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<CommentView>> repliesByParent = parentIds.isEmpty()
+                ? Collections.emptyMap()
+                : commentRepository.findFirstRepliesByParentIds(parentIds, replyPreviewSize + 1).stream()
+                        .collect(Collectors.groupingBy(CommentView::getParentId));
 
         return comments.map(comment -> {
             CommentResponse response = CommentResponse.from(comment);
-            List<Comment> replies = commentRepository.findByParent(comment);
-            response.setReplies(replies.stream()
+            List<CommentView> replies = repliesByParent.getOrDefault(comment.getId(), Collections.emptyList());
+            boolean hasMore = replies.size() > replyPreviewSize;
+            List<CommentView> preview = hasMore ? replies.subList(0, replyPreviewSize) : replies;
+
+            response.setReplies(preview.stream()
                     .map(CommentResponse::from)
                     .collect(Collectors.toList()));
+            response.setHasMoreReplies(hasMore);
+            response.setNextReplyCursor(hasMore ? String.valueOf(preview.get(preview.size() - 1).getId()) : null);
             return response;
         });
     }
 
+    /**
+     * 답글 더보기
+     * 댓글 목록 응답의 nextReplyCursor 이후 답글을 작성 순으로 조회합니다.
+     *
+     * @param parentId 부모 댓글 ID
+     * @param cursor 이전 응답의 nextReplyCursor 또는 nextCursor (처음부터 조회하려면 null)
+     * @param size 페이지 크기 (1~100)
+     * @return 답글 목록과 다음 커서
+     * @throws ResourceNotFoundException 부모 댓글을 찾을 수 없거나, 부모 댓글 또는 논쟁이 숨김 처리된 경우
+     * @throws BadRequestException 커서가 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> getReplies(Long parentId, String cursor, int size) {
+        // 댓글 목록과 같은 기준: 숨김 댓글, 숨김 논쟁의 댓글은 답글도 보여주지 않음
+        if (!commentRepository.existsByIdAndIsHiddenFalseAndArguIsHiddenFalse(parentId)) {
+            throw new ResourceNotFoundException("댓글을 찾을 수 없습니다");
+        }
+
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("잘못된 커서입니다");
+            }
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_REPLY_PAGE_SIZE);
+        List<CommentView> replies = commentRepository.findRepliesAfter(parentId, afterId, Limit.of(limit + 1));
+        boolean hasNext = replies.size() > limit;
+        if (hasNext) {
+            replies = replies.subList(0, limit);
+        }
+
+        List<CommentResponse> content = replies.stream()
+                .map(CommentResponse::from)
+                .collect(Collectors.toList());
+        String nextCursor = replies.isEmpty() ? null : String.valueOf(replies.get(replies.size() - 1).getId());
+        return CursorResponse.of(content, hasNext, nextCursor);
+    }
+
     @Transactional
     public void deleteComment(Long commentId, Long userId) {
         Comment comment = commentRepository.findById(commentId)
@@ -80,6 +158,13 @@ public class CommentService {
         }
 
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(new SearchIndexEvent(DocType.COMMENT, commentId));
+
+        // 숨김 처리된 댓글은 이미 댓글 수에서 제외되어 있음
+        if (!comment.getIsHidden()) {
+            arguRepository.addCommentCount(comment.getArgu().getId(), -1);
+            hotRanking.record(comment.getArgu().getId(), ArguHotRanking.Signal.COMMENT, -1);
+        }
     }
 }
 
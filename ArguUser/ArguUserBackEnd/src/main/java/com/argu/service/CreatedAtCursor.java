@@ -0,0 +1,58 @@
+package com.argu.service;
+
+import com.argu.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 최신순 (작성일시, ID) 키셋 커서 인코더/디코더
+ * 입장 목록, 내 댓글 목록처럼 created_at DESC, id DESC로 정렬하는 목록이 함께 사용하며,
+ * 마지막 항목의 작성일시와 ID를 Base64 문자열로 만들어 클라이언트에게는 불투명한(opaque) 토큰으로 전달합니다.
+ *
+ * @param createdAt 이 값보다 먼저 작성된 항목부터 조회
+ * @param id 작성일시가 같을 때 이 값보다 작은 ID부터 조회
+ */
+record CreatedAtCursor(LocalDateTime createdAt, long id) {
+    private static final String DELIMITER = "|";
+    private static final CreatedAtCursor FIRST_PAGE =
+            new CreatedAtCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);  // 첫 페이지 커서 (모든 행보다 큰 값)
+
+    /**
+     * 마지막 항목으로부터 다음 페이지 커서 생성
+     *
+     * @param createdAt 현재 페이지 마지막 항목의 작성일시
+     * @param id 현재 페이지 마지막 항목의 ID
+     * @return 커서 토큰
+     */
+    static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰을 키셋 위치로 변환
+     *
+     * @param cursor 커서 토큰 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 키셋 위치
+     * @throws BadRequestException 커서가 손상된 경우
+     */
+    static CreatedAtCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 2) {
+                throw new BadRequestException("잘못된 커서입니다");
+            }
+            return new CreatedAtCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("잘못된 커서입니다");
+        }
+    }
+}
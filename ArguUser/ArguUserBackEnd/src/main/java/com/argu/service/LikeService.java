@@ -1,49 +1,98 @@
 package com.argu.service;
 
-import com.argu.entity.Argu;
-import com.argu.entity.Like;
-import com.argu.entity.User;
 import com.argu.exception.ResourceNotFoundException;
 import com.argu.repository.ArguRepository;
 import com.argu.repository.LikeRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 서비스
+ * 좋아요 추가/취소는 멱등 연산으로, 같은 요청이 중복으로 들어와도 결과와 좋아요 수가 달라지지 않습니다.
+ * 실제 쓰기는 {@link LikeWriter}가 단일 문장으로 처리합니다 (쓰기 합치기 모드에서는 주기적으로 모아서 반영).
+ */
 @Service
 @RequiredArgsConstructor
 public class LikeService {
     private final LikeRepository likeRepository;
     private final ArguRepository arguRepository;
+    private final LikeWriter likeWriter;
+    private final RecentLikeCache recentLikeCache;
 
-    @Transactional
-    public void toggleLike(Long arguId, Long userId) {
-        Argu argu = arguRepository.findById(arguId)
-                .orElseThrow(() -> new ResourceNotFoundException("논쟁을 찾을 수 없습니다"));
-
-        User user = new User();
-        user.setId(userId);
-
-        likeRepository.findByArguAndUser(argu, user)
-                .ifPresentOrElse(
-                        likeRepository::delete,
-                        () -> {
-                            Like like = Like.builder()
-                                    .argu(argu)
-                                    .user(user)
-                                    .build();
-                            likeRepository.save(like);
-                        }
-                );
+    /**
+     * 좋아요 추가 (이미 좋아요 상태면 아무것도 하지 않음)
+     *
+     * @param arguId 논쟁 ID
+     * @param userId 회원 ID
+     * @throws ResourceNotFoundException 논쟁이 존재하지 않는 경우
+     */
+    public void like(Long arguId, Long userId) {
+        setLiked(arguId, userId, true);
     }
 
-    public boolean isLiked(Long arguId, Long userId) {
-        Argu argu = new Argu();
-        argu.setId(arguId);
-        User user = new User();
-        user.setId(userId);
-        return likeRepository.existsByArguAndUser(argu, user);
+    /**
+     * 좋아요 취소 (좋아요 상태가 아니면 아무것도 하지 않음)
+     *
+     * @param arguId 논쟁 ID
+     * @param userId 회원 ID
+     */
+    public void unlike(Long arguId, Long userId) {
+        setLiked(arguId, userId, false);
     }
-}
 
+    /**
+     * 좋아요 토글
+     * 취소를 먼저 시도하고, 취소할 좋아요가 없었으면 추가합니다.
+     *
+     * @param arguId 논쟁 ID
+     * @param userId 회원 ID
+     * @return 토글 후 좋아요 상태
+     * @throws ResourceNotFoundException 논쟁이 존재하지 않는 경우
+     */
+    public boolean toggleLike(Long arguId, Long userId) {
+        if (likeWriter.isCoalescing()) {
+            boolean liked = !isLiked(arguId, userId);
+            setLiked(arguId, userId, liked);
+            return liked;
+        }
+        if (likeWriter.write(arguId, userId, false)) {
+            return false;
+        }
+        setLiked(arguId, userId, true);
+        return true;
+    }
 
+    public boolean isLiked(Long arguId, Long userId) {
+        // 쓰기 합치기 모드에서 아직 반영되지 않은 상태를 먼저 확인 (자기 변경은 바로 보이도록)
+        Boolean pending = likeWriter.getPending(arguId, userId);
+        if (pending != null) {
+            return pending;
+        }
+        Boolean cached = recentLikeCache.getAll(userId, List.of(arguId)).get(arguId);
+        if (cached != null) {
+            return cached;
+        }
+        boolean liked = likeRepository.existsByArguIdAndUserId(arguId, userId);
+        recentLikeCache.putAllIfAbsent(userId, Map.of(arguId, liked));
+        return liked;
+    }
+
+    private void setLiked(Long arguId, Long userId, boolean liked) {
+        if (likeWriter.isCoalescing()) {
+            // 대기 중인 상태가 있으면 이미 확인한 논쟁이므로 존재 여부를 다시 조회하지 않음
+            if (liked && likeWriter.getPending(arguId, userId) == null && !arguRepository.existsById(arguId)) {
+                throw new ResourceNotFoundException("논쟁을 찾을 수 없습니다");
+            }
+            likeWriter.enqueue(arguId, userId, liked);
+            return;
+        }
+        boolean changed = likeWriter.write(arguId, userId, liked);
+        // 추가된 행이 없으면 이미 좋아요 상태이거나 논쟁이 없는 경우 (드문 경로에서만 논쟁 조회)
+        if (liked && !changed && !arguRepository.existsById(arguId)) {
+            throw new ResourceNotFoundException("논쟁을 찾을 수 없습니다");
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.argu.service;
+
+import com.argu.repository.ArguRepository;
+import com.argu.repository.LikeRepository;
+import com.argu.util.TransactionUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좋아요 쓰기
+ * 좋아요 추가/취소를 단일 INSERT IGNORE / DELETE 문장으로 반영하고, 실제로 바뀐 행이 있을 때만 좋아요 수와 인기 랭킹을 증감합니다.
+ * 같은 (논쟁, 회원)을 동시에 눌러도 uk_argu_user 위반이나 카운터 이중 증감이 생기지 않습니다.
+ *
+ * 쓰기 합치기(coalescing) 모드를 켜면 요청마다 DB에 쓰지 않고 (논쟁, 회원)별 마지막 상태만 메모리에 남겼다가
+ * 주기마다 한 트랜잭션으로 반영합니다. 짧은 시간 안에 여러 번 누른 좋아요는 마지막 상태 한 번만 기록됩니다.
+ */
+@Slf4j
+@Component
+public class LikeWriter {
+    private final LikeRepository likeRepository;
+    private final ArguRepository arguRepository;
+    private final ArguHotRanking hotRanking;
+    private final RecentLikeCache recentLikeCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<LikeKey, Boolean> pending = new ConcurrentHashMap<>();  // 반영 대기 중인 마지막 좋아요 상태
+
+    @Value("${argu.like.coalesce.enabled:false}")
+    private boolean coalescing;                                 // 쓰기 합치기 모드 사용 여부
+
+    public LikeWriter(LikeRepository likeRepository,
+                      ArguRepository arguRepository,
+                      ArguHotRanking hotRanking,
+                      RecentLikeCache recentLikeCache,
+                      PlatformTransactionManager transactionManager) {
+        this.likeRepository = likeRepository;
+        this.arguRepository = arguRepository;
+        this.hotRanking = hotRanking;
+        this.recentLikeCache = recentLikeCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 쓰기 합치기 모드 여부
+     */
+    public boolean isCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * 좋아요 상태를 바로 DB에 반영
+     *
+     * @param arguId 논쟁 ID
+     * @param userId 회원 ID
+     * @param liked 반영할 좋아요 상태
+     * @return 실제로 상태가 바뀌었으면 true (이미 같은 상태이거나 논쟁이 없으면 false)
+     */
+    public boolean write(Long arguId, Long userId, boolean liked) {
+        Boolean changed = transactionTemplate.execute(status -> {
+            long delta = apply(arguId, userId, liked);
+            if (delta != 0) {
+                adjustCounters(arguId, delta);
+            }
+            return delta != 0;
+        });
+        return Boolean.TRUE.equals(changed);
+    }
+
+    /**
+     * 좋아요 상태를 반영 대기열에 기록 (쓰기 합치기 모드)
+     * 같은 (논쟁, 회원)의 이전 대기 상태는 덮어씁니다.
+     *
+     * @param arguId 논쟁 ID
+     * @param userId 회원 ID
+     * @param liked 반영할 좋아요 상태
+     */
+    public void enqueue(Long arguId, Long userId, boolean liked) {
+        pending.put(new LikeKey(arguId, userId), liked);
+    }
+
+    /**
+     * 아직 반영되지 않은 좋아요 상태
+     *
+     * @param arguId 논쟁 ID
+     * @param userId 회원 ID
+     * @return 대기 중인 상태 (없으면 null)
+     */
+    public Boolean getPending(Long arguId, Long userId) {
+        return pending.get(new LikeKey(arguId, userId));
+    }
+
+    /**
+     * 대기 중인 좋아요 상태를 한 트랜잭션으로 반영
+     * 좋아요 수는 논쟁별로 합산하여 논쟁마다 한 번만 UPDATE 합니다.
+     * 반영에 실패하면 그 사이 새 상태가 들어오지 않은 항목만 대기열에 되돌려 다음 주기에 다시 시도합니다.
+     *
+     * @return 반영한 (논쟁, 회원) 수
+     */
+    @Scheduled(fixedDelayString = "${argu.like.coalesce.window-ms:500}")
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        Map<LikeKey, Boolean> batch = new HashMap<>();
+        pending.forEach((key, liked) -> {
+            if (pending.remove(key, liked)) {
+                batch.put(key, liked);
+            }
+        });
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, Long> deltas = new HashMap<>();
+                batch.forEach((key, liked) -> {
+                    long delta = apply(key.arguId(), key.userId(), liked);
+                    if (delta != 0) {
+                        deltas.merge(key.arguId(), delta, Long::sum);
+                    }
+                });
+                deltas.forEach((arguId, delta) -> {
+                    if (delta != 0) {
+                        adjustCounters(arguId, delta);
+                    }
+                });
+            });
+            log.debug("[LIKE] 좋아요 반영 완료 - entries={}", batch.size());
+            return batch.size();
+        } catch (RuntimeException e) {
+            log.warn("[LIKE] 좋아요 반영 실패, 다음 주기에 재시도 - entries={}", batch.size(), e);
+            batch.forEach(pending::putIfAbsent);
+            return 0;
+        }
+    }
+
+    /**
+     * 정상 종료 시 남은 좋아요 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private long apply(Long arguId, Long userId, boolean liked) {
+        // 반영 결과와 관계없이 커밋 후의 좋아요 상태는 liked 이므로 회원별 캐시에 기록
+        TransactionUtil.afterCommit(() -> recentLikeCache.put(userId, arguId, liked));
+        if (liked) {
+            return likeRepository.insertIfAbsent(arguId, userId);
+        }
+        return -likeRepository.deleteByArguIdAndUserId(arguId, userId);
+    }
+
+    private void adjustCounters(Long arguId, long delta) {
+        arguRepository.addLikeCount(arguId, delta);
+        hotRanking.record(arguId, ArguHotRanking.Signal.LIKE, delta);
+    }
+
+    private record LikeKey(Long arguId, Long userId) {
+    }
+}
@@ -2,16 +2,25 @@ package com.argu.service;
 
 import com.argu.dto.response.ArguResponse;
 import com.argu.dto.response.CommentResponse;
+import com.argu.dto.response.CursorResponse;
+import com.argu.entity.Argu;
 import com.argu.entity.ArguOpinion;
 import com.argu.entity.User;
+import com.argu.exception.BadRequestException;
 import com.argu.repository.ArguOpinionRepository;
 import com.argu.repository.ArguRepository;
 import com.argu.repository.CommentRepository;
-import com.argu.repository.LikeRepository;
+import com.argu.repository.projection.CommentView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,10 +32,14 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class MyPageService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;                                     // 커서 페이징 최대 페이지 크기
+    private static final String LIKED_CURSOR_NAME = "liked";                                 // 받은 좋아요 목록 커서 정렬 이름
+    private static final Sort LIKED_SORT = Sort.by(Sort.Direction.DESC, "likeCount")        // 좋아요순, 동률은 최신(ID 역순) 순
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
     private final ArguRepository arguRepository;
     private final CommentRepository commentRepository;
     private final ArguOpinionRepository arguOpinionRepository;
-    private final LikeRepository likeRepository;
 
     /**
      * 내 논쟁 목록 조회 (페이징)
@@ -36,45 +49,58 @@ public class MyPageService {
      * @param pageable 페이징 정보
      * @return 사용자가 작성한 논쟁 목록 (좋아요 수, 댓글 수 포함)
      */
+    @Transactional(readOnly = true)
     public Page<ArguResponse> getMyArgus(Long userId, Pageable pageable) {
         User user = new User();
         user.setId(userId);
         
         return arguRepository.findByUserAndIsHiddenFalse(user, pageable)
-                .map(argu -> {
-                    Long likeCount = likeRepository.countByArgu(argu);
-                    Long commentCount = commentRepository.countByArguAndIsHiddenFalse(argu);
-                    return ArguResponse.from(argu, likeCount, commentCount);
-                });
+                .map(ArguResponse::from);
     }
 
     /**
      * 내 댓글 목록 조회 (페이징)
-     * 현재 로그인한 사용자가 작성한 댓글 목록을 조회합니다.
+     * 현재 로그인한 사용자가 작성한 댓글 목록을 최신순으로 조회합니다.
      * 
      * @param userId 사용자 ID
-     * @param pageable 페이징 정보
+     * @param pageable 페이징 정보 (정렬은 무시하고 항상 최신순)
      * @return 사용자가 작성한 댓글 목록
      */
+    @Transactional(readOnly = true)
     public Page<CommentResponse> getMyComments(Long userId, Pageable pageable) {
-        User user = new User();
-        user.setId(userId);
-        
-        List<CommentResponse> comments = commentRepository.findByUser(user)
-                .stream()
+        return commentRepository.findViewsByUserId(userId, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                .map(CommentResponse::from);
+    }
+
+    /**
+     * 내 댓글 목록 조회 (최신순 커서 페이징)
+     * 무한 스크롤용으로 OFFSET/COUNT 없이 마지막 댓글의 (작성일시, ID) 다음부터 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 댓글 목록과 다음 커서
+     * @throws BadRequestException 커서가 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> getMyCommentsByCursor(Long userId, String cursor, int size) {
+        CreatedAtCursor before = CreatedAtCursor.decode(cursor);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        List<CommentView> comments = commentRepository.findViewsByUserIdBefore(userId, before.createdAt(), before.id(), Limit.of(limit + 1));
+        boolean hasNext = comments.size() > limit;
+        if (hasNext) {
+            comments = comments.subList(0, limit);
+        }
+
+        List<CommentResponse> content = comments.stream()
                 .map(CommentResponse::from)
                 .collect(Collectors.toList());
-        
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), comments.size());
-        List<CommentResponse> pagedComments = comments.subList(start, end);
-        
-        return new org.springframework.data.domain.PageImpl<>(
-            pagedComments,
-            pageable,
-            comments.size()
-        );
+        String nextCursor = null;
+        if (!comments.isEmpty()) {
+            CommentView last = comments.get(comments.size() - 1);
+            nextCursor = CreatedAtCursor.encode(last.getCreatedAt(), last.getId());
+        }
+        return CursorResponse.of(content, hasNext, nextCursor);
     }
 
     /**
@@ -84,6 +110,7 @@ public class MyPageService {
      * @param userId 사용자 ID
      * @return 사용자가 선택한 의견 목록
      */
+    @Transactional(readOnly = true)
     public List<ArguOpinion> getMyOpinions(Long userId) {
         User user = new User();
         user.setId(userId);
@@ -94,37 +121,46 @@ public class MyPageService {
     /**
      * 받은 좋아요 목록 조회 (페이징)
      * 현재 로그인한 사용자가 작성한 논쟁 중 좋아요를 받은 논쟁 목록을 좋아요 수가 많은 순으로 조회합니다.
+     * 좋아요 수는 논쟁의 좋아요 카운터(like_count)로 DB에서 걸러 정렬하므로 한 페이지만 불러옵니다.
      * 
      * @param userId 사용자 ID
-     * @param pageable 페이징 정보
+     * @param pageable 페이징 정보 (정렬은 무시하고 항상 좋아요순)
      * @return 사용자가 작성한 논쟁 목록 (좋아요 수가 많은 순, 좋아요 수, 댓글 수 포함)
      */
+    @Transactional(readOnly = true)
     public Page<ArguResponse> getMyLikedArgus(Long userId, Pageable pageable) {
         User user = new User();
         user.setId(userId);
         
-        // 사용자가 작성한 모든 논쟁 가져오기
-        List<ArguResponse> allArgus = arguRepository.findByUserAndIsHiddenFalse(user, org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Direction.DESC, "createdAt"))
-                .stream()
-                .map(argu -> {
-                    Long likeCount = likeRepository.countByArgu(argu);
-                    Long commentCount = commentRepository.countByArguAndIsHiddenFalse(argu);
-                    return ArguResponse.from(argu, likeCount, commentCount);
-                })
-                .filter(argu -> argu.getLikeCount() > 0) // 좋아요가 1개 이상인 것만
-                .sorted((a, b) -> Long.compare(b.getLikeCount(), a.getLikeCount())) // 좋아요 수가 많은 순으로 정렬
+        return arguRepository.findByUserAndIsHiddenFalseAndLikeCountGreaterThan(user, 0L,
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), LIKED_SORT))
+                .map(ArguResponse::from);
+    }
+
+    /**
+     * 받은 좋아요 목록 조회 (좋아요순 커서 페이징)
+     * 무한 스크롤용으로 OFFSET/COUNT 없이 마지막 논쟁의 (좋아요 수, ID) 다음부터 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 논쟁 목록과 다음 커서
+     * @throws BadRequestException 커서가 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<ArguResponse> getMyLikedArgusByCursor(Long userId, String cursor, int size) {
+        User user = new User();
+        user.setId(userId);
+
+        ScrollPosition position = ArguFeedCursor.decode(LIKED_CURSOR_NAME, LIKED_SORT, cursor);
+        Limit limit = Limit.of(Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE));
+        Window<Argu> window = arguRepository.findByUserAndIsHiddenFalseAndLikeCountGreaterThan(user, 0L, position, LIKED_SORT, limit);
+
+        List<Argu> argus = window.getContent();
+        String nextCursor = argus.isEmpty() ? null : ArguFeedCursor.encode(LIKED_CURSOR_NAME, LIKED_SORT, argus.get(argus.size() - 1));
+        List<ArguResponse> content = argus.stream()
+                .map(ArguResponse::from)
                 .collect(Collectors.toList());
-        
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allArgus.size());
-        List<ArguResponse> pagedArgus = allArgus.subList(start, end);
-        
-        return new org.springframework.data.domain.PageImpl<>(
-            pagedArgus,
-            pageable,
-            allArgus.size()
-        );
+        return CursorResponse.of(content, window.hasNext(), nextCursor);
     }
 }
-
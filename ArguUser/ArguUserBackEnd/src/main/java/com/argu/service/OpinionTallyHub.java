@@ -0,0 +1,382 @@
+package com.argu.service;
+
+import com.argu.dto.response.OpinionTallyResponse;
+import com.argu.entity.ArguOpinion.OpinionSide;
+import com.argu.exception.ResourceNotFoundException;
+import com.argu.repository.ArguRepository;
+import com.argu.repository.projection.OpinionTally;
+import com.argu.util.TransactionUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 논쟁 입장별 실시간 집계 허브
+ * 구독자가 있는 논쟁만 입장별 개수를 메모리에 보관하고, 변경이 있으면 SSE(Server-Sent Events)로 구독자에게 보냅니다.
+ * - 초기값: argu 테이블의 입장 수 카운터 컬럼 (구독자가 처음 생길 때 1회 조회)
+ * - 입장 선택: 트랜잭션 커밋 후 메모리 카운터만 증가
+ * - 전송: 논쟁마다 최대 push-interval-ms에 한 번, 변경된 논쟁만 JSON을 한 번 만들어 모든 구독자에게 전송 (변경 병합)
+ * - 다른 인스턴스/관리자 변경: 주기적으로 구독 중인 논쟁의 카운터를 한 번에 다시 읽어 보정
+ * 전송은 구독자마다 크기 제한이 있는 전송 스레드 풀에서 하며, 구독자별로 아직 보내지 못한 최신 이벤트 하나만 보관합니다.
+ * 전송이 실패하거나 send-timeout-ms 넘게 밀린 구독자는 연결을 종료하므로, 느린 구독자가 다른 구독자의 전송을 막지 않습니다.
+ */
+@Slf4j
+@Component
+public class OpinionTallyHub {
+    private static final String EVENT_NAME = "tally";           // SSE 이벤트 이름
+    private static final int RESYNC_CHUNK_SIZE = 1000;          // 보정 조회 시 IN 절 최대 ID 수
+
+    private final ArguRepository arguRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();  // 구독 중인 논쟁 (논쟁 ID → 집계/구독자)
+    private final ScheduledExecutorService pushExecutor;        // 변경 확인/하트비트 스케줄 스레드
+    private ExecutorService sendExecutor;                       // 구독자별 전송 스레드 풀 (작업 대기열 크기 제한)
+
+    @Value("${argu.opinion.tally.push-interval-ms:250}")
+    private long pushIntervalMs;                                // 논쟁별 최소 전송 간격 (변경 병합 주기)
+
+    @Value("${argu.opinion.tally.heartbeat-interval-ms:20000}")
+    private long heartbeatIntervalMs;                           // 연결 유지용 주석 이벤트 주기 (프록시 유휴 종료 방지, 끊긴 연결 정리)
+
+    @Value("${argu.opinion.tally.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;                              // SSE 연결 최대 유지 시간 (만료 시 클라이언트가 재연결)
+
+    @Value("${argu.opinion.tally.send-threads:4}")
+    private int sendThreads;                                    // 전송 스레드 수
+
+    @Value("${argu.opinion.tally.send-queue-capacity:10000}")
+    private int sendQueueCapacity;                              // 전송 대기 작업 최대 수 (가득 차면 해당 구독자 연결 종료)
+
+    @Value("${argu.opinion.tally.send-timeout-ms:10000}")
+    private long sendTimeoutMs;                                 // 한 구독자의 전송이 이 시간 넘게 끝나지 않으면 연결 종료
+
+    public OpinionTallyHub(ArguRepository arguRepository, ObjectMapper objectMapper) {
+        this.arguRepository = arguRepository;
+        this.objectMapper = objectMapper;
+        this.pushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "opinion-tally-push");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        sendExecutor = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(sendQueueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "opinion-tally-send-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pushExecutor.scheduleAtFixedRate(this::broadcastChanged, pushIntervalMs, pushIntervalMs, TimeUnit.MILLISECONDS);
+        pushExecutor.scheduleAtFixedRate(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 논쟁 입장별 집계 구독
+     * 연결 직후 현재 집계를 한 번 보내고, 이후 변경될 때마다 tally 이벤트를 보냅니다.
+     *
+     * @param arguId 논쟁 ID
+     * @return SSE 연결
+     * @throws ResourceNotFoundException 논쟁을 찾을 수 없거나 숨김 처리된 경우
+     */
+    public SseEmitter subscribe(Long arguId) {
+        Channel seeded = channels.containsKey(arguId) ? null : load(arguId);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        // 마지막 구독자 제거와 겹치지 않도록 채널 생성/구독자 추가를 compute 안에서 처리
+        Channel channel = channels.compute(arguId, (id, existing) -> {
+            Channel target = existing != null ? existing : (seeded != null ? seeded : load(id));
+            target.subscribers.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(() -> unsubscribe(arguId, subscriber));
+        emitter.onTimeout(() -> unsubscribe(arguId, subscriber));
+        emitter.onError(error -> unsubscribe(arguId, subscriber));
+
+        offer(arguId, subscriber, event(toJson(channel.snapshot(arguId))));
+        return emitter;
+    }
+
+    /**
+     * 논쟁 입장별 집계 조회
+     * 구독 중인 논쟁이면 메모리 값을, 아니면 카운터 컬럼을 조회합니다.
+     *
+     * @param arguId 논쟁 ID
+     * @return 입장별 집계
+     * @throws ResourceNotFoundException 논쟁을 찾을 수 없거나 숨김 처리된 경우
+     */
+    public OpinionTallyResponse getTally(Long arguId) {
+        Channel channel = channels.get(arguId);
+        return (channel != null ? channel : load(arguId)).snapshot(arguId);
+    }
+
+    /**
+     * 입장 선택 반영 (트랜잭션 안이면 커밋 후 반영)
+     * 구독자가 없는 논쟁은 메모리에 올리지 않으며, 다음 구독 시 카운터 컬럼에서 다시 읽습니다.
+     *
+     * @param arguId 논쟁 ID
+     * @param side 선택한 입장
+     */
+    public void increment(Long arguId, OpinionSide side) {
+        TransactionUtil.afterCommit(() -> {
+            Channel channel = channels.get(arguId);
+            if (channel != null) {
+                channel.counts.incrementAndGet(side.ordinal());
+                channel.dirty.set(true);
+            }
+        });
+    }
+
+    /**
+     * 구독 중인 논쟁의 집계 보정
+     * 다른 인스턴스에서 선택된 입장, 관리자 숨김/삭제를 반영하기 위해 카운터 컬럼을 한 번에 다시 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${argu.opinion.tally.resync-interval-ms:5000}")
+    public void resync() {
+        List<Long> ids = new ArrayList<>(channels.keySet());
+        for (int from = 0; from < ids.size(); from += RESYNC_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + RESYNC_CHUNK_SIZE, ids.size()));
+            Set<Long> visible = new HashSet<>();
+            for (OpinionTally row : arguRepository.findOpinionTallies(chunk)) {
+                Channel channel = channels.get(row.getArguId());
+                if (channel == null || Boolean.TRUE.equals(row.getIsHidden())) {
+                    continue;
+                }
+                visible.add(row.getArguId());
+                if (channel.reset(row)) {
+                    channel.dirty.set(true);
+                }
+            }
+            // 숨김/삭제된 논쟁은 구독 종료
+            chunk.stream().filter(id -> !visible.contains(id)).forEach(this::close);
+        }
+    }
+
+    private void broadcastChanged() {
+        channels.forEach((arguId, channel) -> {
+            if (!channel.dirty.getAndSet(false)) {
+                return;
+            }
+            try {
+                // 구독자 수와 관계없이 JSON은 한 번만 만듦
+                String json = toJson(channel.snapshot(arguId));
+                for (Subscriber subscriber : channel.subscribers) {
+                    offer(arguId, subscriber, event(json));
+                }
+            } catch (RuntimeException e) {
+                log.warn("[OPINION-TALLY] 집계 전송 실패 - arguId={}", arguId, e);
+            }
+        });
+    }
+
+    private void heartbeat() {
+        channels.forEach((arguId, channel) -> {
+            for (Subscriber subscriber : channel.subscribers) {
+                // 보낼 집계가 이미 있으면 그 이벤트가 연결 유지 역할을 대신함
+                if (subscriber.pending.compareAndSet(null, SseEmitter.event().comment("ping"))) {
+                    schedule(arguId, subscriber);
+                }
+            }
+        });
+    }
+
+    /**
+     * 구독자에게 보낼 이벤트 등록 (아직 보내지 못한 이전 이벤트는 최신 이벤트로 대체)
+     */
+    private void offer(Long arguId, Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        subscriber.pending.set(event);
+        schedule(arguId, subscriber);
+    }
+
+    private void schedule(Long arguId, Subscriber subscriber) {
+        if (!subscriber.scheduled.compareAndSet(false, true)) {
+            // 이전 전송이 아직 진행 중이면, 너무 오래 걸린 경우에만 연결 종료
+            long sendingSince = subscriber.sendingSince;
+            if (sendingSince != 0 && System.currentTimeMillis() - sendingSince > sendTimeoutMs) {
+                log.debug("[OPINION-TALLY] 전송이 밀린 구독자 연결 종료 - arguId={}", arguId);
+                drop(arguId, subscriber);
+            }
+            return;
+        }
+        try {
+            sendExecutor.execute(() -> drain(arguId, subscriber));
+        } catch (RejectedExecutionException e) {
+            // 전송 대기열이 가득 참
+            subscriber.scheduled.set(false);
+            drop(arguId, subscriber);
+        }
+    }
+
+    private void drain(Long arguId, Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.closed && (event = subscriber.pending.getAndSet(null)) != null) {
+                subscriber.sendingSince = System.currentTimeMillis();
+                subscriber.emitter.send(event);
+                subscriber.sendingSince = 0;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결
+            subscriber.closed = true;
+            unsubscribe(arguId, subscriber);
+        } finally {
+            subscriber.sendingSince = 0;
+            subscriber.scheduled.set(false);
+        }
+
+        if (subscriber.closed) {
+            completeQuietly(subscriber);
+        } else if (subscriber.pending.get() != null) {
+            // 반복을 마친 직후 등록된 이벤트
+            schedule(arguId, subscriber);
+        }
+    }
+
+    /**
+     * 구독자 제거 후 연결 종료
+     * 전송 중인 구독자는 전송 스레드가 전송을 마친 뒤 종료합니다.
+     */
+    private void drop(Long arguId, Subscriber subscriber) {
+        subscriber.closed = true;
+        unsubscribe(arguId, subscriber);
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            completeQuietly(subscriber);
+        }
+    }
+
+    private void completeQuietly(Subscriber subscriber) {
+        try {
+            subscriber.emitter.complete();
+        } catch (RuntimeException e) {
+            log.debug("[OPINION-TALLY] 연결 종료 실패", e);
+        }
+    }
+
+    private void unsubscribe(Long arguId, Subscriber subscriber) {
+        channels.computeIfPresent(arguId, (id, channel) -> {
+            channel.subscribers.remove(subscriber);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    private void close(Long arguId) {
+        Channel channel = channels.remove(arguId);
+        if (channel != null) {
+            channel.subscribers.forEach(subscriber -> drop(arguId, subscriber));
+        }
+    }
+
+    private Channel load(Long arguId) {
+        List<OpinionTally> rows = arguRepository.findOpinionTallies(List.of(arguId));
+        if (rows.isEmpty() || Boolean.TRUE.equals(rows.get(0).getIsHidden())) {
+            throw new ResourceNotFoundException("논쟁을 찾을 수 없습니다");
+        }
+        Channel channel = new Channel();
+        channel.reset(rows.get(0));
+        return channel;
+    }
+
+    private SseEmitter.SseEventBuilder event(String json) {
+        return SseEmitter.event().name(EVENT_NAME).data(json, MediaType.APPLICATION_JSON);
+    }
+
+    private String toJson(OpinionTallyResponse tally) {
+        try {
+            return objectMapper.writeValueAsString(tally);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 종료 시 전송 스레드 정리 및 모든 연결 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        pushExecutor.shutdownNow();
+        sendExecutor.shutdownNow();
+        channels.keySet().forEach(this::close);
+    }
+
+    /**
+     * 논쟁 하나의 집계와 구독자 목록
+     */
+    private static final class Channel {
+        private final AtomicLongArray counts = new AtomicLongArray(OpinionSide.values().length);  // 입장별 개수 (OpinionSide 순서)
+        private final AtomicBoolean dirty = new AtomicBoolean();                                  // 마지막 전송 이후 변경 여부
+        private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();                  // 구독자
+
+        private boolean reset(OpinionTally row) {
+            boolean changed = set(OpinionSide.FOR, row.getForCount());
+            changed |= set(OpinionSide.AGAINST, row.getAgainstCount());
+            changed |= set(OpinionSide.NEUTRAL, row.getNeutralCount());
+            changed |= set(OpinionSide.OTHER, row.getOtherCount());
+            return changed;
+        }
+
+        private boolean set(OpinionSide side, Long value) {
+            long next = value != null ? value : 0L;
+            return counts.getAndSet(side.ordinal(), next) != next;
+        }
+
+        private OpinionTallyResponse snapshot(Long arguId) {
+            long forCount = counts.get(OpinionSide.FOR.ordinal());
+            long againstCount = counts.get(OpinionSide.AGAINST.ordinal());
+            long neutralCount = counts.get(OpinionSide.NEUTRAL.ordinal());
+            long otherCount = counts.get(OpinionSide.OTHER.ordinal());
+            return OpinionTallyResponse.builder()
+                    .arguId(arguId)
+                    .forCount(forCount)
+                    .againstCount(againstCount)
+                    .neutralCount(neutralCount)
+                    .otherCount(otherCount)
+                    .total(forCount + againstCount + neutralCount + otherCount)
+                    .build();
+        }
+    }
+
+    /**
+     * 구독자 하나의 SSE 연결과 전송 상태
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicReference<SseEmitter.SseEventBuilder> pending = new AtomicReference<>();  // 아직 보내지 못한 최신 이벤트
+        private final AtomicBoolean scheduled = new AtomicBoolean();                                   // 전송 작업 등록/진행 여부
+        private volatile long sendingSince;                                                            // 진행 중인 전송 시작 시각 (0이면 전송 중 아님)
+        private volatile boolean closed;                                                               // 연결 종료 여부
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.argu.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 회원별 최근 좋아요 상태 캐시
+ * 목록 화면에서 같은 회원의 좋아요 여부를 반복해서 확인할 때 DB를 다시 조회하지 않도록 (회원, 논쟁)별 좋아요 여부를 보관합니다.
+ * - 회원 수와 회원별 논쟁 수 모두 LRU로 제한
+ * - 이 인스턴스의 좋아요 변경은 커밋 후 바로 반영 (LikeWriter)
+ * - 다른 인스턴스의 변경은 회원별 캐시가 만료(ttl)되면 반영
+ */
+@Component
+public class RecentLikeCache {
+    private final int maxArgusPerUser;                  // 회원별 최대 보관 논쟁 수
+    private final long ttlMs;                           // 회원별 캐시 유지 시간
+    private final LinkedHashMap<Long, UserLikes> users; // 회원 ID -> 좋아요 상태 (접근 순서, this로 동기화)
+
+    public RecentLikeCache(@Value("${argu.like.cache.max-users:10000}") int maxUsers,
+                           @Value("${argu.like.cache.max-argus-per-user:500}") int maxArgusPerUser,
+                           @Value("${argu.like.cache.ttl-ms:60000}") long ttlMs) {
+        this.maxArgusPerUser = maxArgusPerUser;
+        this.ttlMs = ttlMs;
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserLikes> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * 캐시에 있는 좋아요 상태 조회
+     *
+     * @param userId 회원 ID
+     * @param arguIds 논쟁 ID 목록
+     * @return 캐시에 있는 논쟁만 담은 좋아요 여부
+     */
+    public synchronized Map<Long, Boolean> getAll(Long userId, Collection<Long> arguIds) {
+        UserLikes likes = current(userId);
+        Map<Long, Boolean> known = new HashMap<>();
+        if (likes == null) {
+            return known;
+        }
+        for (Long arguId : arguIds) {
+            Boolean liked = likes.get(arguId);
+            if (liked != null) {
+                known.put(arguId, liked);
+            }
+        }
+        return known;
+    }
+
+    /**
+     * DB에서 읽은 좋아요 상태 저장
+     * 읽는 사이에 커밋된 변경이 먼저 저장되었을 수 있으므로 이미 있는 값은 덮어쓰지 않습니다.
+     *
+     * @param userId 회원 ID
+     * @param states 논쟁 ID -> 좋아요 여부
+     */
+    public synchronized void putAllIfAbsent(Long userId, Map<Long, Boolean> states) {
+        UserLikes likes = currentOrCreate(userId);
+        states.forEach(likes::putIfAbsent);
+    }
+
+    /**
+     * 커밋된 좋아요 변경 반영
+     *
+     * @param userId 회원 ID
+     * @param arguId 논쟁 ID
+     * @param liked 좋아요 여부
+     */
+    public synchronized void put(Long userId, Long arguId, boolean liked) {
+        currentOrCreate(userId).put(arguId, liked);
+    }
+
+    private UserLikes current(Long userId) {
+        UserLikes likes = users.get(userId);
+        if (likes != null && System.currentTimeMillis() - likes.createdAt >= ttlMs) {
+            users.remove(userId);
+            return null;
+        }
+        return likes;
+    }
+
+    private UserLikes currentOrCreate(Long userId) {
+        UserLikes likes = current(userId);
+        if (likes == null) {
+            likes = new UserLikes(maxArgusPerUser);
+            users.put(userId, likes);
+        }
+        return likes;
+    }
+
+    /**
+     * 한 회원의 논쟁별 좋아요 여부 (접근 순서 LRU)
+     */
+    private static final class UserLikes extends LinkedHashMap<Long, Boolean> {
+        private final int maxSize;
+        private final long createdAt = System.currentTimeMillis();
+
+        UserLikes(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.argu.service;
+
+import com.argu.entity.SchedulerLease;
+import com.argu.repository.SchedulerLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스케줄러 임대 서비스
+ * scheduler_lease 테이블의 행을 조건부 UPDATE로 갱신하여, 여러 사용자 백엔드 인스턴스 중 한 곳만 주기 작업을 실행하도록 합니다.
+ * 소유자는 매 실행 전에 임대를 연장하고, 연장하지 못한 채 만료되면 다른 인스턴스가 가져갑니다.
+ * 인스턴스 간 시계 오차보다 임대 기간을 충분히 길게 설정해야 합니다.
+ */
+@Slf4j
+@Service
+public class SchedulerLeaseService {
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;      // 호출자 트랜잭션과 분리된 짧은 트랜잭션
+
+    private final String ownerId;                               // 이 인스턴스의 소유자 ID (프로세스명 + 임의값)
+    private final Set<String> heldLeases = ConcurrentHashMap.newKeySet();  // 현재 보유 중인 임대 (종료 시 반납)
+
+    public SchedulerLeaseService(SchedulerLeaseRepository schedulerLeaseRepository,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        this.ownerId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 임대 획득 또는 연장
+     *
+     * @param leaseName 작업 이름
+     * @param duration 임대 기간 (다음 실행 전까지 연장하지 않으면 만료)
+     * @return 이 인스턴스가 임대를 보유하면 true
+     */
+    public boolean tryAcquire(String leaseName, Duration duration) {
+        createIfAbsent(leaseName);
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(status ->
+                schedulerLeaseRepository.tryAcquire(leaseName, ownerId, now, now.plus(duration)));
+        boolean acquired = updated != null && updated > 0;
+        if (acquired && heldLeases.add(leaseName)) {
+            log.info("[SCHEDULER-LEASE] 임대 획득 - lease={}, owner={}", leaseName, ownerId);
+        } else if (!acquired && heldLeases.remove(leaseName)) {
+            log.info("[SCHEDULER-LEASE] 임대 상실 - lease={}, owner={}", leaseName, ownerId);
+        }
+        return acquired;
+    }
+
+    private void createIfAbsent(String leaseName) {
+        if (heldLeases.contains(leaseName) || schedulerLeaseRepository.existsById(leaseName)) {
+            return;
+        }
+        try {
+            // merge가 아닌 persist로 INSERT만 시도 (다른 인스턴스가 먼저 만들었으면 중복 키 오류)
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                entityManager.persist(SchedulerLease.builder()
+                        .leaseName(leaseName)
+                        .ownerId(ownerId)
+                        .leaseUntil(now)
+                        .updatedAt(now)
+                        .build());
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[SCHEDULER-LEASE] 임대 행이 이미 생성됨 - lease={}", leaseName);
+        }
+    }
+
+    /**
+     * 종료 시 보유 중인 임대 반납
+     */
+    @PreDestroy
+    public void releaseAll() {
+        for (String leaseName : heldLeases) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        schedulerLeaseRepository.release(leaseName, ownerId, LocalDateTime.now()));
+            } catch (RuntimeException e) {
+                log.warn("[SCHEDULER-LEASE] 임대 반납 실패 - lease={}", leaseName, e);
+            }
+        }
+        heldLeases.clear();
+    }
+}
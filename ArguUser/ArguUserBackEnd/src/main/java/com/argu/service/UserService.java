@@ -1,15 +1,18 @@
 package com.argu.service;
 
 import com.argu.dto.response.UserResponse;
+import com.argu.entity.SearchIndexQueue.DocType;
 import com.argu.entity.User;
 import com.argu.exception.ResourceNotFoundException;
 import com.argu.repository.ArguOpinionRepository;
 import com.argu.repository.ArguRepository;
 import com.argu.repository.CommentRepository;
-import com.argu.repository.LikeRepository;
 import com.argu.repository.UserRepository;
+import com.argu.repository.projection.UserArguStats;
+import com.argu.search.SearchIndexEvent;
+import com.argu.service.UserStatsCache.UserStats;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,28 +22,32 @@ public class UserService {
     private final UserRepository userRepository;
     private final ArguRepository arguRepository;
     private final CommentRepository commentRepository;
-    private final LikeRepository likeRepository;
+    private final UserStatsCache userStatsCache;
     private final ArguOpinionRepository arguOpinionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional(readOnly = true)
     public UserResponse getUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
         
-        // 통계 정보 계산
-        long arguCount = arguRepository.findByUserAndIsHiddenFalse(user, Pageable.unpaged()).getTotalElements();
-        long commentCount = commentRepository.findByUser(user).size();
+        // 통계 정보 (짧은 시간 캐시)
+        UserStats stats = userStatsCache.get(user.getId(), this::loadStats);
         
-        // 받은 좋아요 수: 사용자가 작성한 논쟁들에 받은 좋아요 총합
-        long likeCount = arguRepository.findByUserAndIsHiddenFalse(user, Pageable.unpaged())
-                .getContent()
-                .stream()
-                .mapToLong(argu -> likeRepository.countByArgu(argu))
-                .sum();
-        
-        // 참여한 논쟁 수: 입장을 선택한 논쟁 수
-        long participatedCount = arguOpinionRepository.findByUser(user).size();
-        
-        return UserResponse.from(user, arguCount, commentCount, likeCount, participatedCount);
+        return UserResponse.from(user, stats.arguCount(), stats.commentCount(), stats.likeCount(), stats.participatedCount());
+    }
+
+    /**
+     * 회원 통계 집계
+     * 목록을 불러와 세지 않고 COUNT/SUM 쿼리 세 번으로 집계합니다.
+     * - 받은 좋아요 수: 공개 논쟁의 좋아요 카운터 합계 (카운터는 ArguCounterRepairService가 주기적으로 보정)
+     * - 참여한 논쟁 수: 입장을 선택한 논쟁 수 (논쟁당 입장은 하나)
+     */
+    private UserStats loadStats(Long userId) {
+        UserArguStats arguStats = arguRepository.sumVisibleStatsByUserId(userId);
+        long commentCount = commentRepository.countByUserId(userId);
+        long participatedCount = arguOpinionRepository.countByUserId(userId);
+        return new UserStats(arguStats.getArguCount(), commentCount, arguStats.getLikeCount(), participatedCount);
     }
 
     @Transactional
@@ -59,9 +66,11 @@ public class UserService {
         }
 
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new SearchIndexEvent(DocType.USER, user.getId()));
         return UserResponse.from(user);
     }
 
+    @Transactional(readOnly = true)
     public User getUserEntity(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
@@ -0,0 +1,68 @@
+package com.argu.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 회원 프로필 통계 캐시
+ * 프로필 화면마다 집계 쿼리를 다시 실행하지 않도록 회원별 통계를 짧은 시간(ttl) 동안 보관합니다.
+ * - 보관 회원 수는 LRU로 제한
+ * - 작성/댓글/좋아요/입장 선택은 캐시를 갱신하지 않으므로 통계는 최대 ttl만큼 늦게 반영
+ */
+@Component
+public class UserStatsCache {
+    private final long ttlMs;                           // 회원별 통계 유지 시간
+    private final LinkedHashMap<Long, Entry> entries;   // 회원 ID -> 통계 (접근 순서, this로 동기화)
+
+    public UserStatsCache(@Value("${argu.user-stats.cache.max-size:10000}") int maxSize,
+                          @Value("${argu.user-stats.cache.ttl-ms:30000}") long ttlMs) {
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 회원 통계 조회
+     * 캐시에 없거나 만료되었으면 loader로 집계한 뒤 저장합니다.
+     * 집계는 잠금 밖에서 실행하므로 같은 회원을 동시에 조회하면 각각 집계할 수 있습니다.
+     *
+     * @param userId 회원 ID
+     * @param loader 회원 ID -> 통계 집계 함수
+     * @return 회원 통계
+     */
+    public UserStats get(Long userId, Function<Long, UserStats> loader) {
+        synchronized (this) {
+            Entry entry = entries.get(userId);
+            if (entry != null && System.currentTimeMillis() - entry.loadedAt < ttlMs) {
+                return entry.stats;
+            }
+        }
+        UserStats stats = loader.apply(userId);
+        synchronized (this) {
+            entries.put(userId, new Entry(stats, System.currentTimeMillis()));
+        }
+        return stats;
+    }
+
+    /**
+     * 회원 프로필 통계
+     *
+     * @param arguCount 작성한 공개 논쟁 수
+     * @param commentCount 작성한 댓글 수
+     * @param likeCount 작성한 공개 논쟁이 받은 좋아요 수
+     * @param participatedCount 입장을 선택한 논쟁 수
+     */
+    public record UserStats(long arguCount, long commentCount, long likeCount, long participatedCount) {
+    }
+
+    private record Entry(UserStats stats, long loadedAt) {
+    }
+}
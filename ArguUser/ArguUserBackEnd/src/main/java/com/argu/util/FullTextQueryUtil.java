@@ -0,0 +1,42 @@
+package com.argu.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT 검색식 생성 유틸리티
+ * 사용자가 입력한 검색어를 BOOLEAN MODE 검색식으로 변환합니다.
+ * 검색어에 포함된 연산자 문자는 제거하고, 공백으로 구분된 각 단어를 필수(+) 구문("...")으로 감싸
+ * ngram 파서에서 LIKE '%단어%'와 비슷한 결과가 나오도록 합니다.
+ */
+public final class FullTextQueryUtil {
+    private static final int MAX_TERMS = 10;                     // 검색식에 포함할 최대 단어 수
+    private static final String OPERATOR_CHARS = "[+\\-<>()~*\"@]"; // BOOLEAN MODE 연산자 문자
+
+    private FullTextQueryUtil() {
+    }
+
+    /**
+     * 검색어를 BOOLEAN MODE 검색식으로 변환
+     *
+     * @param keyword 사용자 입력 검색어
+     * @return 검색식 (예: +"논쟁" +"주제"), 사용할 수 있는 단어가 없으면 null
+     */
+    public static String toBooleanModeQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String word : keyword.trim().split("\\s+")) {
+            String term = word.replaceAll(OPERATOR_CHARS, "");
+            if (!term.isEmpty()) {
+                terms.add("+\"" + term + "\"");
+            }
+            if (terms.size() == MAX_TERMS) {
+                break;
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+}
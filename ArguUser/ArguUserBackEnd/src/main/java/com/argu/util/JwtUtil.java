@@ -1,10 +1,13 @@
 package com.argu.util;
 
 import com.argu.config.JwtProperties;
+import com.argu.entity.User;
+import com.argu.security.AuthUser;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -14,20 +17,23 @@ import java.util.Date;
 /**
  * JWT (JSON Web Token) 유틸리티 클래스
  * JWT 토큰의 생성, 검증, 파싱 기능을 제공합니다.
+ * 서명 키와 파서는 시작 시 한 번만 만들어 재사용하고(둘 다 불변, 스레드 안전),
+ * 토큰은 {@link #parseClaims(String)}로 한 번만 검증하며 최근 검증한 토큰은 {@link VerifiedTokenCache}에서 바로 꺼냅니다.
  */
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
-    private final JwtProperties jwtProperties;  // JWT 설정 속성 (시크릿 키, 만료 시간 등)
+    private final JwtProperties jwtProperties;          // JWT 설정 속성 (시크릿 키, 만료 시간 등)
+    private final SecretKey signingKey;                 // 서명 키
+    private final JwtParser parser;                     // 서명/만료 검증 파서
+    private final VerifiedTokenCache verifiedTokens;    // 최근 검증한 토큰의 클레임
 
-    /**
-     * JWT 서명에 사용할 비밀 키 생성
-     * 
-     * @return SecretKey 인스턴스
-     */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtUtil(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)                 // 서명 키로 검증
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(jwtProperties.getVerifiedCacheSize());
     }
 
     /**
@@ -35,34 +41,77 @@ public class JwtUtil {
      * 
      * @param userId 사용자 ID
      * @param email 사용자 이메일
+     * @param status 사용자 상태
      * @return 생성된 JWT 토큰 문자열
      */
-    public String generateToken(Long userId, String email) {
+    public String generateToken(Long userId, String email, User.UserStatus status) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getExpiration());
 
         return Jwts.builder()
                 .subject(String.valueOf(userId))        // 토큰 주제 (사용자 ID)
                 .claim("email", email)                  // 커스텀 클레임 (사용자 이메일)
+                .claim("status", status.name())         // 커스텀 클레임 (발급 시점의 사용자 상태)
                 .issuedAt(now)                          // 발행 시간
                 .expiration(expiryDate)                 // 만료 시간
-                .signWith(getSigningKey())              // 서명 키
+                .signWith(signingKey)                   // 서명 키
                 .compact();                             // 토큰 문자열 생성
     }
 
+    /**
+     * JWT 토큰 검증 및 클레임 추출
+     * 서명과 만료를 한 번만 검증하며, 최근 검증한 토큰이면 파싱과 서명 검증 없이 캐시된 클레임을 반환합니다.
+     *
+     * @param token JWT 토큰 문자열
+     * @return 검증된 클레임 (토큰이 유효하지 않으면 null)
+     */
+    public Claims parseClaims(String token) {
+        Claims cached = verifiedTokens.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(token, claims);
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;                                // 파싱 실패 시 유효하지 않은 토큰
+        }
+    }
+
+    /**
+     * JWT 토큰으로 인증 사용자 생성
+     * 서명과 만료가 검증된 클레임만 사용하며 DB를 조회하지 않습니다.
+     * 상태 클레임이 없는 이전 토큰은 활성 상태로 보고, 정지/탈퇴 여부는 호출하는 쪽에서 확인합니다.
+     *
+     * @param token JWT 토큰 문자열
+     * @return 인증 사용자 (토큰이 유효하지 않으면 null)
+     */
+    public AuthUser getAuthUser(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        try {
+            String status = claims.get("status", String.class);
+            return new AuthUser(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    status != null ? User.UserStatus.valueOf(status) : User.UserStatus.ACTIVE);
+        } catch (RuntimeException e) {
+            return null;                                // 클레임 형식이 맞지 않는 토큰
+        }
+    }
+
     /**
      * JWT 토큰에서 사용자 ID 추출
      * 
      * @param token JWT 토큰 문자열
      * @return 사용자 ID
+     * @throws JwtException 토큰이 유효하지 않은 경우
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())            // 서명 키로 검증
-                .build()
-                .parseSignedClaims(token)               // 서명된 클레임 파싱
-                .getPayload();                          // 페이로드 추출
-        return Long.parseLong(claims.getSubject());     // 주제(사용자 ID) 반환
+        return Long.parseLong(requireClaims(token).getSubject());     // 주제(사용자 ID) 반환
     }
 
     /**
@@ -70,14 +119,10 @@ public class JwtUtil {
      * 
      * @param token JWT 토큰 문자열
      * @return 사용자 이메일
+     * @throws JwtException 토큰이 유효하지 않은 경우
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())            // 서명 키로 검증
-                .build()
-                .parseSignedClaims(token)               // 서명된 클레임 파싱
-                .getPayload();                          // 페이로드 추출
-        return claims.get("email", String.class);      // 사용자 이메일 클레임 반환
+        return requireClaims(token).get("email", String.class);      // 사용자 이메일 클레임 반환
     }
 
     /**
@@ -87,15 +132,14 @@ public class JwtUtil {
      * @return 토큰이 유효하면 true, 그렇지 않으면 false
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())        // 서명 키로 검증
-                    .build()
-                    .parseSignedClaims(token);          // 토큰 파싱 시도
-            return true;                                // 파싱 성공 시 유효한 토큰
-        } catch (Exception e) {
-            return false;                               // 파싱 실패 시 유효하지 않은 토큰
+        return parseClaims(token) != null;
+    }
+
+    private Claims requireClaims(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            throw new JwtException("유효하지 않은 토큰입니다");
         }
+        return claims;
     }
 }
-
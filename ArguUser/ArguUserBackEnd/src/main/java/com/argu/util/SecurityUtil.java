@@ -2,10 +2,10 @@ package com.argu.util;
 
 import com.argu.entity.User;
 import com.argu.repository.UserRepository;
+import com.argu.security.AuthUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -19,11 +19,9 @@ public class SecurityUtil {
             return null;
         }
 
-        Object principal = authentication.getPrincipal();
-        if (principal instanceof UserDetails userDetails) {
-            User user = userRepository.findByEmail(userDetails.getUsername())
-                    .orElse(null);
-            return user != null ? user.getId() : null;
+        // JWT 필터가 토큰 클레임으로 만든 principal이므로 DB 조회 없이 ID를 꺼냄
+        if (authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.userId();
         }
 
         return null;
@@ -37,4 +35,3 @@ public class SecurityUtil {
         return userRepository.findById(userId).orElse(null);
     }
 }
-
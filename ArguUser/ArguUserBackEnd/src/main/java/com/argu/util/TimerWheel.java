@@ -0,0 +1,184 @@
+package com.argu.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시 타이머 휠
+ * 예약 작업을 (만료 tick % 슬롯 수) 슬롯에 넣어 두고, 전용 스레드가 tick마다 현재 슬롯만 확인하여 만료된 작업을 실행합니다.
+ * 예약/취소는 O(1)이며, 예약된 작업 수와 관계없이 tick마다 한 슬롯만 확인하므로 전체 목록을 주기적으로 조회(polling)하지 않습니다.
+ * 실행 시각의 오차는 최대 tick 간격입니다.
+ * 같은 키로 다시 예약하면 이전 예약은 취소됩니다.
+ *
+ * @param <K> 예약 키 타입
+ */
+@Slf4j
+public class TimerWheel<K> {
+    private final long tickNanos;                                   // tick 간격 (나노초)
+    private final int mask;                                         // 슬롯 인덱스 마스크 (슬롯 수 - 1)
+    private final List<List<Timeout>> slots;                        // 슬롯별 예약 목록 (휠 스레드만 접근)
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();  // 다음 tick에 슬롯으로 옮길 예약
+    private final Map<K, Timeout> byKey = new ConcurrentHashMap<>();      // 키별 현재 예약
+    private final Executor executor;                                // 만료된 작업 실행기 (휠 스레드를 막지 않도록 분리)
+    private final Thread worker;
+
+    private final long startNanos;                                  // 휠 기준 시각 (System.nanoTime 기준, tick 0의 시작)
+    private volatile boolean running;
+
+    /**
+     * @param name 휠 스레드 이름
+     * @param tickMillis tick 간격 (밀리초)
+     * @param slotCount 슬롯 수 (2의 거듭제곱으로 올림)
+     * @param executor 만료된 작업 실행기
+     */
+    public TimerWheel(String name, long tickMillis, int slotCount, Executor executor) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        int size = Integer.highestOneBit(Math.max(1, slotCount - 1)) << 1;
+        this.mask = size - 1;
+        this.slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.executor = executor;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * 휠 스레드 시작
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker.start();
+    }
+
+    /**
+     * 휠 스레드 종료 (실행 대기 중인 예약은 버림)
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /**
+     * 작업 예약
+     * 같은 키에 같은 시각으로 이미 예약되어 있으면 그대로 두고, 다른 시각이면 이전 예약을 취소하고 다시 예약합니다.
+     *
+     * @param key 예약 키
+     * @param deadlineMillis 실행 시각 (epoch 밀리초, 지난 시각이면 다음 tick에 실행)
+     * @param task 실행할 작업
+     */
+    public void schedule(K key, long deadlineMillis, Runnable task) {
+        Timeout existing = byKey.get(key);
+        if (existing != null && !existing.cancelled && existing.deadlineMillis == deadlineMillis) {
+            return;
+        }
+        long deadlineNanos = System.nanoTime() - startNanos
+                + TimeUnit.MILLISECONDS.toNanos(deadlineMillis - System.currentTimeMillis());
+        Timeout timeout = new Timeout(key, deadlineMillis, deadlineNanos, task);
+        Timeout previous = byKey.put(key, timeout);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        pending.add(timeout);
+    }
+
+    /**
+     * 예약 취소
+     *
+     * @param key 예약 키
+     */
+    public void cancel(K key) {
+        Timeout previous = byKey.remove(key);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+    }
+
+    /**
+     * 현재 예약된 작업 수
+     */
+    public int size() {
+        return byKey.size();
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long sleepNanos = startNanos + (tick + 1) * tickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            transferPending(tick);
+            expire(slots.get((int) (tick & mask)));
+            tick++;
+        }
+    }
+
+    private void transferPending(long tick) {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            // 이미 지난 시각은 현재 tick 슬롯에 넣어 바로 실행
+            long expiryTick = Math.max(timeout.deadlineNanos / tickNanos, tick);
+            timeout.remainingRounds = (expiryTick - tick) / slots.size();
+            slots.get((int) (expiryTick & mask)).add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> slot) {
+        Iterator<Timeout> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                byKey.remove(timeout.key, timeout);
+                try {
+                    executor.execute(timeout.task);
+                } catch (RuntimeException e) {
+                    log.warn("[TIMER-WHEEL] 예약 작업 실행 실패 - key={}", timeout.key, e);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    private final class Timeout {
+        private final K key;
+        private final long deadlineMillis;
+        private final long deadlineNanos;                           // 휠 시작 시각 기준 실행 시각
+        private final Runnable task;
+        private volatile boolean cancelled;
+        private long remainingRounds;                               // 슬롯을 몇 바퀴 더 돌아야 하는지 (휠 스레드만 접근)
+
+        private Timeout(K key, long deadlineMillis, long deadlineNanos, Runnable task) {
+            this.key = key;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineNanos = deadlineNanos;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.argu.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 유틸리티
+ * 메모리 캐시 갱신처럼 DB 변경이 확정된 뒤에만 실행해야 하는 작업을 등록합니다.
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 작업 실행
+     * 트랜잭션 밖에서 호출되면 바로 실행하고, 롤백되면 실행하지 않습니다.
+     *
+     * @param action 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
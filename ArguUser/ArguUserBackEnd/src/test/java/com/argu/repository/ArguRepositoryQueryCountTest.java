@@ -0,0 +1,147 @@
+package com.argu.repository;
+
+import com.argu.dto.response.ArguResponse;
+import com.argu.entity.Argu;
+import com.argu.entity.Category;
+import com.argu.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * 논쟁 목록 조회 쿼리 수 테스트
+ * 목록을 조회한 뒤 ArguResponse로 변환해도 작성자/카테고리 지연 로딩 쿼리가 추가로 실행되지 않는지
+ * Hibernate 통계(실행된 SQL 문 수)로 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class ArguRepositoryQueryCountTest {
+    private static final int USER_COUNT = 5;        // 작성자/카테고리가 모두 다른 논쟁 수
+    private static final int PAGE_SIZE = 3;         // 전체 개수보다 작게 하여 COUNT 쿼리도 실행되게 함
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ArguRepository arguRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User author;                            // 논쟁을 여러 개 작성한 회원
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = persistUser(i);
+            Category category = entityManager.persist(Category.builder().name("category" + i).build());
+            persistArgu(user, category, i);
+            if (author == null) {
+                author = user;
+            }
+        }
+        // 회원별 목록도 한 페이지보다 많도록 같은 회원의 논쟁 추가
+        Category category = entityManager.persist(Category.builder().name("extra").build());
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            persistArgu(author, category, USER_COUNT + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findByIsHiddenFalse_pageRunsSelectAndCountOnly() {
+        Page<Argu> page = arguRepository.findByIsHiddenFalse(
+                PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")));
+        List<ArguResponse> responses = toResponses(page.getContent());
+
+        assertEquals(PAGE_SIZE, responses.size());
+        assertEquals(2, statistics.getPrepareStatementCount());   // 목록 + COUNT
+    }
+
+    @Test
+    void findByIsHiddenFalse_windowRunsSingleSelect() {
+        Window<Argu> window = arguRepository.findByIsHiddenFalse(ScrollPosition.keyset(),
+                Sort.by(Sort.Direction.DESC, "createdAt", "id"), Limit.of(PAGE_SIZE));
+        List<ArguResponse> responses = toResponses(window.getContent());
+
+        assertEquals(PAGE_SIZE, responses.size());
+        assertEquals(1, statistics.getPrepareStatementCount());   // 목록만 (COUNT 없음)
+    }
+
+    @Test
+    void searchByFilters_pageRunsSelectAndCountOnly() {
+        Page<Argu> page = arguRepository.searchByFilters(null, null, PageRequest.of(0, PAGE_SIZE));
+        List<ArguResponse> responses = toResponses(page.getContent());
+
+        assertEquals(PAGE_SIZE, responses.size());
+        assertEquals(USER_COUNT + PAGE_SIZE, page.getTotalElements());
+        assertEquals(2, statistics.getPrepareStatementCount());   // 목록 + COUNT
+    }
+
+    @Test
+    void findByUserAndIsHiddenFalse_pageRunsSelectAndCountOnly() {
+        Page<Argu> page = arguRepository.findByUserAndIsHiddenFalse(author, PageRequest.of(0, PAGE_SIZE));
+        List<ArguResponse> responses = toResponses(page.getContent());
+
+        assertEquals(PAGE_SIZE, responses.size());
+        assertEquals(PAGE_SIZE + 1, page.getTotalElements());
+        assertEquals(2, statistics.getPrepareStatementCount());   // 목록 + COUNT
+    }
+
+    // 응답 변환 (작성자 닉네임, 카테고리 이름 접근)
+    private List<ArguResponse> toResponses(List<Argu> argus) {
+        List<ArguResponse> responses = argus.stream()
+                .map(ArguResponse::from)
+                .collect(Collectors.toList());
+        responses.forEach(response -> {
+            assertNotNull(response.getNickname());
+            assertNotNull(response.getCategoryName());
+        });
+        return responses;
+    }
+
+    private User persistUser(int index) {
+        return entityManager.persist(User.builder()
+                .email("user" + index + "@argu.com")
+                .password("password")
+                .nickname("user" + index)
+                .build());
+    }
+
+    private void persistArgu(User user, Category category, int index) {
+        entityManager.persist(Argu.builder()
+                .user(user)
+                .category(category)
+                .title("title" + index)
+                .content("content" + index)
+                .startDate(LocalDateTime.now())
+                .endDate(LocalDateTime.now().plusDays(1))
+                .build());
+    }
+}
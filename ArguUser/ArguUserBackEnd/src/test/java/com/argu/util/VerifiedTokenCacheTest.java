@@ -0,0 +1,131 @@
+package com.argu.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 검증된 토큰 캐시 테스트
+ * 최대 보관 수를 넘으면 오래 쓰지 않은 토큰부터 버리고, 만료 시각이 지난 클레임은 돌려주지 않는지 확인합니다.
+ */
+class VerifiedTokenCacheTest {
+    private static final int SEGMENT_COUNT = 16;    // VerifiedTokenCache의 구간 수
+
+    @Test
+    void get_returnsStoredClaimsBeforeExpiration() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(64);
+        Claims claims = claimsExpiringIn(60_000);
+
+        cache.put("token", claims);
+
+        assertSame(claims, cache.get("token"));
+    }
+
+    @Test
+    void get_neverReturnsClaimsAfterExpiration() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(64);
+
+        cache.put("expired", claimsExpiringIn(-1_000));
+        cache.put("now", claimsExpiringIn(0));
+
+        assertNull(cache.get("expired"));
+        assertNull(cache.get("now"));
+    }
+
+    @Test
+    void get_dropsClaimsOnceExpirationPasses() throws InterruptedException {
+        // JWT 만료 시각은 초 단위이므로 다음 초 경계 이후로 잡음
+        long expiresAt = (System.currentTimeMillis() / 1_000 + 2) * 1_000;
+        VerifiedTokenCache cache = new VerifiedTokenCache(64);
+        cache.put("token", Jwts.claims().subject("1").expiration(new Date(expiresAt)).build());
+        assertNotNull(cache.get("token"));
+
+        Thread.sleep(expiresAt - System.currentTimeMillis() + 50);
+
+        assertNull(cache.get("token"));
+    }
+
+    @Test
+    void put_skipsClaimsWithoutExpiration() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(64);
+
+        cache.put("token", Jwts.claims().subject("1").build());
+
+        assertNull(cache.get("token"));
+    }
+
+    @Test
+    void put_keepsAtMostMaxSizeTokens() {
+        int maxSize = 32;
+        VerifiedTokenCache cache = new VerifiedTokenCache(maxSize);
+        Claims claims = claimsExpiringIn(60_000);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            String token = "token" + i;
+            tokens.add(token);
+            cache.put(token, claims);
+        }
+
+        long cached = tokens.stream().filter(token -> cache.get(token) != null).count();
+
+        assertTrue(cached <= maxSize, "cached=" + cached);
+        assertNotNull(cache.get(tokens.get(tokens.size() - 1)));   // 마지막에 넣은 토큰은 남아 있음
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsedTokenAtCapacity() {
+        // 구간당 2개씩 보관
+        VerifiedTokenCache cache = new VerifiedTokenCache(SEGMENT_COUNT * 2);
+        List<String> tokens = tokensInSameSegment(3);
+        Claims claims = claimsExpiringIn(60_000);
+
+        cache.put(tokens.get(0), claims);
+        cache.put(tokens.get(1), claims);
+        cache.get(tokens.get(0));                   // 첫 번째 토큰을 최근 사용으로 갱신
+        cache.put(tokens.get(2), claims);           // 구간이 가득 차 가장 오래 쓰지 않은 토큰을 버림
+
+        assertNotNull(cache.get(tokens.get(0)));
+        assertNull(cache.get(tokens.get(1)));
+        assertNotNull(cache.get(tokens.get(2)));
+    }
+
+    @Test
+    void cacheDisabledWhenMaxSizeIsZero() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+
+        cache.put("token", claimsExpiringIn(60_000));
+
+        assertNull(cache.get("token"));
+    }
+
+    private Claims claimsExpiringIn(long millis) {
+        return Jwts.claims()
+                .subject("1")
+                .expiration(new Date(System.currentTimeMillis() + millis))
+                .build();
+    }
+
+    // 같은 구간에 들어가는 토큰 (VerifiedTokenCache와 같은 방식으로 구간 선택)
+    private List<String> tokensInSameSegment(int count) {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; tokens.size() < count; i++) {
+            String token = "token" + i;
+            int hash = token.hashCode();
+            if (((hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)) == 0) {
+                tokens.add(token);
+            }
+        }
+        assertEquals(count, tokens.size());
+        return tokens;
+    }
+}
@@ -71,12 +71,15 @@ const ArguDetailPage = () => {
       ])
 
       // ApiResponse 구조에서 data 추출
-      setArgu(arguResponse.data || arguResponse)
+      const arguData = arguResponse.data || arguResponse
+      setArgu(arguData)
       setComments((commentsResponse.data || commentsResponse)?.content || [])
-      setOpinions((opinionsResponse.data || opinionsResponse) || [])
+      setOpinions((opinionsResponse.data || opinionsResponse)?.content || [])
 
-      // 로그인한 경우 좋아요 여부 확인
-      if (isAuthenticated) {
+      // 로그인한 경우 좋아요 여부 확인 (논쟁 응답에 포함되어 있으면 추가 요청 없이 사용)
+      if (isAuthenticated && typeof arguData?.liked === 'boolean') {
+        setIsLiked(arguData.liked)
+      } else if (isAuthenticated) {
         try {
           const liked = await likeService.isLiked(id)
           setIsLiked(liked)
@@ -109,8 +112,9 @@ const ArguDetailPage = () => {
     }
 
     try {
-      await likeService.toggleLike(id)
-      setIsLiked(!isLiked)
+      // 현재 상태 기준으로 추가/취소를 명시적으로 요청 (연타해도 서버 상태가 뒤집히지 않음)
+      const liked = isLiked ? await likeService.unlike(id) : await likeService.like(id)
+      setIsLiked(liked)
       // 좋아요 수 업데이트를 위해 데이터 다시 가져오기
       fetchData()
     } catch (error) {
@@ -218,8 +222,9 @@ const ArguDetailPage = () => {
   const canEdit = isOwner && argu.status === 'SCHEDULED'
   const canVote = argu.status === 'ACTIVE' && isAuthenticated
 
-  const forCount = opinions.filter((o) => o.side === 'FOR').length
-  const againstCount = opinions.filter((o) => o.side === 'AGAINST').length
+  // 입장 수는 논쟁의 집계 값 사용 (의견 목록은 한 페이지만 조회)
+  const forCount = argu.forCount || 0
+  const againstCount = argu.againstCount || 0
   const totalCount = forCount + againstCount
   const forPercent = totalCount > 0 ? Math.round((forCount / totalCount) * 100) : 0
   const againstPercent = totalCount > 0 ? Math.round((againstCount / totalCount) * 100) : 0
@@ -47,6 +47,23 @@ export const arguService = {
     return response.data
   },
 
+  /**
+   * 여러 논쟁의 내 상태 일괄 조회
+   * 
+   * 카드마다 좋아요 여부를 따로 묻지 않고, 화면에 보이는 논쟁들의 좋아요/북마크/입장 여부를 한 번에 가져옵니다.
+   * 인증이 필요합니다.
+   * 
+   * @param {number[]} ids - 논쟁 ID 목록 (최대 100개)
+   * @returns {Promise<Object>} ApiResponse 구조의 응답 데이터
+   * @returns {Array} response.data - { arguId, liked, bookmarked, mySide } 목록
+   */
+  async getMyStates(ids) {
+    const response = await api.get('/argu/states', {
+      params: { ids: ids.join(',') },
+    })
+    return response.data
+  },
+
   /**
    * 논쟁 생성
    * 
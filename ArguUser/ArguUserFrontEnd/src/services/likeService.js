@@ -4,6 +4,7 @@
  * 논쟁 좋아요 관련 API 호출을 담당하는 서비스입니다.
  * 
  * 주요 기능:
+ * - 논쟁 좋아요 추가/취소 (멱등)
  * - 논쟁 좋아요 토글 (좋아요 추가/제거)
  * - 논쟁 좋아요 여부 확인
  */
@@ -11,6 +12,32 @@
 import api from './api'
 
 export const likeService = {
+  /**
+   * 좋아요 추가
+   * 
+   * 이미 좋아요를 누른 상태면 아무것도 바뀌지 않으므로, 연타나 재시도에도 안전합니다. 인증이 필요합니다.
+   * 
+   * @param {number} arguId - 논쟁 ID
+   * @returns {Promise<boolean>} 처리 후 좋아요 여부 (true)
+   */
+  async like(arguId) {
+    const response = await api.put(`/likes/argu/${arguId}`)
+    return response.data
+  },
+
+  /**
+   * 좋아요 취소
+   * 
+   * 좋아요를 누르지 않은 상태면 아무것도 바뀌지 않으므로, 연타나 재시도에도 안전합니다. 인증이 필요합니다.
+   * 
+   * @param {number} arguId - 논쟁 ID
+   * @returns {Promise<boolean>} 처리 후 좋아요 여부 (false)
+   */
+  async unlike(arguId) {
+    const response = await api.delete(`/likes/argu/${arguId}`)
+    return response.data
+  },
+
   /**
    * 좋아요 토글
    * 
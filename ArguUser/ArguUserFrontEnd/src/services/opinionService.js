@@ -29,16 +29,21 @@ export const opinionService = {
   },
 
   /**
-   * 논쟁별 의견 목록 조회
+   * 논쟁별 의견 목록 조회 (최신순 커서 페이징)
    * 
-   * 특정 논쟁의 모든 의견(찬성/반대) 목록을 가져옵니다.
+   * 특정 논쟁의 의견 목록을 한 페이지씩 가져옵니다.
+   * 다음 페이지는 응답의 nextCursor를 cursor로 전달하여 조회합니다.
    * 
    * @param {number} arguId - 논쟁 ID
+   * @param {Object} params - 조회 옵션
+   * @param {string} [params.side] - 입장 필터 (FOR, AGAINST, NEUTRAL, OTHER)
+   * @param {string} [params.cursor] - 이전 페이지의 nextCursor
+   * @param {number} [params.size] - 페이지 크기 (기본 20, 최대 100)
    * @returns {Promise<Object>} ApiResponse 구조의 응답 데이터
-   * @returns {Array} response.data - OpinionResponse[] (의견 목록)
+   * @returns {Object} response.data - CursorResponse (content: OpinionResponse[], hasNext, nextCursor)
    */
-  async getOpinionsByArgu(arguId) {
-    const response = await api.get(`/opinions/argu/${arguId}`)
+  async getOpinionsByArgu(arguId, params = {}) {
+    const response = await api.get(`/opinions/argu/${arguId}`, { params })
     return response.data
   },
 }